@@ -0,0 +1,68 @@
+package com.org.healthscore.adapter;
+
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SignalAdapterService#normalizeToCountable} for the two inputs a countable signal can
+ * come from: a list with one entry per issue ({@code list}, issue search) or a pre-aggregated
+ * category map with the same totals ({@code map}, facets).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CountableNormalizationBenchmark {
+    
+    private static final List<String> SEVERITIES = List.of("BLOCKER", "CRITICAL", "MAJOR", "MINOR", "INFO");
+    private static final Map<String, String> SEVERITY_MAPPINGS = Map.of(
+            "BLOCKER", "CRITICAL", "CRITICAL", "CRITICAL", "MAJOR", "HIGH", "MINOR", "MEDIUM", "INFO", "LOW");
+    
+    @Param({"list", "map"})
+    String shape;
+    
+    @Param({"100", "10000", "1000000"})
+    int issues;
+    
+    private final SignalAdapterService adapter = new SignalAdapterService(null,
+            new PipelineMetrics(new SimpleMeterRegistry(), new InMemoryScoringConfigStore(), Duration.ZERO));
+    private Object value;
+    
+    @Setup
+    public void setUp() {
+        List<String> severities = new ArrayList<>(issues);
+        Map<String, Object> counts = new HashMap<>();
+        for (int i = 0; i < issues; i++) {
+            String severity = SEVERITIES.get(i % SEVERITIES.size());
+            severities.add(severity);
+            counts.merge(severity, 1, (a, b) -> (Integer) a + (Integer) b);
+        }
+        value = "list".equals(shape) ? severities : counts;
+    }
+    
+    @Benchmark
+    public Map<String, Integer> normalizeToCountable() {
+        return adapter.normalizeToCountable(value, SEVERITY_MAPPINGS);
+    }
+}
@@ -0,0 +1,109 @@
+package com.org.healthscore.adapter;
+
+import com.org.healthscore.domain.CanonicalForm;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SignalAdapterService#adaptToSignals} and {@link SignalAdapterService#extractValue} with
+ * {@code definitions} signal definitions for one source, against a parsed payload shaped like
+ * {@link com.org.healthscore.parser.SonarQubeParser} output.
+ * 
+ * Definitions are mostly scalar ({@code metrics.<key>}), one in ten is a two-level nested path
+ * and one in ten is a countable severity list of 1,000 issues with category mappings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignalAdapterBenchmark {
+    
+    private static final List<String> SEVERITIES = List.of("BLOCKER", "CRITICAL", "MAJOR", "MINOR", "INFO");
+    private static final Map<String, String> SEVERITY_MAPPINGS = Map.of(
+            "BLOCKER", "CRITICAL", "CRITICAL", "CRITICAL", "MAJOR", "HIGH", "MINOR", "MEDIUM", "INFO", "LOW");
+    
+    @Param({"5", "50", "500"})
+    int definitions;
+    
+    private SignalAdapterService adapter;
+    private Map<String, Object> rawData;
+    private List<String> paths;
+    
+    @Setup
+    public void setUp() {
+        InMemoryScoringConfigStore configStore = new InMemoryScoringConfigStore();
+        adapter = new SignalAdapterService(configStore, new PipelineMetrics(new SimpleMeterRegistry(), configStore, Duration.ZERO));
+        
+        Map<String, Object> metrics = new HashMap<>();
+        Map<String, Object> nested = new HashMap<>();
+        List<String> severities = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            severities.add(SEVERITIES.get(i % SEVERITIES.size()));
+        }
+        rawData = new HashMap<>();
+        rawData.put("metrics", metrics);
+        rawData.put("quality", Map.of("gate", nested));
+        rawData.put("issues_severities", severities);
+        rawData.put("issues_total", severities.size());
+        
+        paths = new ArrayList<>();
+        for (int i = 0; i < definitions; i++) {
+            AdapterSignalDefinitionDocument definition = new AdapterSignalDefinitionDocument();
+            definition.setSourceType("benchmark");
+            definition.setMetricKey("metric_" + i);
+            definition.setEnabled(true);
+            if (i % 10 == 0) {
+                definition.setCanonicalForm(CanonicalForm.COUNTABLE_CATEGORY.name());
+                definition.setExtractionPath("issues_severities");
+                definition.setCategoryMappings(SEVERITY_MAPPINGS);
+            } else if (i % 10 == 1) {
+                nested.put("condition_" + i, String.valueOf(i % 100));
+                definition.setCanonicalForm(CanonicalForm.SCALAR.name());
+                definition.setExtractionPath("quality.gate.condition_" + i);
+            } else {
+                // Measures arrive as strings from SonarQube
+                metrics.put("m_" + i, String.valueOf(i % 100 + 0.5));
+                definition.setCanonicalForm(CanonicalForm.SCALAR.name());
+                definition.setExtractionPath("metrics.m_" + i);
+            }
+            configStore.saveSignalDefinition(definition);
+            paths.add(definition.getExtractionPath());
+        }
+    }
+    
+    @Benchmark
+    public List<Signal> adaptToSignals() {
+        return adapter.adaptToSignals("benchmark", "source", "project", "benchmark", rawData);
+    }
+    
+    @Benchmark
+    public void extractValue(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(adapter.extractValue(rawData, path));
+        }
+    }
+}
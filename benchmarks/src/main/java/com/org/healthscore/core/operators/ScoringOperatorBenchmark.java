@@ -0,0 +1,114 @@
+package com.org.healthscore.core.operators;
+
+import com.org.healthscore.domain.CanonicalForm;
+import com.org.healthscore.domain.Signal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ScoringOperator#compute} per operator, with parameters shaped as they come out of
+ * MongoDB (maps of boxed Double/Integer/String values, lists of threshold maps).
+ * 
+ * {@code size} is the number of thresholds, weighted categories or enum mappings. The scored
+ * value matches the last threshold, so threshold scoring scans the whole list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringOperatorBenchmark {
+    
+    @Param({"4", "32", "256"})
+    int size;
+    
+    private final ThresholdScoreOperator thresholdScore = new ThresholdScoreOperator();
+    private final WeightedCategorySumOperator weightedCategorySum = new WeightedCategorySumOperator();
+    private final BooleanPenaltyOperator booleanPenalty = new BooleanPenaltyOperator();
+    private final EnumMappingOperator enumMapping = new EnumMappingOperator();
+    
+    private Signal scalarSignal;
+    private Map<String, Object> thresholdParameters;
+    private Signal countableSignal;
+    private Map<String, Object> weightParameters;
+    private Signal booleanSignal;
+    private Map<String, Object> booleanParameters;
+    private Signal enumSignal;
+    private Map<String, Object> enumParameters;
+    
+    @Setup
+    public void setUp() {
+        // Contiguous bands over [0, 100], highest first like the documented examples
+        double band = 100.0 / size;
+        List<Map<String, Object>> thresholds = new ArrayList<>();
+        for (int i = size - 1; i >= 0; i--) {
+            Map<String, Object> threshold = new LinkedHashMap<>();
+            threshold.put("min", i * band);
+            threshold.put("max", i == size - 1 ? 100.0 : (i + 1) * band - 0.01);
+            threshold.put("score", (int) Math.round(i * band));
+            thresholds.add(threshold);
+        }
+        thresholdParameters = new LinkedHashMap<>(Map.of("thresholds", thresholds, "defaultScore", 0));
+        scalarSignal = signal(CanonicalForm.SCALAR).scalarValue(BigDecimal.valueOf(band / 2)).build();
+        
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Map<String, Object> weights = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            counts.put("CATEGORY_" + i, i % 17);
+            weights.put("CATEGORY_" + i, -(i % 5) - 0.5);
+        }
+        weightParameters = new LinkedHashMap<>(Map.of("weights", weights, "baseScore", 100, "minScore", 0));
+        countableSignal = signal(CanonicalForm.COUNTABLE_CATEGORY).countableValue(counts).build();
+        
+        booleanParameters = new LinkedHashMap<>(Map.of("trueScore", 100, "falseScore", 0));
+        booleanSignal = signal(CanonicalForm.BOOLEAN).booleanValue(true).build();
+        
+        Map<String, Object> mapping = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            mapping.put("LEVEL_" + i, 100 - (100 * i / size));
+        }
+        enumParameters = new LinkedHashMap<>(Map.of("mapping", mapping, "defaultScore", 50));
+        enumSignal = signal(CanonicalForm.ENUM).enumValue("LEVEL_" + (size - 1)).build();
+    }
+    
+    @Benchmark
+    public BigDecimal thresholdScore() {
+        return thresholdScore.compute(scalarSignal, thresholdParameters);
+    }
+    
+    @Benchmark
+    public BigDecimal weightedCategorySum() {
+        return weightedCategorySum.compute(countableSignal, weightParameters);
+    }
+    
+    @Benchmark
+    public BigDecimal booleanPenalty() {
+        return booleanPenalty.compute(booleanSignal, booleanParameters);
+    }
+    
+    @Benchmark
+    public BigDecimal enumMapping() {
+        return enumMapping.compute(enumSignal, enumParameters);
+    }
+    
+    private static Signal.SignalBuilder signal(CanonicalForm form) {
+        return Signal.builder().metricKey("benchmark_" + form.name().toLowerCase()).canonicalForm(form);
+    }
+}
@@ -0,0 +1,209 @@
+package com.org.healthscore.core.scoring;
+
+import com.org.healthscore.core.operators.BooleanPenaltyOperator;
+import com.org.healthscore.core.operators.EnumMappingOperator;
+import com.org.healthscore.core.operators.OperatorRegistry;
+import com.org.healthscore.core.operators.ThresholdScoreOperator;
+import com.org.healthscore.core.operators.WeightedCategorySumOperator;
+import com.org.healthscore.domain.CanonicalForm;
+import com.org.healthscore.domain.HealthScore;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.observability.ScoringStats;
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.ScoreDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link SignalScoringService#scoreSignals} and {@link HealthScoreEngine#computeHealthScore} for
+ * one entity with {@code signals} signals spread over {@code dimensions} dimensions.
+ * 
+ * Signals cycle through the four canonical forms with realistic rule shapes (8 thresholds,
+ * 16 weighted categories, 5 enum levels). Rules come from the in-memory config store; computed
+ * scores are discarded so the benchmark measures scoring, not storage growth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringEngineBenchmark {
+    
+    private static final int THRESHOLDS = 8;
+    private static final int CATEGORIES = 16;
+    private static final List<String> LEVELS = List.of("LOW", "MEDIUM", "HIGH", "CRITICAL", "BLOCKER");
+    
+    @Param({"10", "100", "1000"})
+    int signals;
+    
+    @Param({"5"})
+    int dimensions;
+    
+    private SignalScoringService scoringService;
+    private HealthScoreEngine engine;
+    private List<Signal> signalList;
+    
+    @Setup
+    public void setUp() {
+        InMemoryScoringConfigStore configStore = new InMemoryScoringConfigStore();
+        OperatorRegistry registry = new OperatorRegistry(List.of(new ThresholdScoreOperator(),
+                new WeightedCategorySumOperator(), new BooleanPenaltyOperator(), new EnumMappingOperator()));
+        registry.init();
+        scoringService = new SignalScoringService(registry, configStore, new ScoringStats(new SimpleMeterRegistry(), 500));
+        engine = new HealthScoreEngine(scoringService, configStore, new DiscardingScoreStore(),
+                new PipelineMetrics(new SimpleMeterRegistry(), configStore, Duration.ZERO));
+        
+        for (int d = 0; d < dimensions; d++) {
+            DebtDimensionWeightDocument weight = new DebtDimensionWeightDocument();
+            weight.setEntityType("project");
+            weight.setDimension("dimension_" + d);
+            weight.setWeight(1.0 + d);
+            weight.setDisplayOrder(d);
+            configStore.saveDimensionWeight(weight);
+        }
+        
+        signalList = new ArrayList<>();
+        for (int i = 0; i < signals; i++) {
+            CanonicalForm form = CanonicalForm.values()[i % CanonicalForm.values().length];
+            String metricKey = "metric_" + i;
+            configStore.saveScoringRule(rule(metricKey, form, "dimension_" + i % dimensions));
+            signalList.add(signal(metricKey, form, i));
+        }
+    }
+    
+    @Benchmark
+    public List<SignalScoreResult> scoreSignals() {
+        return scoringService.scoreSignals(signalList);
+    }
+    
+    @Benchmark
+    public HealthScore computeHealthScore() {
+        return engine.computeHealthScore("project", "benchmark", signalList);
+    }
+    
+    private static SignalScoringRuleDocument rule(String metricKey, CanonicalForm form, String dimension) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        switch (form) {
+            case SCALAR -> {
+                List<Map<String, Object>> thresholds = new ArrayList<>();
+                double band = 100.0 / THRESHOLDS;
+                for (int t = THRESHOLDS - 1; t >= 0; t--) {
+                    thresholds.add(new LinkedHashMap<>(Map.of("min", t * band, "max",
+                            t == THRESHOLDS - 1 ? 100.0 : (t + 1) * band - 0.01, "score", (int) (t * band))));
+                }
+                parameters.put("thresholds", thresholds);
+            }
+            case COUNTABLE_CATEGORY -> {
+                Map<String, Object> weights = new LinkedHashMap<>();
+                for (int c = 0; c < CATEGORIES; c++) {
+                    weights.put("CATEGORY_" + c, -(c % 5) - 0.5);
+                }
+                parameters.put("weights", weights);
+                parameters.put("baseScore", 100);
+            }
+            case BOOLEAN -> {
+                parameters.put("trueScore", 100);
+                parameters.put("falseScore", 0);
+            }
+            case ENUM -> {
+                Map<String, Object> mapping = new LinkedHashMap<>();
+                for (int l = 0; l < LEVELS.size(); l++) {
+                    mapping.put(LEVELS.get(l), 100 - 25 * l);
+                }
+                parameters.put("mapping", mapping);
+            }
+        }
+        
+        SignalScoringRuleDocument rule = new SignalScoringRuleDocument();
+        rule.setMetricKey(metricKey);
+        rule.setRequiredCanonicalForm(form.name());
+        rule.setOperator(switch (form) {
+            case SCALAR -> ThresholdScoreOperator.OPERATOR_ID;
+            case COUNTABLE_CATEGORY -> WeightedCategorySumOperator.OPERATOR_ID;
+            case BOOLEAN -> BooleanPenaltyOperator.OPERATOR_ID;
+            case ENUM -> EnumMappingOperator.OPERATOR_ID;
+        });
+        rule.setParameters(parameters);
+        rule.setWeight(0.5 + (metricKey.hashCode() & 3));
+        rule.setDimension(dimension);
+        rule.setEnabled(true);
+        return rule;
+    }
+    
+    private static Signal signal(String metricKey, CanonicalForm form, int seed) {
+        Signal.SignalBuilder builder = Signal.builder()
+                .id("signal-" + seed)
+                .sourceType("benchmark")
+                .metricKey(metricKey)
+                .canonicalForm(form)
+                .timestamp(Instant.EPOCH);
+        return switch (form) {
+            case SCALAR -> builder.scalarValue(BigDecimal.valueOf(seed % 1000 / 10.0)).build();
+            case COUNTABLE_CATEGORY -> {
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (int c = 0; c < CATEGORIES; c++) {
+                    counts.put("CATEGORY_" + c, (seed + c) % 13);
+                }
+                yield builder.countableValue(counts).build();
+            }
+            case BOOLEAN -> builder.booleanValue(seed % 2 == 0).build();
+            case ENUM -> builder.enumValue(LEVELS.get(seed % LEVELS.size())).build();
+        };
+    }
+    
+    /**
+     * Accepts and drops scores, so repeated computation does not grow the heap.
+     */
+    private static final class DiscardingScoreStore implements ScoreStore {
+        
+        @Override
+        public void save(ScoreDocument score) {
+        }
+        
+        @Override
+        public void saveAll(List<ScoreDocument> scores) {
+        }
+        
+        @Override
+        public Optional<ScoreDocument> findById(String id) {
+            return Optional.empty();
+        }
+        
+        @Override
+        public Optional<ScoreVersion> findLatestVersion(String entityType, String entityId) {
+            return Optional.empty();
+        }
+        
+        @Override
+        public Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf) {
+            return Stream.empty();
+        }
+    }
+}
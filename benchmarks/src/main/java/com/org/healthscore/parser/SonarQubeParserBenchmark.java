@@ -0,0 +1,101 @@
+package com.org.healthscore.parser;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SonarQubeParser#parse} for an {@code /api/issues/search} response of {@code payloadKb}
+ * kilobytes (about 600 bytes per issue, shaped like real SonarQube issues).
+ * 
+ * {@code parseJson} includes Jackson deserialization of the body, {@code parseTree} starts from
+ * the already deserialized map, so the difference is the cost of the JSON tree itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SonarQubeParserBenchmark {
+    
+    private static final List<String> SEVERITIES = List.of("BLOCKER", "CRITICAL", "MAJOR", "MINOR", "INFO");
+    
+    @Param({"1", "64", "1024", "51200"})
+    int payloadKb;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SonarQubeParser parser = new SonarQubeParser(objectMapper);
+    
+    private String json;
+    private Map<String, Object> tree;
+    
+    @Setup
+    public void setUp() throws Exception {
+        long targetBytes = payloadKb * 1024L;
+        List<Map<String, Object>> issues = new ArrayList<>();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paging", Map.of("pageIndex", 1, "pageSize", 500, "total", 0));
+        body.put("issues", issues);
+        
+        // Grow in steps, measuring the serialized size, until the target is reached
+        long estimate = objectMapper.writeValueAsBytes(body).length;
+        while (estimate < targetBytes) {
+            Map<String, Object> issue = issue(issues.size());
+            estimate += objectMapper.writeValueAsBytes(issue).length + 1;
+            issues.add(issue);
+        }
+        
+        json = objectMapper.writeValueAsString(body);
+        tree = objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+    }
+    
+    @Benchmark
+    public Map<String, Object> parseJson() {
+        return parser.parse(json);
+    }
+    
+    @Benchmark
+    public Map<String, Object> parseTree() {
+        return parser.parse(tree);
+    }
+    
+    private static Map<String, Object> issue(int index) {
+        Map<String, Object> issue = new LinkedHashMap<>();
+        issue.put("key", "AX" + Integer.toHexString(index * 7919) + "-issue-" + index);
+        issue.put("rule", "java:S" + (100 + index % 900));
+        issue.put("severity", SEVERITIES.get(index % SEVERITIES.size()));
+        issue.put("component", "my-project:src/main/java/com/example/Module" + (index % 250) + ".java");
+        issue.put("project", "my-project");
+        issue.put("line", 1 + index % 400);
+        issue.put("textRange", Map.of("startLine", 1 + index % 400, "endLine", 1 + index % 400,
+                "startOffset", 4, "endOffset", 32));
+        issue.put("status", "OPEN");
+        issue.put("message", "Refactor this method to reduce its Cognitive Complexity from "
+                + (16 + index % 30) + " to the 15 allowed.");
+        issue.put("effort", (5 + index % 55) + "min");
+        issue.put("debt", (5 + index % 55) + "min");
+        issue.put("author", "dev" + (index % 40) + "@example.com");
+        issue.put("tags", List.of("brain-overload"));
+        issue.put("type", "CODE_SMELL");
+        issue.put("creationDate", "2024-03-01T10:15:30+0000");
+        issue.put("updateDate", "2024-03-02T08:00:00+0000");
+        return issue;
+    }
+}
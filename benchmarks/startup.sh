@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+#
+# Startup-time benchmark: time from process start until the liveness and readiness probes
+# answer 200, for each available build of the application. Run from the repository root
+# after building the variants to compare:
+#
+#   mvn package -DskipTests                      -> jvm     (target/healthscore-platform-*.jar)
+#   mvn -Pcds package -DskipTests                -> cds     (target/cds/, AOT + CDS archive)
+#   mvn -Pnative native:compile -DskipTests      -> native  (target/healthscore)
+#
+#   benchmarks/startup.sh [runs]
+#
+# Readiness includes the startup warm-up, so it needs MongoDB (or SPRING_PROFILES_ACTIVE=memory
+# for builds that were not AOT-processed). Other environment: JAVA (default: java), PORT (18080),
+# TIMEOUT (seconds a run may take to become ready, default 120). A variant that exits or times
+# out is reported as failed, with its log in target/startup-<variant>.log, and the script exits 1.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+JAVA="${JAVA:-java}"
+PORT="${PORT:-18080}"
+TIMEOUT="${TIMEOUT:-120}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+APP_ARGS=(--server.port="$PORT" --management.server.port=0)
+
+now_ms() {
+    date +%s%3N
+}
+
+# Waits until url answers 200; fails if the process exits first or the deadline (epoch ms) passes
+wait_for() {
+    local url="$1" pid="$2" deadline="$3"
+    until curl -sf -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2> /dev/null || (($(now_ms) > deadline)); then
+            return 1
+        fi
+        sleep 0.02
+    done
+}
+
+fail() {
+    local name="$1" pid="$2" run="$3" reason="exited"
+    if kill -0 "$pid" 2> /dev/null; then
+        reason="not ready after ${TIMEOUT}s"
+        kill "$pid"
+    fi
+    wait "$pid" 2> /dev/null || true
+    printf "%-8s FAILED on run %d (%s), see %s\n" "$name" "$run" "$reason" "$TARGET/startup-$name.log"
+}
+
+measure() {
+    local name="$1"
+    shift
+    local live_total=0 ready_total=0
+    for ((run = 1; run <= RUNS; run++)); do
+        local started
+        started=$(now_ms)
+        "$@" "${APP_ARGS[@]}" > "$TARGET/startup-$name.log" 2>&1 &
+        local pid=$!
+        local deadline=$((started + TIMEOUT * 1000))
+        if ! wait_for "http://localhost:$PORT/livez" "$pid" "$deadline"; then
+            fail "$name" "$pid" "$run"
+            return 1
+        fi
+        local live=$(($(now_ms) - started))
+        if ! wait_for "http://localhost:$PORT/readyz" "$pid" "$deadline"; then
+            fail "$name" "$pid" "$run"
+            return 1
+        fi
+        local ready=$(($(now_ms) - started))
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        live_total=$((live_total + live))
+        ready_total=$((ready_total + ready))
+    done
+    printf "%-8s %12d %12d\n" "$name" $((live_total / RUNS)) $((ready_total / RUNS))
+}
+
+printf "%-8s %12s %12s   (mean of %d runs)\n" "variant" "live (ms)" "ready (ms)" "$RUNS"
+
+failed=0
+JAR=$(ls "$TARGET"/healthscore-platform-*.jar 2> /dev/null | grep -v -- '-classes.jar' | head -n 1 || true)
+if [[ -n "$JAR" ]]; then
+    measure jvm "$JAVA" -jar "$JAR" || failed=1
+fi
+
+if [[ -f "$TARGET/cds/application.jsa" ]]; then
+    CDS_JAR=$(ls "$TARGET"/cds/healthscore-platform-*.jar | head -n 1)
+    (cd "$TARGET/cds" && measure cds "$JAVA" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+        -jar "$CDS_JAR") || failed=1
+fi
+
+if [[ -x "$TARGET/healthscore" ]]; then
+    measure native "$TARGET/healthscore" || failed=1
+fi
+
+exit "$failed"
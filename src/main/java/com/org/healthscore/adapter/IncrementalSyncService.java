@@ -0,0 +1,104 @@
+package com.org.healthscore.adapter;
+
+import com.org.healthscore.repository.ToolSyncStateStore;
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Maintains COUNTABLE_CATEGORY counts across syncs by applying issue deltas
+ * to the previous state, instead of recounting the full issue set.
+ * 
+ * Input is the parser's change list (key, severity, resolved, updatedAt); output is
+ * the same issues_severities / issues_total structure a full fetch produces, with
+ * severities already counted (the adapter accepts pre-aggregated maps).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalSyncService {
+    
+    private final ToolSyncStateStore syncStateStore;
+    
+    public Optional<ToolSyncStateDocument> findState(String sourceType, String componentKey) {
+        return syncStateStore.find(sourceType, componentKey);
+    }
+    
+    /**
+     * Apply changed issues to the previous state (or build a baseline without one) and persist it.
+     * 
+     * Re-delivered changes are harmless: each one upserts or removes its issue, and the counts
+     * are regrouped from the stored open issues. The state, and with it the watermark, is written
+     * last, so a sync that fails halfway is re-applied from the old watermark next time.
+     */
+    public ToolSyncStateDocument apply(String sourceType, String componentKey, ToolSyncStateDocument previous,
+                                       String analysisDate, List<Map<String, Object>> changes) {
+        // Later changes to the same issue win
+        Map<String, String> open = new HashMap<>();
+        Set<String> resolved = new HashSet<>();
+        Instant watermark = previous != null ? previous.getWatermark() : null;
+        
+        for (Map<String, Object> change : changes) {
+            String key = (String) change.get("key");
+            if (key == null) {
+                continue;
+            }
+            
+            String category = (String) change.get("severity");
+            if (!Boolean.TRUE.equals(change.get("resolved")) && category != null) {
+                open.put(key, category);
+                resolved.remove(key);
+            } else {
+                open.remove(key);
+                resolved.add(key);
+            }
+            
+            Instant updatedAt = (Instant) change.get("updatedAt");
+            if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark))) {
+                watermark = updatedAt;
+            }
+        }
+        
+        if (previous == null) {
+            syncStateStore.clearOpenIssues(sourceType, componentKey);
+        }
+        syncStateStore.saveOpenIssues(sourceType, componentKey, open, resolved);
+        Map<String, Integer> counts = syncStateStore.countOpenIssues(sourceType, componentKey);
+        
+        ToolSyncStateDocument state = new ToolSyncStateDocument();
+        state.setSourceType(sourceType);
+        state.setComponentKey(componentKey);
+        state.setLastAnalysisDate(analysisDate);
+        state.setWatermark(watermark);
+        state.setCategoryCounts(counts);
+        state.setSyncedAt(Instant.now());
+        syncStateStore.save(state);
+        
+        log.debug("Applied {} issue changes for {}/{}, {} open issues", 
+                changes.size(), sourceType, componentKey, openCount(state));
+        return state;
+    }
+    
+    /**
+     * The state's counts in the parser's normalized structure, ready for the adapter.
+     */
+    public Map<String, Object> toParsedData(ToolSyncStateDocument state) {
+        Map<String, Object> parsed = new HashMap<>();
+        parsed.put("issues_severities", new HashMap<>(state.getCategoryCounts()));
+        parsed.put("issues_total", openCount(state));
+        return parsed;
+    }
+    
+    private static int openCount(ToolSyncStateDocument state) {
+        return state.getCategoryCounts().values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
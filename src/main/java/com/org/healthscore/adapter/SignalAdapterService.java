@@ -2,8 +2,10 @@ package com.org.healthscore.adapter;
 
 import com.org.healthscore.domain.CanonicalForm;
 import com.org.healthscore.domain.Signal;
-import com.org.healthscore.repository.mongo.AdapterSignalDefinitionDocument;
-import com.org.healthscore.repository.mongo.AdapterSignalDefinitionRepository;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.observability.jfr.AdapterEvent;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,7 +26,8 @@ import java.util.*;
 @RequiredArgsConstructor
 public class SignalAdapterService {
     
-    private final AdapterSignalDefinitionRepository definitionRepository;
+    private final ScoringConfigStore configStore;
+    private final PipelineMetrics pipelineMetrics;
     
     /**
      * Adapt raw tool data into canonical signals.
@@ -42,25 +45,32 @@ public class SignalAdapterService {
         List<Signal> signals = new ArrayList<>();
         
         // Get all active signal definitions for this source
-        List<AdapterSignalDefinitionDocument> definitions = 
-                definitionRepository.findBySourceTypeAndEnabled(sourceType, true);
+        List<AdapterSignalDefinitionDocument> definitions = configStore.findSignalDefinitions(sourceType);
         
         if (definitions.isEmpty()) {
             log.warn("No signal definitions found for source type: {}", sourceType);
             return signals;
         }
         
-        for (AdapterSignalDefinitionDocument definition : definitions) {
-            try {
-                Signal signal = adaptSignal(definition, sourceId, entityType, entityId, rawData);
-                if (signal != null && signal.isValid()) {
-                    signals.add(signal);
+        AdapterEvent event = new AdapterEvent();
+        event.start();
+        // Only configured source types reach the metrics, so the sourceType tag stays bounded
+        pipelineMetrics.timeSource("adapt", sourceType, () -> {
+            for (AdapterSignalDefinitionDocument definition : definitions) {
+                try {
+                    Signal signal = adaptSignal(definition, sourceId, entityType, entityId, rawData);
+                    if (signal != null && signal.isValid()) {
+                        signals.add(signal);
+                    }
+                } catch (Exception e) {
+                    log.error("Error adapting signal {} from {}: {}", 
+                            definition.getMetricKey(), sourceType, e.getMessage(), e);
                 }
-            } catch (Exception e) {
-                log.error("Error adapting signal {} from {}: {}", 
-                        definition.getMetricKey(), sourceType, e.getMessage(), e);
             }
-        }
+            return signals;
+        });
+        pipelineMetrics.signals(sourceType, signals.size(), definitions.size() - signals.size());
+        event.finish(entityType, entityId, sourceType, signals.size());
         
         return signals;
     }
@@ -103,8 +113,10 @@ public class SignalAdapterService {
     /**
      * Extract value from raw data using a simple path expression.
      * Supports dot notation for nested access (e.g., "metrics.coverage")
+     * 
+     * Package-private, like {@link #normalizeToCountable}, for the adapter benchmarks.
      */
-    private Object extractValue(Map<String, Object> data, String path) {
+    Object extractValue(Map<String, Object> data, String path) {
         if (path == null || path.isBlank()) {
             return null;
         }
@@ -126,11 +138,11 @@ public class SignalAdapterService {
     }
     
     @SuppressWarnings("unchecked")
-    private Map<String, Integer> normalizeToCountable(Object value, Map<String, String> mappings) {
+    Map<String, Integer> normalizeToCountable(Object value, Map<String, String> mappings) {
         Map<String, Integer> result = new HashMap<>();
         
         if (value instanceof Map) {
-            // Handle pre-aggregated map (legacy support)
+            // Handle pre-aggregated map (facet counts, legacy support)
             Map<String, Object> map = (Map<String, Object>) value;
             for (Map.Entry<String, Object> entry : map.entrySet()) {
                 String key = entry.getKey();
@@ -138,8 +150,9 @@ public class SignalAdapterService {
                 if (mappings != null && mappings.containsKey(key)) {
                     key = mappings.get(key);
                 }
+                // Merge, so several source categories mapped to one target add up as they do for lists
                 if (entry.getValue() instanceof Number) {
-                    result.put(key, ((Number) entry.getValue()).intValue());
+                    result.merge(key, ((Number) entry.getValue()).intValue(), Integer::sum);
                 }
             }
         } else if (value instanceof List) {
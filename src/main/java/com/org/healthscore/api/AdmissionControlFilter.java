@@ -0,0 +1,166 @@
+package com.org.healthscore.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Sheds compute and integrate requests (blocking and reactive API) beyond an adaptive
+ * concurrency limit, so a burst of them cannot saturate MongoDB for everyone else.
+ * 
+ * Each endpoint has a {@link GradientLimiter}; a request over it is answered 503 with
+ * Retry-After before any work is done. Requests marked batch in
+ * {@code healthscore.admission.priority-header} only get {@code batch-share} of the limit,
+ * leaving the rest to interactive callers. Reads and all other endpoints are not limited.
+ * A slot is held until the response completes, including async (reactive) responses.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@ConditionalOnProperty(prefix = "healthscore.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    
+    static final String LIMIT = "healthscore.admission.limit";
+    static final String IN_FLIGHT = "healthscore.admission.in_flight";
+    static final String REJECTED = "healthscore.admission.rejected";
+    static final String BATCH = "batch";
+    static final String INTERACTIVE = "interactive";
+    
+    private static final Map<String, Pattern> ENDPOINTS = Map.of(
+            "compute", Pattern.compile("/api(/reactive)?/v1/scores/[^/]+/[^/]+/compute"),
+            "integrate", Pattern.compile("/api(/reactive)?/v1/tools/integrate"));
+    private static final UrlPathHelper PATHS = new UrlPathHelper();
+    private static final byte[] SHED_BODY =
+            "{\"status\":\"error\",\"message\":\"Too many concurrent requests, retry later\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+    
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GradientLimiter> limiters;
+    
+    public AdmissionControlFilter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.limiters = Map.of(
+                "compute", limiter("compute"),
+                "integrate", limiter("integrate"));
+    }
+    
+    private GradientLimiter limiter(String endpoint) {
+        GradientLimiter limiter = new GradientLimiter(properties.getInitialLimit(), properties.getMinLimit(),
+                properties.getMaxLimit(), properties.getTolerance(), properties.getSmoothing());
+        Gauge.builder(LIMIT, limiter, GradientLimiter::limit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT, limiter, GradientLimiter::inFlight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return limiter;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return endpoint(request) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String endpoint = endpoint(request);
+        GradientLimiter limiter = limiters.get(endpoint);
+        String priority = BATCH.equalsIgnoreCase(request.getHeader(properties.getPriorityHeader()))
+                ? BATCH : INTERACTIVE;
+        
+        if (!limiter.tryAcquire(BATCH.equals(priority) ? properties.getBatchShare() : 1.0)) {
+            Counter.builder(REJECTED)
+                    .tags("endpoint", endpoint, "priority", priority)
+                    .register(meterRegistry)
+                    .increment();
+            shed(response);
+            return;
+        }
+        
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release(limiter, released, start, response.getStatus() >= 500);
+                    }
+                    
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        release(limiter, released, start, true);
+                    }
+                    
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        release(limiter, released, start, true);
+                    }
+                    
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                release(limiter, released, start, response.getStatus() >= 500);
+            }
+        }
+    }
+    
+    /**
+     * Server errors and async timeouts count as drops: they cut the limit instead of sampling latency.
+     */
+    private static void release(GradientLimiter limiter, AtomicBoolean released, long start, boolean dropped) {
+        if (released.compareAndSet(false, true)) {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+    
+    private void shed(HttpServletResponse response) throws IOException {
+        long retryAfter = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(SHED_BODY.length);
+        response.getOutputStream().write(SHED_BODY);
+    }
+    
+    private static String endpoint(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return null;
+        }
+        // Decoded and without ;parameters, as the dispatcher matches it
+        String path = PATHS.getPathWithinApplication(request);
+        for (Map.Entry<String, Pattern> endpoint : ENDPOINTS.entrySet()) {
+            if (endpoint.getValue().matcher(path).matches()) {
+                return endpoint.getKey();
+            }
+        }
+        return null;
+    }
+}
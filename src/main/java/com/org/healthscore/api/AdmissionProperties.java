@@ -0,0 +1,51 @@
+package com.org.healthscore.api;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission control for the compute and integrate endpoints ({@code healthscore.admission.*}).
+ * 
+ * Each endpoint has its own adaptive concurrency limit; requests over it are answered 503
+ * immediately. Reads are never limited.
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.admission")
+public class AdmissionProperties {
+    
+    private boolean enabled = true;
+    
+    private int initialLimit = 20;
+    
+    private int minLimit = 4;
+    
+    private int maxLimit = 200;
+    
+    /**
+     * How far recent latency may rise above the long-term baseline before the limit shrinks
+     * (1.5 = 50% slower).
+     */
+    private double tolerance = 1.5;
+    
+    /**
+     * Weight of each new limit estimate (0..1]; lower reacts slower but steadier.
+     */
+    private double smoothing = 0.2;
+    
+    /**
+     * Request header naming the priority class: "interactive" (default) or "batch".
+     */
+    private String priorityHeader = "X-Request-Priority";
+    
+    /**
+     * Share of each limit batch requests may occupy, so interactive callers always find room.
+     */
+    private double batchShare = 0.5;
+    
+    /**
+     * Sent as Retry-After (whole seconds) with shed requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,63 @@
+package com.org.healthscore.api;
+
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.SignalVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Builds strong ETags and Cache-Control hints for score and signal resources.
+ * 
+ * ETags are derived from revision identifiers only, so a conditional GET can be
+ * answered from a projection query without loading or serializing the resource.
+ */
+@Component
+public class ConditionalRequestSupport {
+    
+    private final CacheControl cacheControl;
+    
+    public ConditionalRequestSupport(
+            @Value("${healthscore.api.cache.max-age:PT0S}") Duration maxAge) {
+        this.cacheControl = maxAge.isZero()
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+    
+    /**
+     * ETag for a computed score - a score id is never reused, computedAt guards against rewrites.
+     */
+    public String scoreETag(ScoreVersion version) {
+        return scoreETag(version.getId(), version.getComputedAt());
+    }
+    
+    public String scoreETag(String scoreId, Instant computedAt) {
+        return quote("s-" + scoreId + "-" + toMillis(computedAt));
+    }
+    
+    /**
+     * ETag for the signal set of an entity.
+     * Signals are append-only, so count plus the latest signal identifies the set.
+     */
+    public String signalSetETag(long count, SignalVersion latest) {
+        if (count == 0 || latest == null) {
+            return quote("g-0");
+        }
+        return quote("g-" + count + "-" + latest.getId() + "-" + toMillis(latest.getTimestamp()));
+    }
+    
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+    
+    private long toMillis(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : 0L;
+    }
+    
+    private String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
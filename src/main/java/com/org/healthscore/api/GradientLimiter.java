@@ -0,0 +1,104 @@
+package com.org.healthscore.api;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latency-gradient concurrency limit.
+ * 
+ * Keeps a short-term (last ~10 calls) and a long-term (last ~500 calls) average latency. While
+ * the short-term average stays within {@code tolerance} of the long-term one the limit grows by
+ * about sqrt(limit) per call; as it rises further the limit shrinks in proportion, down to half
+ * per call. A failed or timed-out call cuts the limit by {@code DROP_FACTOR}, since an
+ * overloaded backend shows up as errors before it shows up as latency. Callers over the limit
+ * are refused, never queued.
+ */
+class GradientLimiter {
+    
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 500;
+    private static final double DROP_FACTOR = 0.9;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int min;
+    private final int max;
+    private final double tolerance;
+    private final double smoothing;
+    private double limit;
+    private int inFlight;
+    private double shortRtt;
+    private double longRtt;
+    
+    GradientLimiter(int initial, int min, int max, double tolerance, double smoothing) {
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.tolerance = Math.max(1, tolerance);
+        this.smoothing = Math.clamp(smoothing, 0.01, 1);
+        this.limit = Math.clamp(initial, this.min, this.max);
+    }
+    
+    /**
+     * Take a slot if fewer than {@code share} of the limit are in use.
+     */
+    boolean tryAcquire(double share) {
+        lock.lock();
+        try {
+            if (inFlight >= Math.max(1, (int) (limit * share))) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Return a slot. The latency of a call that completed normally updates the limit; a dropped
+     * call (server error or timeout) shrinks it without skewing the latency averages.
+     */
+    void release(long latencyNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int busy = inFlight--;
+            if (dropped) {
+                limit = Math.max(min, limit * DROP_FACTOR);
+                return;
+            }
+            
+            shortRtt = shortRtt == 0 ? latencyNanos : shortRtt + (latencyNanos - shortRtt) / SHORT_WINDOW;
+            longRtt = longRtt == 0 ? latencyNanos : longRtt + (latencyNanos - longRtt) / LONG_WINDOW;
+            // After a lasting improvement the baseline catches up quickly instead of over 500 calls
+            if (longRtt > 2 * shortRtt) {
+                longRtt *= 0.95;
+            }
+            
+            double gradient = Math.clamp(tolerance * longRtt / shortRtt, 0.5, 1.0);
+            // Far below the limit latency says nothing about more load; do not grow
+            if (gradient == 1.0 && busy < limit / 2) {
+                return;
+            }
+            double estimate = limit * gradient + Math.sqrt(limit);
+            limit = Math.clamp(limit * (1 - smoothing) + estimate * smoothing, min, max);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,27 +1,45 @@
 package com.org.healthscore.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.org.healthscore.adapter.SignalAdapterService;
 import com.org.healthscore.core.debt.DebtService;
 import com.org.healthscore.core.scoring.HealthScoreEngine;
 import com.org.healthscore.domain.DebtContribution;
 import com.org.healthscore.domain.HealthScore;
 import com.org.healthscore.domain.Signal;
-import com.org.healthscore.parser.SonarApiClient;
-import com.org.healthscore.parser.SonarQubeParser;
-import com.org.healthscore.repository.mongo.ScoreDocument;
-import com.org.healthscore.repository.mongo.ScoreRepository;
-import com.org.healthscore.repository.mongo.SignalDocument;
-import com.org.healthscore.repository.mongo.SignalRepository;
+import com.org.healthscore.integration.ActivityTracker;
+import com.org.healthscore.integration.ToolIntegrationService;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.observability.jfr.DebtComputationEvent;
+import com.org.healthscore.observability.jfr.IngestEvent;
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.SignalCursor;
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.SignalVersion;
+import com.org.healthscore.repository.model.SignalDocument;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * REST API for the Health Score platform.
@@ -32,23 +50,31 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HealthScoreController {
     
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 5000;
+    
     private final SignalAdapterService adapterService;
     private final HealthScoreEngine healthScoreEngine;
     private final DebtService debtService;
-    private final SignalRepository signalRepository;
-    private final ScoreRepository scoreRepository;
-    
-    // Tool integrations
-    private final SonarApiClient sonarApiClient;
-    private final SonarQubeParser sonarQubeParser;
+    private final SignalStore signalStore;
+    private final ScoreStore scoreStore;
+    private final ConditionalRequestSupport conditionalRequests;
+    private final ObjectMapper objectMapper;
+    private final ToolIntegrationService toolIntegrationService;
+    private final ActivityTracker activityTracker;
+    private final PipelineMetrics pipelineMetrics;
     
     /**
      * Ingest signal data from an external tool.
      */
     @PostMapping("/signals")
-    public ResponseEntity<Map<String, Object>> ingestSignals(@Valid @RequestBody SignalIngestionRequest request) {
+    public ResponseEntity<Map<String, Object>> ingestSignals(@Valid @RequestBody SignalIngestionRequest request,
+                                                             HttpServletRequest servletRequest) {
+        servletRequest.setAttribute(RequestCostFilter.ENTITY_TYPE_ATTRIBUTE, request.getEntityType());
         log.info("Ingesting signals from {} for {}/{}", 
                 request.getSourceType(), request.getEntityType(), request.getEntityId());
+        IngestEvent event = new IngestEvent();
+        event.start();
         
         List<Signal> signals = adapterService.adaptToSignals(
                 request.getSourceType(),
@@ -59,12 +85,12 @@ public class HealthScoreController {
         );
         
         // Persist signals
-        for (Signal signal : signals) {
-            SignalDocument doc = toSignalDocument(signal, request.getEntityType(), request.getEntityId());
-            signalRepository.save(doc);
-        }
+        signalStore.saveAll(signals.stream()
+                .map(signal -> SignalDocument.from(signal, request.getEntityType(), request.getEntityId()))
+                .collect(Collectors.toList()));
         
         log.info("Ingested {} signals from {}", signals.size(), request.getSourceType());
+        event.finish(request.getEntityType(), request.getEntityId(), request.getSourceType(), signals.size());
         
         return ResponseEntity.ok(Map.of(
                 "status", "success",
@@ -82,11 +108,12 @@ public class HealthScoreController {
             @PathVariable String entityId) {
         
         log.info("Computing health score for {}/{}", entityType, entityId);
+        activityTracker.touch(entityType, entityId);
         
         // Get all signals for the entity
-        List<SignalDocument> signalDocs = signalRepository.findByEntityTypeAndEntityId(entityType, entityId);
+        List<SignalDocument> signalDocs = signalStore.findByEntity(entityType, entityId);
         List<Signal> signals = signalDocs.stream()
-                .map(this::toSignal)
+                .map(SignalDocument::toSignal)
                 .collect(Collectors.toList());
         
         if (signals.isEmpty()) {
@@ -94,41 +121,138 @@ public class HealthScoreController {
             return ResponseEntity.notFound().build();
         }
         
-        // Compute health score
-        HealthScore healthScore = healthScoreEngine.computeHealthScore(entityType, entityId, signals);
-        
         // Compute debt contributions
-        List<DebtContribution> debtContributions = debtService.computeDebtContributions(signals);
+        DebtComputationEvent debtEvent = new DebtComputationEvent();
+        debtEvent.start();
+        List<DebtContribution> debtContributions = pipelineMetrics.timeEntity("debt", entityType,
+                () -> debtService.computeDebtContributions(signals));
+        debtEvent.finish(entityType, entityId, null, signals.size());
+        
+        // Compute and persist health score together with its debt contributions
+        HealthScore healthScore = healthScoreEngine.computeHealthScore(entityType, entityId, signals, debtContributions);
         
         // Build response
-        HealthScoreResponse response = toResponse(healthScore, debtContributions);
+        HealthScoreResponse response = HealthScoreResponse.from(healthScore, debtContributions);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(conditionalRequests.scoreETag(healthScore.getId(), healthScore.getComputedAt()))
+                .body(response);
     }
     
     /**
      * Get the latest health score for an entity.
+     * 
+     * Supports If-None-Match: the revision is resolved from a projection query,
+     * so an unchanged score is answered with 304 without loading the document.
      */
     @GetMapping("/scores/{entityType}/{entityId}")
     public ResponseEntity<HealthScoreResponse> getHealthScore(
             @PathVariable String entityType,
-            @PathVariable String entityId) {
+            @PathVariable String entityId,
+            WebRequest webRequest) {
+        
+        activityTracker.touch(entityType, entityId);
+        Optional<ScoreVersion> version = scoreStore.findLatestVersion(entityType, entityId);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        String eTag = conditionalRequests.scoreETag(version.get());
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
         
-        return scoreRepository.findTopByEntityTypeAndEntityIdOrderByComputedAtDesc(entityType, entityId)
-                .map(doc -> ResponseEntity.ok(toResponse(doc)))
+        return scoreStore.findById(version.get().getId())
+                .map(doc -> ResponseEntity.ok()
+                        .eTag(eTag)
+                        .cacheControl(conditionalRequests.cacheControl())
+                        .body(HealthScoreResponse.from(doc)))
                 .orElse(ResponseEntity.notFound().build());
     }
     
     /**
-     * Get all signals for an entity.
+     * Get an entity's signal history, one keyset page at a time.
+     * 
+     * Pages are ordered by (timestamp, id); pass {@code nextCursor} back as {@code cursor}
+     * to continue. Supports If-None-Match against the version of the entity's signal set.
      */
     @GetMapping("/signals/{entityType}/{entityId}")
-    public ResponseEntity<List<SignalDocument>> getSignals(
+    public ResponseEntity<SignalPageResponse> getSignals(
             @PathVariable String entityType,
-            @PathVariable String entityId) {
+            @PathVariable String entityId,
+            @RequestParam(required = false) String metricKey,
+            @RequestParam(required = false) String sourceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest webRequest) {
         
-        List<SignalDocument> signals = signalRepository.findByEntityTypeAndEntityId(entityType, entityId);
-        return ResponseEntity.ok(signals);
+        long count = signalStore.countByEntity(entityType, entityId);
+        SignalVersion latest = count > 0 ? signalStore.findLatestVersion(entityType, entityId).orElse(null) : null;
+        
+        String eTag = conditionalRequests.signalSetETag(count, latest);
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        SignalQuery query = toSignalQuery(entityType, entityId, metricKey, sourceType, 
+                from, to, cursor, pageSize + 1, fields);
+        
+        // One extra row tells us whether another page exists
+        List<SignalDocument> rows = signalStore.findPage(query);
+        SignalPageResponse page = new SignalPageResponse();
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            SignalDocument last = rows.get(pageSize - 1);
+            page.setNextCursor(new SignalCursor(last.getTimestamp(), last.getId()).encode());
+        }
+        page.setItems(rows);
+        
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(conditionalRequests.cacheControl())
+                .body(page);
+    }
+    
+    /**
+     * Stream an entity's signal history as newline-delimited JSON.
+     * 
+     * Documents are written straight from a MongoDB cursor, so history size
+     * does not affect heap usage. Accepts the same filters as the paged endpoint;
+     * {@code limit} is optional and unbounded by default.
+     */
+    @GetMapping(value = "/signals/{entityType}/{entityId}/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamSignals(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            @RequestParam(required = false) String metricKey,
+            @RequestParam(required = false) String sourceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int limit,
+            @RequestParam(required = false) List<String> fields) {
+        
+        SignalQuery query = toSignalQuery(entityType, entityId, metricKey, sourceType, 
+                from, to, cursor, Math.max(0, limit), fields);
+        
+        StreamingResponseBody body = out -> {
+            try (Stream<SignalDocument> signals = signalStore.stream(query);
+                 NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                Iterator<SignalDocument> it = signals.iterator();
+                while (it.hasNext()) {
+                    writer.write(it.next());
+                }
+                log.debug("Streamed {} signals for {}/{}", writer.written(), entityType, entityId);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
     }
     
     /**
@@ -139,27 +263,43 @@ public class HealthScoreController {
      * The controller orchestrates only - no parsing, normalization, or scoring logic here.
      */
     @PostMapping("/tools/integrate")
-    public ResponseEntity<Map<String, Object>> integrateTools(@Valid @RequestBody ToolIntegrationRequest request) {
+    public ResponseEntity<Map<String, Object>> integrateTools(@Valid @RequestBody ToolIntegrationRequest request,
+                                                              HttpServletRequest servletRequest) {
+        servletRequest.setAttribute(RequestCostFilter.ENTITY_TYPE_ATTRIBUTE, request.getEntityType());
         log.info("Integrating tools {} for {}/{}", 
                 request.getTools(), request.getEntityType(), request.getEntityId());
+        activityTracker.touch(request.getEntityType(), request.getEntityId());
         
         List<Signal> allSignals = new ArrayList<>();
         Map<String, Object> toolResults = new java.util.LinkedHashMap<>();
         
+        // Start every tool on its own executor first, so tools are fetched concurrently
+        Map<String, ToolIntegrationService.Integration> running = new java.util.HashMap<>();
         for (String tool : request.getTools()) {
             try {
-                List<Signal> toolSignals = integrateToolSignals(
+                running.put(tool, toolIntegrationService.submit(
                         tool,
                         request.getEntityType(),
                         request.getEntityId(),
                         request.getToolConfig() != null ? request.getToolConfig().get(tool) : null
-                );
+                ));
+            } catch (Exception e) {
+                toolResults.put(tool, toolError(tool, e));
+            }
+        }
+        
+        for (String tool : request.getTools()) {
+            ToolIntegrationService.Integration integration = running.get(tool);
+            if (integration == null) {
+                continue;
+            }
+            try {
+                List<Signal> toolSignals = integration.await();
                 
                 // Persist signals
-                for (Signal signal : toolSignals) {
-                    SignalDocument doc = toSignalDocument(signal, request.getEntityType(), request.getEntityId());
-                    signalRepository.save(doc);
-                }
+                signalStore.saveAll(toolSignals.stream()
+                        .map(signal -> SignalDocument.from(signal, request.getEntityType(), request.getEntityId()))
+                        .collect(Collectors.toList()));
                 
                 allSignals.addAll(toolSignals);
                 toolResults.put(tool, Map.of(
@@ -170,11 +310,7 @@ public class HealthScoreController {
                 
                 log.info("Tool {} produced {} signals", tool, toolSignals.size());
             } catch (Exception e) {
-                log.error("Error integrating tool {}: {}", tool, e.getMessage(), e);
-                toolResults.put(tool, Map.of(
-                        "status", "error",
-                        "message", e.getMessage()
-                ));
+                toolResults.put(tool, toolError(tool, e));
             }
         }
         
@@ -186,154 +322,29 @@ public class HealthScoreController {
         ));
     }
     
-    /**
-     * Orchestrates: Tool API call → Parser → Adapter
-     * 
-     * Controller responsibility: Orchestration only.
-     * No parsing, normalization, or business logic here.
-     */
-    private List<Signal> integrateToolSignals(String tool, String entityType, String entityId, 
-                                               Map<String, String> config) {
-        return switch (tool.toLowerCase()) {
-            case "sonarqube" -> integrateSonarQube(entityType, entityId, config);
-            default -> {
-                log.warn("Unknown tool: {}", tool);
-                yield List.of();
-            }
-        };
-    }
-    
-    /**
-     * SonarQube integration: API → Parser → Adapter
-     * 
-     * This is pure orchestration - the controller invokes components in order
-     * but does NOT implement any parsing, normalization, or scoring.
-     */
-    private List<Signal> integrateSonarQube(String entityType, String entityId, Map<String, String> config) {
-        // Get component key from config or use entityId as fallback
-        String componentKey = (config != null && config.containsKey("componentKey")) 
-                ? config.get("componentKey") 
-                : entityId;
-        
-        // Step 1: Fetch raw data from SonarQube API (SonarApiClient responsibility)
-        Map<String, Object> rawResponse = sonarApiClient.fetchIssues(componentKey);
-        if (rawResponse == null || rawResponse.isEmpty()) {
-            log.warn("Empty response from SonarQube for component: {}", componentKey);
-            return List.of();
-        }
-        
-        // Step 2: Parse raw response into normalized structure (Parser responsibility)
-        Map<String, Object> parsedData = sonarQubeParser.parse(rawResponse);
-        
-        // Step 3: Adapt parsed data into canonical signals (Adapter responsibility)
-        List<Signal> signals = adapterService.adaptToSignals(
-                "sonarqube",
-                componentKey,
-                entityType,
-                entityId,
-                parsedData
+    private Map<String, Object> toolError(String tool, Exception e) {
+        log.error("Error integrating tool {}: {}", tool, e.getMessage(), e);
+        return Map.of(
+                "status", "error",
+                "message", String.valueOf(e.getMessage())
         );
-        
-        return signals;
-    }
-    
-    private SignalDocument toSignalDocument(Signal signal, String entityType, String entityId) {
-        SignalDocument doc = new SignalDocument();
-        doc.setId(signal.getId());
-        doc.setSourceType(signal.getSourceType());
-        doc.setSourceId(signal.getSourceId());
-        doc.setMetricKey(signal.getMetricKey());
-        doc.setCanonicalForm(signal.getCanonicalForm().name());
-        doc.setTimestamp(signal.getTimestamp());
-        doc.setEntityType(entityType);
-        doc.setEntityId(entityId);
-        
-        // Store value based on canonical form
-        doc.setValue(switch (signal.getCanonicalForm()) {
-            case COUNTABLE_CATEGORY -> Map.of("categories", signal.getCountableValue());
-            case SCALAR -> Map.of("value", signal.getScalarValue());
-            case BOOLEAN -> Map.of("value", signal.getBooleanValue());
-            case ENUM -> Map.of("value", signal.getEnumValue());
-        });
-        
-        return doc;
     }
     
-    private Signal toSignal(SignalDocument doc) {
-        var form = com.org.healthscore.domain.CanonicalForm.valueOf(doc.getCanonicalForm());
-        
-        Signal.SignalBuilder builder = Signal.builder()
-                .id(doc.getId())
-                .sourceType(doc.getSourceType())
-                .sourceId(doc.getSourceId())
-                .metricKey(doc.getMetricKey())
-                .canonicalForm(form)
-                .timestamp(doc.getTimestamp())
-                .metadata(doc.getMetadata());
-        
-        Map<String, Object> value = doc.getValue();
-        if (value != null) {
-            switch (form) {
-                case COUNTABLE_CATEGORY -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Integer> categories = (Map<String, Integer>) value.get("categories");
-                    builder.countableValue(categories);
-                }
-                case SCALAR -> builder.scalarValue(
-                        new java.math.BigDecimal(value.get("value").toString()));
-                case BOOLEAN -> builder.booleanValue((Boolean) value.get("value"));
-                case ENUM -> builder.enumValue((String) value.get("value"));
-            }
+    static SignalQuery toSignalQuery(String entityType, String entityId, String metricKey, String sourceType,
+                                 Instant from, Instant to, String cursor, int limit, List<String> fields) {
+        try {
+            return new SignalQuery(entityType, entityId, metricKey, sourceType, from, to,
+                    cursor != null && !cursor.isBlank() ? SignalCursor.decode(cursor) : null,
+                    limit, fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
-        
-        return builder.build();
     }
     
-    private HealthScoreResponse toResponse(HealthScore healthScore, List<DebtContribution> debtContributions) {
-        HealthScoreResponse response = new HealthScoreResponse();
-        response.setEntityType(healthScore.getEntityType());
-        response.setEntityId(healthScore.getEntityId());
-        response.setOverallScore(healthScore.getOverallScore());
-        response.setDimensionScores(healthScore.getDimensionScores());
-        response.setComputedAt(healthScore.getComputedAt());
-        
-        response.setDebtContributions(debtContributions.stream()
-                .map(dc -> {
-                    HealthScoreResponse.DebtContributionDto dto = new HealthScoreResponse.DebtContributionDto();
-                    dto.setMetricKey(dc.getMetricKey());
-                    dto.setDimension(dc.getDimension());
-                    dto.setContribution(dc.getContribution());
-                    dto.setSeverity(dc.getSeverity());
-                    dto.setDescription(dc.getDescription());
-                    return dto;
-                })
-                .collect(Collectors.toList()));
-        
-        return response;
-    }
-    
-    private HealthScoreResponse toResponse(ScoreDocument doc) {
-        HealthScoreResponse response = new HealthScoreResponse();
-        response.setEntityType(doc.getEntityType());
-        response.setEntityId(doc.getEntityId());
-        response.setOverallScore(doc.getOverallScore());
-        response.setDimensionScores(doc.getDimensionScores());
-        response.setComputedAt(doc.getComputedAt());
-        
-        if (doc.getDebtContributions() != null) {
-            response.setDebtContributions(doc.getDebtContributions().stream()
-                    .map(dc -> {
-                        HealthScoreResponse.DebtContributionDto dto = new HealthScoreResponse.DebtContributionDto();
-                        dto.setMetricKey(dc.getMetricKey());
-                        dto.setDimension(dc.getDimension());
-                        dto.setContribution(dc.getContribution());
-                        dto.setSeverity(dc.getSeverity());
-                        dto.setDescription(dc.getDescription());
-                        return dto;
-                    })
-                    .collect(Collectors.toList()));
-        }
-        
-        return response;
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(conditionalRequests.cacheControl())
+                .build();
     }
 }
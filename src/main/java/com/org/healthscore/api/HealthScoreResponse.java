@@ -1,5 +1,8 @@
 package com.org.healthscore.api;
 
+import com.org.healthscore.domain.DebtContribution;
+import com.org.healthscore.domain.HealthScore;
+import com.org.healthscore.repository.model.ScoreDocument;
 import lombok.Data;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -18,6 +21,36 @@ public class HealthScoreResponse {
     private List<DebtContributionDto> debtContributions;
     private Instant computedAt;
     
+    static HealthScoreResponse from(HealthScore healthScore, List<DebtContribution> debtContributions) {
+        HealthScoreResponse response = new HealthScoreResponse();
+        response.setEntityType(healthScore.getEntityType());
+        response.setEntityId(healthScore.getEntityId());
+        response.setOverallScore(healthScore.getOverallScore());
+        response.setDimensionScores(healthScore.getDimensionScores());
+        response.setComputedAt(healthScore.getComputedAt());
+        response.setDebtContributions(debtContributions.stream()
+                .map(dc -> DebtContributionDto.of(dc.getMetricKey(), dc.getDimension(), dc.getContribution(),
+                        dc.getSeverity(), dc.getDescription()))
+                .toList());
+        return response;
+    }
+    
+    static HealthScoreResponse from(ScoreDocument doc) {
+        HealthScoreResponse response = new HealthScoreResponse();
+        response.setEntityType(doc.getEntityType());
+        response.setEntityId(doc.getEntityId());
+        response.setOverallScore(doc.getOverallScore());
+        response.setDimensionScores(doc.getDimensionScores());
+        response.setComputedAt(doc.getComputedAt());
+        if (doc.getDebtContributions() != null) {
+            response.setDebtContributions(doc.getDebtContributions().stream()
+                    .map(dc -> DebtContributionDto.of(dc.getMetricKey(), dc.getDimension(), dc.getContribution(),
+                            dc.getSeverity(), dc.getDescription()))
+                    .toList());
+        }
+        return response;
+    }
+    
     @Data
     public static class DebtContributionDto {
         private String metricKey;
@@ -25,5 +58,16 @@ public class HealthScoreResponse {
         private BigDecimal contribution;
         private String severity;
         private String description;
+        
+        static DebtContributionDto of(String metricKey, String dimension, BigDecimal contribution,
+                                      String severity, String description) {
+            DebtContributionDto dto = new DebtContributionDto();
+            dto.setMetricKey(metricKey);
+            dto.setDimension(dimension);
+            dto.setContribution(contribution);
+            dto.setSeverity(severity);
+            dto.setDescription(description);
+            return dto;
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.org.healthscore.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes newline-delimited JSON records to a response stream.
+ * 
+ * Records are serialized straight into a buffered generator; nothing is held
+ * beyond the current record, so output size does not affect heap usage.
+ */
+class NdjsonWriter implements Closeable {
+    
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    
+    private static final int FLUSH_EVERY = 500;
+    
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private long written;
+    
+    NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+    
+    void write(Object record) throws IOException {
+        writer.writeValue(generator, record);
+        generator.writeRaw('\n');
+        if (++written % FLUSH_EVERY == 0) {
+            generator.flush();
+        }
+    }
+    
+    long written() {
+        return written;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
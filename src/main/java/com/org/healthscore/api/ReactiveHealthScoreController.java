@@ -0,0 +1,295 @@
+package com.org.healthscore.api;
+
+import com.org.healthscore.adapter.SignalAdapterService;
+import com.org.healthscore.core.debt.DebtService;
+import com.org.healthscore.core.scoring.HealthScoreEngine;
+import com.org.healthscore.domain.DebtContribution;
+import com.org.healthscore.domain.HealthScore;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.integration.ActivityTracker;
+import com.org.healthscore.integration.ToolIntegrationService;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.parser.ReactiveSonarApiClient;
+import com.org.healthscore.parser.SonarApiClient;
+import com.org.healthscore.parser.SonarFetchMode;
+import com.org.healthscore.parser.SonarQubeParser;
+import com.org.healthscore.repository.ReactiveScoreStore;
+import com.org.healthscore.repository.ReactiveSignalStore;
+import com.org.healthscore.repository.SignalCursor;
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.model.ScoreDocument;
+import com.org.healthscore.repository.model.SignalDocument;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking variant of {@link HealthScoreController} under {@code /api/reactive/v1}, enabled
+ * with {@code healthscore.api.reactive.enabled}.
+ * 
+ * Same endpoints, requests and responses. Handlers return Mono/Flux, so Spring MVC releases the
+ * request thread while MongoDB (reactive driver) or SonarQube (WebClient) is working, and an open
+ * integration costs a connection and a few objects rather than a thread. Adapting, debt and
+ * scoring share the blocking API's core; a scoring configuration cache miss reaches the blocking
+ * store, so after a driver or WebClient callback they run on the bounded elastic scheduler, never
+ * on an event loop. Tools without a reactive client, and SonarQube incremental sync, run on their
+ * bounded tool executors and are awaited without blocking.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/reactive/v1")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+public class ReactiveHealthScoreController {
+    
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 5000;
+    
+    private final SignalAdapterService adapterService;
+    private final HealthScoreEngine healthScoreEngine;
+    private final DebtService debtService;
+    private final ReactiveSignalStore signalStore;
+    private final ReactiveScoreStore scoreStore;
+    private final ConditionalRequestSupport conditionalRequests;
+    private final ReactiveSonarApiClient reactiveSonarClient;
+    private final SonarApiClient sonarApiClient;
+    private final SonarQubeParser sonarQubeParser;
+    private final ToolIntegrationService toolIntegrationService;
+    private final ActivityTracker activityTracker;
+    private final PipelineMetrics pipelineMetrics;
+    
+    /**
+     * Ingest signal data from an external tool.
+     */
+    @PostMapping("/signals")
+    public Mono<ResponseEntity<Map<String, Object>>> ingestSignals(@Valid @RequestBody SignalIngestionRequest request) {
+        List<Signal> signals = adapterService.adaptToSignals(
+                request.getSourceType(),
+                request.getSourceId(),
+                request.getEntityType(),
+                request.getEntityId(),
+                request.getData()
+        );
+        
+        return save(signals, request.getEntityType(), request.getEntityId())
+                .thenReturn(ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "signalsIngested", signals.size(),
+                        "signals", signals.stream().map(Signal::getMetricKey).toList()
+                )));
+    }
+    
+    /**
+     * Compute and persist the health score of an entity.
+     */
+    @PostMapping("/scores/{entityType}/{entityId}/compute")
+    public Mono<ResponseEntity<HealthScoreResponse>> computeHealthScore(
+            @PathVariable String entityType,
+            @PathVariable String entityId) {
+        
+        activityTracker.touch(entityType, entityId);
+        return signalStore.findByEntity(entityType, entityId)
+                .map(SignalDocument::toSignal)
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(signals -> {
+                    if (signals.isEmpty()) {
+                        return Mono.just(ResponseEntity.<HealthScoreResponse>notFound().build());
+                    }
+                    
+                    List<DebtContribution> debtContributions = pipelineMetrics.timeEntity("debt", entityType,
+                            () -> debtService.computeDebtContributions(signals));
+                    HealthScore healthScore = healthScoreEngine.evaluate(entityType, entityId, signals,
+                            debtContributions);
+                    
+                    return scoreStore.save(ScoreDocument.from(healthScore))
+                            .thenReturn(ResponseEntity.ok()
+                                    .eTag(conditionalRequests.scoreETag(healthScore.getId(), healthScore.getComputedAt()))
+                                    .body(HealthScoreResponse.from(healthScore, debtContributions)));
+                });
+    }
+    
+    /**
+     * Get the latest health score for an entity (If-None-Match answered from the revision only).
+     */
+    @GetMapping("/scores/{entityType}/{entityId}")
+    public Mono<ResponseEntity<HealthScoreResponse>> getHealthScore(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            WebRequest webRequest) {
+        
+        activityTracker.touch(entityType, entityId);
+        return scoreStore.findLatestVersion(entityType, entityId)
+                .flatMap(version -> {
+                    String eTag = conditionalRequests.scoreETag(version);
+                    if (webRequest.checkNotModified(eTag)) {
+                        return Mono.just(this.<HealthScoreResponse>notModified(eTag));
+                    }
+                    return scoreStore.findById(version.getId())
+                            .map(doc -> ResponseEntity.ok()
+                                    .eTag(eTag)
+                                    .cacheControl(conditionalRequests.cacheControl())
+                                    .body(HealthScoreResponse.from(doc)));
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Get an entity's signal history, one keyset page at a time; see {@link HealthScoreController#getSignals}.
+     */
+    @GetMapping("/signals/{entityType}/{entityId}")
+    public Mono<ResponseEntity<SignalPageResponse>> getSignals(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            @RequestParam(required = false) String metricKey,
+            @RequestParam(required = false) String sourceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest webRequest) {
+        
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // One extra row tells us whether another page exists
+        SignalQuery query = HealthScoreController.toSignalQuery(entityType, entityId, metricKey, sourceType,
+                from, to, cursor, pageSize + 1, fields);
+        
+        return signalStore.countByEntity(entityType, entityId)
+                .flatMap(count -> count > 0
+                        ? signalStore.findLatestVersion(entityType, entityId)
+                                .map(latest -> conditionalRequests.signalSetETag(count, latest))
+                                .defaultIfEmpty(conditionalRequests.signalSetETag(0, null))
+                        : Mono.just(conditionalRequests.signalSetETag(0, null)))
+                .flatMap(eTag -> {
+                    if (webRequest.checkNotModified(eTag)) {
+                        return Mono.just(this.<SignalPageResponse>notModified(eTag));
+                    }
+                    return signalStore.find(query).collectList().map(rows -> {
+                        SignalPageResponse page = new SignalPageResponse();
+                        if (rows.size() > pageSize) {
+                            rows = rows.subList(0, pageSize);
+                            SignalDocument last = rows.get(pageSize - 1);
+                            page.setNextCursor(new SignalCursor(last.getTimestamp(), last.getId()).encode());
+                        }
+                        page.setItems(rows);
+                        return ResponseEntity.ok()
+                                .eTag(eTag)
+                                .cacheControl(conditionalRequests.cacheControl())
+                                .body(page);
+                    });
+                });
+    }
+    
+    /**
+     * Stream an entity's signal history as newline-delimited JSON, written as the cursor is read.
+     */
+    @GetMapping(value = "/signals/{entityType}/{entityId}/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    public Flux<SignalDocument> streamSignals(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            @RequestParam(required = false) String metricKey,
+            @RequestParam(required = false) String sourceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int limit,
+            @RequestParam(required = false) List<String> fields) {
+        
+        return signalStore.find(HealthScoreController.toSignalQuery(entityType, entityId, metricKey, sourceType,
+                from, to, cursor, Math.max(0, limit), fields));
+    }
+    
+    /**
+     * Integrate external tools concurrently and persist their signals.
+     */
+    @PostMapping("/tools/integrate")
+    public Mono<ResponseEntity<Map<String, Object>>> integrateTools(@Valid @RequestBody ToolIntegrationRequest request) {
+        activityTracker.touch(request.getEntityType(), request.getEntityId());
+        
+        return Flux.fromIterable(request.getTools())
+                .flatMapSequential(tool -> integrate(tool, request)
+                        .map(signals -> Map.entry(tool, Map.<String, Object>of(
+                                "status", "success",
+                                "signalsCount", signals.size(),
+                                "signals", signals.stream().map(Signal::getMetricKey).toList())))
+                        .onErrorResume(e -> Mono.just(Map.entry(tool, toolError(tool, e)))))
+                .collectList()
+                .map(results -> {
+                    Map<String, Object> toolResults = new LinkedHashMap<>();
+                    int totalSignals = 0;
+                    for (Map.Entry<String, Map<String, Object>> result : results) {
+                        toolResults.put(result.getKey(), result.getValue());
+                        if (result.getValue().get("signalsCount") instanceof Integer count) {
+                            totalSignals += count;
+                        }
+                    }
+                    return ResponseEntity.ok(Map.of(
+                            "entityType", request.getEntityType(),
+                            "entityId", request.getEntityId(),
+                            "totalSignals", totalSignals,
+                            "toolResults", toolResults
+                    ));
+                });
+    }
+    
+    private Mono<List<Signal>> integrate(String tool, ToolIntegrationRequest request) {
+        Map<String, String> config = request.getToolConfig() != null ? request.getToolConfig().get(tool) : null;
+        String entityType = request.getEntityType();
+        String entityId = request.getEntityId();
+        
+        Mono<List<Signal>> signals;
+        SonarFetchMode fetchMode = "sonarqube".equals(tool) ? sonarApiClient.fetchMode(config) : null;
+        if (fetchMode != null && fetchMode != SonarFetchMode.INCREMENTAL) {
+            String componentKey = sonarApiClient.sourceId(entityId, config);
+            // Pages are parsed as they arrive; only their severities are kept until the merge
+            signals = reactiveSonarClient.fetch(componentKey, fetchMode)
+                    .map(sonarQubeParser::parse)
+                    .collectList()
+                    .map(pages -> sonarQubeParser.merge(pages.stream()))
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(parsed -> parsed.isEmpty() ? List.<Signal>of()
+                            : adapterService.adaptToSignals(tool, componentKey, entityType, entityId, parsed));
+        } else {
+            signals = Mono.defer(() -> Mono.fromFuture(
+                    toolIntegrationService.submit(tool, entityType, entityId, config).signals()));
+        }
+        
+        return signals.flatMap(toolSignals -> save(toolSignals, entityType, entityId).thenReturn(toolSignals));
+    }
+    
+    private Mono<Void> save(List<Signal> signals, String entityType, String entityId) {
+        return signalStore.saveAll(signals.stream()
+                .map(signal -> SignalDocument.from(signal, entityType, entityId))
+                .toList());
+    }
+    
+    private Map<String, Object> toolError(String tool, Throwable e) {
+        log.error("Error integrating tool {}: {}", tool, e.getMessage(), e);
+        return Map.of(
+                "status", "error",
+                "message", String.valueOf(e.getMessage())
+        );
+    }
+    
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(conditionalRequests.cacheControl())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.org.healthscore.api;
+
+import com.org.healthscore.observability.RequestCosts;
+import com.org.healthscore.observability.ThreadResources;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Measures the thread CPU time and heap allocation of every {@link HealthScoreController} request
+ * and records them in {@link RequestCosts} by endpoint, entity type and client id.
+ * 
+ * The endpoint is the HTTP method and route pattern. The entity type is the {@code entityType}
+ * path variable, or what the handler put in {@link #ENTITY_TYPE_ATTRIBUTE} for request bodies;
+ * the client id is the {@code healthscore.request-costs.client-header} header. Only the request
+ * thread is measured: work handed to tool executors or written by a streaming body afterwards
+ * is not included.
+ */
+@Component
+public class RequestCostFilter extends OncePerRequestFilter {
+    
+    public static final String ENTITY_TYPE_ATTRIBUTE = RequestCostFilter.class.getName() + ".entityType";
+    static final String UNKNOWN = "-";
+    
+    private final RequestCosts requestCosts;
+    private final String clientHeader;
+    
+    public RequestCostFilter(RequestCosts requestCosts,
+                             @Value("${healthscore.request-costs.client-header:X-Client-Id}") String clientHeader) {
+        this.requestCosts = requestCosts;
+        this.clientHeader = clientHeader;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long cpuAtStart = ThreadResources.cpuTimeNanos();
+        long allocatedAtStart = ThreadResources.allocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                    && HealthScoreController.class.isAssignableFrom(handler.getBeanType())) {
+                long cpu = cpuAtStart >= 0 ? ThreadResources.cpuTimeNanos() - cpuAtStart : -1;
+                long allocated = allocatedAtStart >= 0 ? ThreadResources.allocatedBytes() - allocatedAtStart : -1;
+                requestCosts.record(endpoint(request), entityType(request), clientId(request), cpu, allocated);
+            }
+        }
+    }
+    
+    private static String endpoint(HttpServletRequest request) {
+        return request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+    
+    private static String entityType(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("entityType") instanceof String entityType) {
+            return entityType;
+        }
+        return request.getAttribute(ENTITY_TYPE_ATTRIBUTE) instanceof String entityType ? entityType : UNKNOWN;
+    }
+    
+    private String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(clientHeader);
+        return clientId == null || clientId.isBlank() ? UNKNOWN : clientId;
+    }
+}
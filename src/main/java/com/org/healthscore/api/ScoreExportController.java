@@ -0,0 +1,162 @@
+package com.org.healthscore.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.model.ScoreDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export of health scores for analytics ingestion.
+ * 
+ * Emits newline-delimited JSON streamed from a MongoDB cursor with constant memory.
+ * Every line carries a {@code recordType}:
+ * - "score": one per entity, dimension scores flattened to {@code dimension.<name>} columns
+ * - "debt_contribution": one per debt contribution of an exported score (when requested)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+public class ScoreExportController {
+    
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    
+    private final ScoreStore scoreStore;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Export the latest (or as-of) score of every entity of a type.
+     * 
+     * @param asOf Only consider scores computed at or before this instant
+     * @param include Optional row groups: "dimensions", "debt"
+     */
+    @GetMapping(value = "/scores/{entityType}", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportScores(
+            @PathVariable String entityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf,
+            @RequestParam(required = false) List<String> include,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        boolean includeDimensions = include != null && include.contains("dimensions");
+        boolean includeDebt = include != null && include.contains("debt");
+        boolean gzip = acceptsGzip(acceptEncoding);
+        
+        StreamingResponseBody body = out -> {
+            long started = System.nanoTime();
+            OutputStream target = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+            long scores = 0;
+            
+            try (Stream<ScoreDocument> docs = scoreStore.streamLatestByEntityType(entityType, asOf);
+                 NdjsonWriter writer = new NdjsonWriter(objectMapper, target)) {
+                Iterator<ScoreDocument> it = docs.iterator();
+                while (it.hasNext()) {
+                    ScoreDocument doc = it.next();
+                    writer.write(toScoreRow(doc, includeDimensions));
+                    if (includeDebt && doc.getDebtContributions() != null) {
+                        for (ScoreDocument.DebtContributionEmbedded debt : doc.getDebtContributions()) {
+                            writer.write(toDebtRow(doc, debt));
+                        }
+                    }
+                    scores++;
+                }
+            }
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+            
+            log.info("Exported {} scores for entity type {} in {} ms", 
+                    scores, entityType, (System.nanoTime() - started) / 1_000_000);
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+    
+    private Map<String, Object> toScoreRow(ScoreDocument doc, boolean includeDimensions) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("recordType", "score");
+        row.put("scoreId", doc.getId());
+        row.put("entityType", doc.getEntityType());
+        row.put("entityId", doc.getEntityId());
+        row.put("overallScore", doc.getOverallScore());
+        row.put("computedAt", doc.getComputedAt());
+        row.put("computationVersion", doc.getComputationVersion());
+        
+        if (includeDimensions && doc.getDimensionScores() != null) {
+            doc.getDimensionScores().forEach((dimension, score) -> row.put("dimension." + dimension, score));
+        }
+        return row;
+    }
+    
+    private Map<String, Object> toDebtRow(ScoreDocument doc, ScoreDocument.DebtContributionEmbedded debt) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("recordType", "debt_contribution");
+        row.put("scoreId", doc.getId());
+        row.put("entityType", doc.getEntityType());
+        row.put("entityId", doc.getEntityId());
+        row.put("computedAt", doc.getComputedAt());
+        row.put("signalId", debt.getSignalId());
+        row.put("metricKey", debt.getMetricKey());
+        row.put("dimension", debt.getDimension());
+        row.put("contribution", debt.getContribution());
+        row.put("severity", debt.getSeverity());
+        row.put("description", debt.getDescription());
+        return row;
+    }
+    
+    /**
+     * Whether Accept-Encoding allows gzip with a non-zero q-value, either by name or through
+     * "*" (a named gzip entry takes precedence over the wildcard).
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && (param.startsWith("q=") || param.startsWith("Q="))) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if ("gzip".equals(name) || "x-gzip".equals(name)) {
+                gzip = q;
+            } else if ("*".equals(name)) {
+                wildcard = q;
+            }
+        }
+        Double chosen = gzip != null ? gzip : wildcard;
+        return chosen != null && chosen > 0;
+    }
+}
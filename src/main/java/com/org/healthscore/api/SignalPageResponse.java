@@ -0,0 +1,16 @@
+package com.org.healthscore.api;
+
+import com.org.healthscore.repository.model.SignalDocument;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * One page of an entity's signal history.
+ * 
+ * {@code nextCursor} is null on the last page.
+ */
+@Data
+public class SignalPageResponse {
+    private List<SignalDocument> items;
+    private String nextCursor;
+}
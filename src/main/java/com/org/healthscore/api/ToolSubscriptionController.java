@@ -0,0 +1,75 @@
+package com.org.healthscore.api;
+
+import com.org.healthscore.integration.ToolRegistry;
+import com.org.healthscore.repository.ToolSubscriptionStore;
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the entity → tool source mapping synced by the scheduler (healthscore.sync.enabled).
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tools/{tool}/subscriptions")
+@RequiredArgsConstructor
+public class ToolSubscriptionController {
+    
+    private final ToolSubscriptionStore subscriptionStore;
+    private final ToolRegistry toolRegistry;
+    
+    @GetMapping
+    public List<ToolSubscriptionDocument> listSubscriptions(@PathVariable String tool) {
+        return subscriptionStore.findByTool(knownTool(tool));
+    }
+    
+    /**
+     * Subscribe an entity (or replace its tool config, keeping its sync history).
+     * 
+     * @param config Tool config used for every sync, e.g. {"componentKey": "my-project"}
+     */
+    @PutMapping("/{entityType}/{entityId}")
+    public ToolSubscriptionDocument subscribe(@PathVariable String tool,
+                                              @PathVariable String entityType,
+                                              @PathVariable String entityId,
+                                              @RequestBody(required = false) Map<String, String> config) {
+        String sourceType = knownTool(tool);
+        ToolSubscriptionDocument subscription = subscriptionStore.find(sourceType, entityType, entityId)
+                .orElseGet(() -> {
+                    ToolSubscriptionDocument created = new ToolSubscriptionDocument();
+                    created.setTool(sourceType);
+                    created.setEntityType(entityType);
+                    created.setEntityId(entityId);
+                    created.setCreatedAt(Instant.now());
+                    return created;
+                });
+        subscription.setConfig(config != null ? new HashMap<>(config) : new HashMap<>());
+        subscriptionStore.save(subscription);
+        log.info("Subscribed {}/{} to scheduled {} sync", entityType, entityId, sourceType);
+        return subscription;
+    }
+    
+    @DeleteMapping("/{entityType}/{entityId}")
+    public ResponseEntity<Void> unsubscribe(@PathVariable String tool,
+                                            @PathVariable String entityType,
+                                            @PathVariable String entityId) {
+        return subscriptionStore.delete(knownTool(tool), entityType, entityId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+    
+    private String knownTool(String tool) {
+        return toolRegistry.find(tool)
+                .map(registered -> registered.integration().getSourceType())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown tool: " + tool));
+    }
+}
@@ -3,13 +3,23 @@ package com.org.healthscore.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.org.healthscore.api.AdmissionProperties;
+import com.org.healthscore.integration.SyncProperties;
+import com.org.healthscore.integration.ToolIntegrationProperties;
+import com.org.healthscore.observability.MongoObservabilityProperties;
+import com.org.healthscore.parser.http.ToolHttpProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Application configuration.
  */
 @Configuration
+@EnableConfigurationProperties({ToolHttpProperties.class, ToolIntegrationProperties.class, SyncProperties.class,
+        MongoObservabilityProperties.class, WarmupProperties.class, AdmissionProperties.class})
+@ImportRuntimeHints(NativeHints.class)
 public class AppConfig {
     
     @Bean
@@ -0,0 +1,63 @@
+package com.org.healthscore.config;
+
+import com.org.healthscore.repository.mongo.OpenIssueDocument;
+import com.org.healthscore.repository.model.ScoreDocument;
+import com.org.healthscore.repository.model.SignalDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ensures the compound indexes backing the read paths exist.
+ * 
+ * Runs off the startup thread after the application is ready, so an unreachable
+ * MongoDB delays index creation instead of failing startup.
+ */
+@Slf4j
+@Component
+@Profile("!" + StorageConfig.MEMORY_PROFILE)
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        Thread.ofPlatform().name("mongo-index-init").daemon().start(this::createIndexes);
+    }
+    
+    void createIndexes() {
+        try {
+            // Latest score per entity and score revision lookups
+            mongoTemplate.indexOps(ScoreDocument.class).ensureIndex(new Index()
+                    .named("entity_computed_at")
+                    .on("entityType", Sort.Direction.ASC)
+                    .on("entityId", Sort.Direction.ASC)
+                    .on("computedAt", Sort.Direction.DESC));
+            
+            // Signal history ordered by (timestamp, id) per entity
+            mongoTemplate.indexOps(SignalDocument.class).ensureIndex(new Index()
+                    .named("entity_timestamp")
+                    .on("entityType", Sort.Direction.ASC)
+                    .on("entityId", Sort.Direction.ASC)
+                    .on("timestamp", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC));
+            
+            // Open issues per sync state, grouped by category for the counts
+            mongoTemplate.indexOps(OpenIssueDocument.class).ensureIndex(new Index()
+                    .named("state_category")
+                    .on("stateId", Sort.Direction.ASC)
+                    .on("category", Sort.Direction.ASC));
+            
+            log.info("MongoDB indexes verified");
+        } catch (Exception e) {
+            log.warn("Could not ensure MongoDB indexes: {}", e.getMessage());
+        }
+    }
+}
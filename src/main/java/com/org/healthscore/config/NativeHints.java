@@ -0,0 +1,50 @@
+package com.org.healthscore.config;
+
+import com.org.healthscore.api.SignalIngestionRequest;
+import com.org.healthscore.api.ToolIntegrationRequest;
+import com.org.healthscore.domain.DebtContribution;
+import com.org.healthscore.domain.HealthScore;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
+import com.org.healthscore.repository.mongo.OpenIssueDocument;
+import com.org.healthscore.repository.model.ScoreDocument;
+import com.org.healthscore.repository.model.SignalDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection and resource hints for Spring AOT and GraalVM native images.
+ * 
+ * Spring derives hints for beans, controller signatures and repository entities; this adds
+ * what it cannot see: Lombok documents read by Jackson (memory seed) or mapped outside a
+ * repository, the domain model, validated request bodies, and the bundled JSON resources.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+    
+    private static final Class<?>[] BOUND_TYPES = {
+            AdapterSignalDefinitionDocument.class, SignalScoringRuleDocument.class,
+            DebtSignalContributionDocument.class, DebtDimensionWeightDocument.class,
+            SignalDocument.class, ScoreDocument.class, ToolSyncStateDocument.class, ToolSubscriptionDocument.class,
+            OpenIssueDocument.class,
+            Signal.class, HealthScore.class, DebtContribution.class,
+            SignalIngestionRequest.class, ToolIntegrationRequest.class,
+            InMemoryScoringConfigStore.Seed.class, StartupWarmup.WorkloadItem.class
+    };
+    
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Covers nested types (embedded documents, transformation config) and Lombok accessors
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+        
+        hints.resources()
+                .registerPattern("memory-seed.json")
+                .registerPattern("warmup-workload.json");
+    }
+}
@@ -0,0 +1,25 @@
+package com.org.healthscore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * In-memory scoring configuration settings ({@code healthscore.config.cache.*}), MongoDB storage only.
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.config.cache")
+public class ScoringConfigCacheProperties {
+    
+    /**
+     * Serve adapter definitions, scoring rules, debt rules and dimension weights from memory
+     * instead of querying MongoDB on every lookup.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * How often the cached configuration is reloaded; configuration edits take effect within this interval.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,207 @@
+package com.org.healthscore.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.healthscore.adapter.SignalAdapterService;
+import com.org.healthscore.core.debt.DebtService;
+import com.org.healthscore.core.operators.OperatorRegistry;
+import com.org.healthscore.core.operators.ScoringOperator;
+import com.org.healthscore.core.scoring.HealthScoreEngine;
+import com.org.healthscore.domain.DebtContribution;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.observability.WarmupScope;
+import com.org.healthscore.repository.CachingScoringConfigStore;
+import com.org.healthscore.repository.ScoringConfig;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Warms the application up before it reports ready.
+ * 
+ * Off the startup thread, once the application is ready: loads the whole scoring configuration
+ * (into the cache when enabled, opening MongoDB connections on the way), checks every enabled
+ * scoring rule against its operator, then replays the bundled synthetic workload through
+ * adapt, debt and score computation so the hot paths are compiled before real traffic. Nothing
+ * is persisted, and inside a {@link WarmupScope} nothing is recorded as traffic. Registered as
+ * the "warmup" health contributor, which the readiness group includes: readiness stays
+ * OUT_OF_SERVICE until warm-up ends or {@code healthscore.warmup.timeout} passes. A failing step is logged and reported, not retried, so an unreachable MongoDB does
+ * not hold readiness forever.
+ */
+@Slf4j
+@Component("warmup")
+@RequiredArgsConstructor
+public class StartupWarmup implements HealthIndicator {
+    
+    /**
+     * One synthetic ingest: a parsed tool payload for a source and entity type.
+     */
+    public record WorkloadItem(String sourceType, String entityType, Map<String, Object> data) {
+    }
+    
+    /**
+     * @param steps Duration of each completed step, in milliseconds
+     */
+    public record Report(Instant startedAt, Instant finishedAt, Map<String, Long> steps, int configDocuments,
+                         List<String> invalidRules, int replays, List<String> errors) {
+    }
+    
+    private final WarmupProperties properties;
+    private final ScoringConfigStore configStore;
+    private final OperatorRegistry operatorRegistry;
+    private final SignalAdapterService adapterService;
+    private final DebtService debtService;
+    private final HealthScoreEngine healthScoreEngine;
+    private final ObjectMapper objectMapper;
+    
+    private volatile Instant startedAt;
+    private volatile Report report;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        startedAt = Instant.now();
+        Thread.ofPlatform().name("startup-warmup").daemon().start(this::run);
+    }
+    
+    /**
+     * The finished warm-up, or null while it runs (or when disabled).
+     */
+    public Report report() {
+        return report;
+    }
+    
+    @Override
+    public Health health() {
+        Report finished = report;
+        if (finished != null) {
+            return Health.up()
+                    .withDetail("durationMs", Duration.between(finished.startedAt(), finished.finishedAt()).toMillis())
+                    .withDetail("steps", finished.steps())
+                    .withDetail("invalidRules", finished.invalidRules())
+                    .withDetail("errors", finished.errors())
+                    .build();
+        }
+        if (startedAt == null) {
+            return Health.up().withDetail("enabled", properties.isEnabled()).build();
+        }
+        Duration elapsed = Duration.between(startedAt, Instant.now());
+        if (elapsed.compareTo(properties.getTimeout()) > 0) {
+            return Health.up().withDetail("timedOut", true).withDetail("elapsedMs", elapsed.toMillis()).build();
+        }
+        return Health.outOfService().withDetail("elapsedMs", elapsed.toMillis()).build();
+    }
+    
+    void run() {
+        Map<String, Long> steps = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        List<String> invalidRules = new ArrayList<>();
+        int configDocuments = 0;
+        int replays = 0;
+        
+        long stepStarted = System.nanoTime();
+        try {
+            ScoringConfig config = configStore instanceof CachingScoringConfigStore caching
+                    ? caching.refresh()
+                    : configStore.findAll();
+            configDocuments = config.size();
+            steps.put("config", elapsedMillis(stepStarted));
+            
+            stepStarted = System.nanoTime();
+            invalidRules.addAll(validateRules(config.scoringRules()));
+            steps.put("rules", elapsedMillis(stepStarted));
+        } catch (Exception e) {
+            log.warn("Warm-up could not load scoring configuration: {}", e.getMessage());
+            errors.add("config: " + e.getMessage());
+        }
+        
+        stepStarted = System.nanoTime();
+        try {
+            // Without configuration every replay would wait on the same unreachable store
+            List<WorkloadItem> workload = errors.isEmpty() ? loadWorkload() : List.of();
+            for (int i = 0; i < properties.getIterations() && !workload.isEmpty(); i++) {
+                if (Duration.between(startedAt, Instant.now()).compareTo(properties.getTimeout()) > 0) {
+                    errors.add("workload: stopped at the timeout after " + replays + " replays");
+                    break;
+                }
+                int iteration = i;
+                WarmupScope.run(() -> workload.forEach(item -> replay(item, iteration)));
+                replays++;
+            }
+            steps.put("workload", elapsedMillis(stepStarted));
+        } catch (Exception e) {
+            log.warn("Warm-up workload failed: {}", e.getMessage());
+            errors.add("workload: " + e.getMessage());
+        }
+        
+        report = new Report(startedAt, Instant.now(), Collections.unmodifiableMap(steps), configDocuments,
+                List.copyOf(invalidRules), replays, List.copyOf(errors));
+        log.info("Warm-up finished in {} ms: {} config documents, {} invalid rules, {} workload replays, steps {}",
+                Duration.between(report.startedAt(), report.finishedAt()).toMillis(), configDocuments,
+                invalidRules.size(), replays, steps);
+    }
+    
+    private List<String> validateRules(List<SignalScoringRuleDocument> rules) {
+        List<String> invalid = new ArrayList<>();
+        for (SignalScoringRuleDocument rule : rules) {
+            if (!rule.isEnabled()) {
+                continue;
+            }
+            boolean valid = operatorRegistry.getOperator(rule.getOperator())
+                    .map(operator -> validate(operator, rule))
+                    .orElse(false);
+            if (!valid) {
+                log.warn("Scoring rule for {} is invalid: operator {} rejects its parameters or does not exist",
+                        rule.getMetricKey(), rule.getOperator());
+                invalid.add(String.valueOf(rule.getMetricKey()));
+            }
+        }
+        return invalid;
+    }
+    
+    private static boolean validate(ScoringOperator operator, SignalScoringRuleDocument rule) {
+        try {
+            return operator.validateParameters(rule.getParameters());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+    
+    private List<WorkloadItem> loadWorkload() throws Exception {
+        if (properties.getWorkload() == null || !properties.getWorkload().exists()) {
+            return List.of();
+        }
+        try (InputStream in = properties.getWorkload().getInputStream()) {
+            return objectMapper.readValue(in, new TypeReference<List<WorkloadItem>>() {});
+        }
+    }
+    
+    private void replay(WorkloadItem item, int iteration) {
+        String entityId = "warmup-" + (iteration % 16);
+        List<Signal> signals = adapterService.adaptToSignals(
+                item.sourceType(), entityId, item.entityType(), entityId, item.data());
+        List<DebtContribution> debtContributions = debtService.computeDebtContributions(signals);
+        healthScoreEngine.evaluate(item.entityType(), entityId, signals, debtContributions);
+    }
+    
+    private static long elapsedMillis(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,224 @@
+package com.org.healthscore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.org.healthscore.observability.MongoCommandMetrics;
+import com.org.healthscore.repository.CachingScoringConfigStore;
+import com.org.healthscore.repository.ReactiveScoreStore;
+import com.org.healthscore.repository.ReactiveSignalStore;
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.ToolSubscriptionStore;
+import com.org.healthscore.repository.ToolSyncStateStore;
+import com.org.healthscore.repository.WriteBehindScoreStore;
+import com.org.healthscore.repository.memory.InMemoryReactiveScoreStore;
+import com.org.healthscore.repository.memory.InMemoryReactiveSignalStore;
+import com.org.healthscore.repository.memory.InMemoryScoreStore;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.memory.InMemorySignalStore;
+import com.org.healthscore.repository.memory.InMemoryToolSubscriptionStore;
+import com.org.healthscore.repository.memory.InMemoryToolSyncStateStore;
+import com.org.healthscore.repository.mongo.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Storage engine selection.
+ * 
+ * MongoDB is the default. The "memory" profile swaps in concurrent in-memory stores
+ * (and disables MongoDB auto-configuration, see application-memory.yml) for
+ * embedded runs, benchmarks and database-less edge deployments. With
+ * {@code healthscore.api.reactive.enabled}, each engine also provides non-blocking stores for
+ * the reactive API: the reactive MongoDB driver, or adapters over the in-memory stores.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({WriteBehindProperties.class, ScoringConfigCacheProperties.class})
+public class StorageConfig {
+    
+    public static final String MEMORY_PROFILE = "memory";
+    
+    /**
+     * Wraps the engine's score store in a write-behind buffer when enabled.
+     * The returned bean is AutoCloseable, so pending scores are flushed on context shutdown.
+     */
+    static ScoreStore withWriteBehind(ScoreStore store, WriteBehindProperties writeBehind, 
+                                      MeterRegistry meterRegistry) {
+        if (!writeBehind.isEnabled()) {
+            return store;
+        }
+        log.info("Write-behind score persistence enabled (batch {}, interval {})", 
+                writeBehind.getBatchSize(), writeBehind.getFlushInterval());
+        return new WriteBehindScoreStore(store, writeBehind.getCapacity(), writeBehind.getBatchSize(),
+                writeBehind.getFlushInterval(), writeBehind.getMaxAttempts(), meterRegistry);
+    }
+    
+    @Configuration
+    @Profile("!" + MEMORY_PROFILE)
+    static class MongoStorage {
+        
+        /**
+         * Command latency, pool wait and slow-command capture on both clients (blocking and reactive).
+         */
+        @Bean
+        public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MongoCommandMetrics commandMetrics) {
+            return settings -> settings
+                    .addCommandListener(commandMetrics)
+                    .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(commandMetrics));
+        }
+        
+        @Bean
+        public SignalStore signalStore(SignalRepository signalRepository) {
+            return new MongoSignalStore(signalRepository);
+        }
+        
+        @Bean
+        public ScoreStore scoreStore(ScoreRepository scoreRepository, WriteBehindProperties writeBehind,
+                                     MeterRegistry meterRegistry) {
+            return withWriteBehind(new MongoScoreStore(scoreRepository), writeBehind, meterRegistry);
+        }
+        
+        @Bean
+        public ScoringConfigStore scoringConfigStore(AdapterSignalDefinitionRepository definitionRepository,
+                                                     SignalScoringRuleRepository scoringRuleRepository,
+                                                     DebtSignalContributionRepository debtContributionRepository,
+                                                     DebtDimensionWeightRepository dimensionWeightRepository,
+                                                     ScoringConfigCacheProperties cache) {
+            ScoringConfigStore store = new MongoScoringConfigStore(definitionRepository, scoringRuleRepository,
+                    debtContributionRepository, dimensionWeightRepository);
+            // Loaded by the startup warm-up or the first refresh, never on the startup thread
+            return cache.isEnabled() ? new CachingScoringConfigStore(store, cache.getRefreshInterval()) : store;
+        }
+        
+        /**
+         * The reactive driver has its own connection pool and monitor threads, so its client is only
+         * created for the reactive API (the reactive auto-configuration is excluded in application.yml).
+         * It is configured like the blocking client: same connection details and customizers.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+        public com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient(
+                MongoConnectionDetails connectionDetails, ObjectProvider<MongoClientSettingsBuilderCustomizer> customizers) {
+            MongoClientSettings.Builder settings = MongoClientSettings.builder()
+                    .applyConnectionString(connectionDetails.getConnectionString());
+            customizers.orderedStream().forEach(customizer -> customizer.customize(settings));
+            return MongoClients.create(settings.build());
+        }
+        
+        @Bean
+        @ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+        public ReactiveMongoTemplate reactiveMongoTemplate(com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient,
+                                                           MongoProperties mongoProperties,
+                                                           MongoMappingContext mappingContext,
+                                                           MongoCustomConversions conversions) {
+            MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+            converter.setCustomConversions(conversions);
+            converter.afterPropertiesSet();
+            return new ReactiveMongoTemplate(new SimpleReactiveMongoDatabaseFactory(
+                    reactiveMongoClient, mongoProperties.getMongoClientDatabase()), converter);
+        }
+        
+        /**
+         * Scores written here bypass write-behind; reads see them once MongoDB has them.
+         */
+        @Bean
+        @ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+        public ReactiveScoreStore reactiveScoreStore(ReactiveMongoTemplate reactiveMongoTemplate) {
+            return new ReactiveMongoScoreStore(reactiveMongoTemplate);
+        }
+        
+        @Bean
+        @ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+        public ReactiveSignalStore reactiveSignalStore(ReactiveMongoTemplate reactiveMongoTemplate) {
+            return new ReactiveMongoSignalStore(reactiveMongoTemplate);
+        }
+        
+        @Bean
+        public ToolSyncStateStore toolSyncStateStore(ToolSyncStateRepository toolSyncStateRepository,
+                                                     MongoTemplate mongoTemplate) {
+            return new MongoToolSyncStateStore(toolSyncStateRepository, mongoTemplate);
+        }
+        
+        @Bean
+        public ToolSubscriptionStore toolSubscriptionStore(ToolSubscriptionRepository toolSubscriptionRepository,
+                                                           MongoTemplate mongoTemplate) {
+            return new MongoToolSubscriptionStore(toolSubscriptionRepository, mongoTemplate);
+        }
+    }
+    
+    @Configuration
+    @Profile(MEMORY_PROFILE)
+    static class InMemoryStorage {
+        
+        @Bean
+        public SignalStore signalStore() {
+            return new InMemorySignalStore();
+        }
+        
+        @Bean
+        public ScoreStore scoreStore(WriteBehindProperties writeBehind, MeterRegistry meterRegistry) {
+            return withWriteBehind(new InMemoryScoreStore(), writeBehind, meterRegistry);
+        }
+        
+        @Bean
+        public ScoringConfigStore scoringConfigStore(
+                ObjectMapper objectMapper,
+                @Value("${healthscore.storage.memory.seed:classpath:memory-seed.json}") Resource seed) throws IOException {
+            InMemoryScoringConfigStore store = new InMemoryScoringConfigStore();
+            if (seed.exists()) {
+                try (InputStream in = seed.getInputStream()) {
+                    store.load(objectMapper.readValue(in, InMemoryScoringConfigStore.Seed.class));
+                }
+                log.info("Loaded in-memory scoring configuration from {}", seed.getDescription());
+            } else {
+                log.warn("No in-memory scoring configuration seed at {}", seed.getDescription());
+            }
+            return store;
+        }
+        
+        @Bean
+        @ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+        public ReactiveScoreStore reactiveScoreStore(ScoreStore scoreStore) {
+            return new InMemoryReactiveScoreStore(scoreStore);
+        }
+        
+        @Bean
+        @ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+        public ReactiveSignalStore reactiveSignalStore(SignalStore signalStore) {
+            return new InMemoryReactiveSignalStore(signalStore);
+        }
+        
+        @Bean
+        public ToolSyncStateStore toolSyncStateStore() {
+            return new InMemoryToolSyncStateStore();
+        }
+        
+        @Bean
+        public ToolSubscriptionStore toolSubscriptionStore() {
+            return new InMemoryToolSubscriptionStore();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.org.healthscore.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/warmup}: timing and findings of the startup warm-up; 404 while it runs or
+ * when it is disabled.
+ */
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+    
+    private final StartupWarmup startupWarmup;
+    
+    @ReadOperation
+    public StartupWarmup.Report warmup() {
+        return startupWarmup.report();
+    }
+}
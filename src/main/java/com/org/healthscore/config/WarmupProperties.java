@@ -0,0 +1,35 @@
+package com.org.healthscore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+/**
+ * Startup warm-up settings ({@code healthscore.warmup.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.warmup")
+public class WarmupProperties {
+    
+    /**
+     * Hold readiness until configuration is loaded and the synthetic workload has run.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Synthetic ingest payloads replayed through adapt, debt and score computation.
+     */
+    private Resource workload;
+    
+    /**
+     * Replays of the whole workload; enough for the hot paths to reach the optimizing compiler.
+     */
+    private int iterations = 2_000;
+    
+    /**
+     * Readiness is released after this long even if warm-up has not finished.
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,40 @@
+package com.org.healthscore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Write-behind score persistence settings ({@code healthscore.scores.write-behind.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.scores.write-behind")
+public class WriteBehindProperties {
+    
+    /**
+     * Buffer computed scores and persist them in the background instead of on the request thread.
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Maximum number of buffered scores. When full, callers flush synchronously (backpressure).
+     */
+    private int capacity = 10_000;
+    
+    /**
+     * Flush when this many scores are pending.
+     */
+    private int batchSize = 500;
+    
+    /**
+     * Flush at least this often while scores are pending.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+    
+    /**
+     * Write attempts per batch, one second apart, before the flush fails. The batch is kept and
+     * retried by the next flush; meanwhile callers blocked on a full buffer get the error.
+     */
+    private int maxAttempts = 5;
+}
@@ -2,8 +2,8 @@ package com.org.healthscore.core.debt;
 
 import com.org.healthscore.domain.DebtContribution;
 import com.org.healthscore.domain.Signal;
-import com.org.healthscore.repository.mongo.DebtSignalContributionDocument;
-import com.org.healthscore.repository.mongo.DebtSignalContributionRepository;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +21,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class DebtService {
     
-    private final DebtSignalContributionRepository debtContributionRepository;
+    private final ScoringConfigStore configStore;
     
     /**
      * Compute debt contributions for a list of signals.
@@ -37,8 +37,7 @@ public class DebtService {
     }
     
     private Optional<DebtContribution> computeDebtForSignal(Signal signal) {
-        DebtSignalContributionDocument config = 
-                debtContributionRepository.findByMetricKey(signal.getMetricKey());
+        DebtSignalContributionDocument config = configStore.findDebtContribution(signal.getMetricKey());
         
         if (config == null || !config.isEnabled()) {
             return Optional.empty();
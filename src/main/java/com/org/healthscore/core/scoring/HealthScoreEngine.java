@@ -1,11 +1,14 @@
 package com.org.healthscore.core.scoring;
 
+import com.org.healthscore.domain.DebtContribution;
 import com.org.healthscore.domain.HealthScore;
 import com.org.healthscore.domain.Signal;
-import com.org.healthscore.repository.mongo.DebtDimensionWeightDocument;
-import com.org.healthscore.repository.mongo.DebtDimensionWeightRepository;
-import com.org.healthscore.repository.mongo.ScoreDocument;
-import com.org.healthscore.repository.mongo.ScoreRepository;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.observability.jfr.ScoreComputationEvent;
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.ScoreDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,8 +32,9 @@ public class HealthScoreEngine {
     private static final String COMPUTATION_VERSION = "1.0.0";
     
     private final SignalScoringService signalScoringService;
-    private final DebtDimensionWeightRepository dimensionWeightRepository;
-    private final ScoreRepository scoreRepository;
+    private final ScoringConfigStore configStore;
+    private final ScoreStore scoreStore;
+    private final PipelineMetrics pipelineMetrics;
     
     /**
      * Compute health score for an entity from its signals.
@@ -41,9 +45,44 @@ public class HealthScoreEngine {
      * @return Computed health score
      */
     public HealthScore computeHealthScore(String entityType, String entityId, List<Signal> signals) {
+        return computeHealthScore(entityType, entityId, signals, Collections.emptyList());
+    }
+    
+    /**
+     * Compute health score for an entity and persist it with its debt contributions.
+     * 
+     * @param debtContributions Debt contributions computed by DebtService for the same signals
+     */
+    public HealthScore computeHealthScore(String entityType, String entityId, List<Signal> signals,
+                                          List<DebtContribution> debtContributions) {
+        ScoreComputationEvent event = new ScoreComputationEvent();
+        event.start();
+        
+        HealthScore healthScore = evaluate(entityType, entityId, signals, debtContributions);
+        
+        // Persist the score
+        saveScore(healthScore);
+        
+        event.finish(entityType, entityId, null, signals.size());
+        return healthScore;
+    }
+    
+    /**
+     * Compute a health score without persisting it (startup warm-up, what-if evaluation).
+     */
+    public HealthScore evaluate(String entityType, String entityId, List<Signal> signals,
+                                List<DebtContribution> debtContributions) {
         // Score all signals
-        List<SignalScoreResult> signalScores = signalScoringService.scoreSignals(signals);
+        List<SignalScoreResult> signalScores = pipelineMetrics.timeEntity("score", entityType,
+                () -> signalScoringService.scoreSignals(signals));
         
+        // Aggregate into dimension and overall scores
+        return pipelineMetrics.timeEntity("aggregate", entityType,
+                () -> aggregate(entityType, entityId, signalScores, debtContributions));
+    }
+    
+    private HealthScore aggregate(String entityType, String entityId, List<SignalScoreResult> signalScores,
+                                  List<DebtContribution> debtContributions) {
         // Group by dimension
         Map<String, List<SignalScoreResult>> byDimension = signalScores.stream()
                 .collect(Collectors.groupingBy(SignalScoreResult::dimension));
@@ -71,28 +110,22 @@ public class HealthScoreEngine {
         }
         
         // Get dimension weights from config
-        List<DebtDimensionWeightDocument> dimensionWeights = 
-                dimensionWeightRepository.findByEntityTypeOrderByDisplayOrder(entityType);
+        List<DebtDimensionWeightDocument> dimensionWeights = configStore.findDimensionWeights(entityType);
         
         // Compute overall score
         BigDecimal overallScore = computeOverallScore(dimensionScores, dimensionWeights);
         
         // Build health score
-        HealthScore healthScore = HealthScore.builder()
+        return HealthScore.builder()
                 .id(UUID.randomUUID().toString())
                 .entityType(entityType)
                 .entityId(entityId)
                 .overallScore(overallScore)
                 .dimensionScores(dimensionScores)
-                .debtContributions(Collections.emptyList()) // Computed by DebtService
+                .debtContributions(debtContributions)
                 .computedAt(Instant.now())
                 .computationVersion(COMPUTATION_VERSION)
                 .build();
-        
-        // Persist the score
-        saveScore(healthScore);
-        
-        return healthScore;
     }
     
     private BigDecimal computeOverallScore(Map<String, BigDecimal> dimensionScores,
@@ -125,16 +158,7 @@ public class HealthScoreEngine {
     }
     
     private void saveScore(HealthScore healthScore) {
-        ScoreDocument doc = new ScoreDocument();
-        doc.setId(healthScore.getId());
-        doc.setEntityType(healthScore.getEntityType());
-        doc.setEntityId(healthScore.getEntityId());
-        doc.setOverallScore(healthScore.getOverallScore());
-        doc.setDimensionScores(healthScore.getDimensionScores());
-        doc.setComputedAt(healthScore.getComputedAt());
-        doc.setComputationVersion(healthScore.getComputationVersion());
-        
-        scoreRepository.save(doc);
+        scoreStore.save(ScoreDocument.from(healthScore));
         log.info("Saved health score {} for {}/{}", 
                 healthScore.getOverallScore(), healthScore.getEntityType(), healthScore.getEntityId());
     }
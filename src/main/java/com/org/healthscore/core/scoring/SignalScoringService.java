@@ -4,8 +4,10 @@ import com.org.healthscore.core.operators.OperatorRegistry;
 import com.org.healthscore.core.operators.ScoringOperator;
 import com.org.healthscore.domain.CanonicalForm;
 import com.org.healthscore.domain.Signal;
-import com.org.healthscore.repository.mongo.SignalScoringRuleDocument;
-import com.org.healthscore.repository.mongo.SignalScoringRuleRepository;
+import com.org.healthscore.observability.ScoringStats;
+import com.org.healthscore.observability.ScoringStats.Outcome;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import java.util.*;
  * 
  * Uses Strategy pattern with operators fixed in code.
  * Parameters come from MongoDB (signal_scoring_rules collection).
+ * Every rule evaluation is recorded in {@link ScoringStats}, including the ones that yield no score.
  */
 @Slf4j
 @Service
@@ -25,7 +28,8 @@ import java.util.*;
 public class SignalScoringService {
     
     private final OperatorRegistry operatorRegistry;
-    private final SignalScoringRuleRepository scoringRuleRepository;
+    private final ScoringConfigStore configStore;
+    private final ScoringStats scoringStats;
     
     /**
      * Score a signal using the configured rule.
@@ -34,7 +38,7 @@ public class SignalScoringService {
      * @return Score result, or empty if no rule exists for this signal
      */
     public Optional<SignalScoreResult> scoreSignal(Signal signal) {
-        SignalScoringRuleDocument rule = scoringRuleRepository.findByMetricKey(signal.getMetricKey());
+        SignalScoringRuleDocument rule = configStore.findScoringRule(signal.getMetricKey());
         
         if (rule == null || !rule.isEnabled()) {
             log.debug("No active scoring rule for metric: {}", signal.getMetricKey());
@@ -53,6 +57,7 @@ public class SignalScoringService {
         if (signal.getCanonicalForm() != requiredForm) {
             log.warn("Signal {} has form {} but rule requires {}", 
                     signal.getMetricKey(), signal.getCanonicalForm(), requiredForm);
+            scoringStats.record(signal.getMetricKey(), rule.getOperator(), Outcome.FORM_MISMATCH);
             return Optional.empty();
         }
         
@@ -60,6 +65,7 @@ public class SignalScoringService {
         Optional<ScoringOperator> operatorOpt = operatorRegistry.getOperator(rule.getOperator());
         if (operatorOpt.isEmpty()) {
             log.error("Unknown operator: {} for metric: {}", rule.getOperator(), signal.getMetricKey());
+            scoringStats.record(signal.getMetricKey(), rule.getOperator(), Outcome.UNKNOWN_OPERATOR);
             return Optional.empty();
         }
         
@@ -72,6 +78,7 @@ public class SignalScoringService {
         if (!supportsForm) {
             log.error("Operator {} does not support canonical form {}", 
                     rule.getOperator(), signal.getCanonicalForm());
+            scoringStats.record(signal.getMetricKey(), rule.getOperator(), Outcome.UNSUPPORTED_FORM);
             return Optional.empty();
         }
         
@@ -79,13 +86,16 @@ public class SignalScoringService {
         if (!operator.validateParameters(rule.getParameters())) {
             log.error("Invalid parameters for operator {} on metric {}", 
                     rule.getOperator(), signal.getMetricKey());
+            scoringStats.record(signal.getMetricKey(), rule.getOperator(), Outcome.INVALID_PARAMETERS);
             return Optional.empty();
         }
         
         // Compute score
+        long start = System.nanoTime();
         try {
             BigDecimal score = operator.compute(signal, rule.getParameters());
             BigDecimal weight = BigDecimal.valueOf(rule.getWeight());
+            scoringStats.record(signal.getMetricKey(), rule.getOperator(), Outcome.SUCCESS, System.nanoTime() - start);
             
             return Optional.of(SignalScoreResult.of(
                     signal,
@@ -96,6 +106,7 @@ public class SignalScoringService {
             ));
         } catch (Exception e) {
             log.error("Error computing score for signal {}: {}", signal.getMetricKey(), e.getMessage(), e);
+            scoringStats.record(signal.getMetricKey(), rule.getOperator(), Outcome.FAILURE, System.nanoTime() - start);
             return Optional.empty();
         }
     }
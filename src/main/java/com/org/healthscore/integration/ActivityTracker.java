@@ -0,0 +1,61 @@
+package com.org.healthscore.integration;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Last time each entity was read or computed, so scheduled sync can favor entities in use.
+ * 
+ * Kept in memory only: after a restart every entity starts idle and becomes active again on use.
+ * Nothing is tracked while scheduled sync is off. Entity ids come from request paths (including
+ * unknown ones), so at most {@code healthscore.sync.max-tracked-entities} are kept: when full,
+ * activity older than the activity window is dropped, and if that frees nothing new entities are
+ * not tracked until the scheduler prunes.
+ */
+@Component
+public class ActivityTracker {
+    
+    private final ConcurrentMap<String, Instant> lastActivity = new ConcurrentHashMap<>();
+    private final SyncProperties properties;
+    
+    public ActivityTracker(SyncProperties properties) {
+        this.properties = properties;
+    }
+    
+    public void touch(String entityType, String entityId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        String key = key(entityType, entityId);
+        if (lastActivity.size() >= properties.getMaxTrackedEntities() && !lastActivity.containsKey(key)) {
+            prune(now.minus(properties.getActivityWindow()));
+            if (lastActivity.size() >= properties.getMaxTrackedEntities()) {
+                return;
+            }
+        }
+        lastActivity.put(key, now);
+    }
+    
+    public Instant lastActivity(String entityType, String entityId) {
+        return lastActivity.get(key(entityType, entityId));
+    }
+    
+    /**
+     * Forget activity older than the cutoff (it no longer affects priority).
+     */
+    public void prune(Instant cutoff) {
+        lastActivity.values().removeIf(at -> at.isBefore(cutoff));
+    }
+    
+    int size() {
+        return lastActivity.size();
+    }
+    
+    private static String key(String entityType, String entityId) {
+        return entityType + ":" + entityId;
+    }
+}
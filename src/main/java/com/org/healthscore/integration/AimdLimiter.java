@@ -0,0 +1,81 @@
+package com.org.healthscore.integration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Additive-increase / multiplicative-decrease concurrency limit.
+ * 
+ * Each successful, fast-enough completion raises the limit by 1/limit (about +1 per
+ * limit's worth of completions); a slow or failed one halves it.
+ */
+class AimdLimiter {
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int min;
+    private final int max;
+    private double limit;
+    private int inFlight;
+    
+    AimdLimiter(int initial, int min, int max) {
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.limit = Math.clamp(initial, this.min, this.max);
+    }
+    
+    /**
+     * Wait for a slot under the current limit.
+     * 
+     * @return false if no slot freed up before the deadline
+     */
+    boolean acquire(long deadlineNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                released.await(remaining, TimeUnit.NANOSECONDS);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Return a slot and adjust the limit by the call's outcome.
+     */
+    void release(boolean healthy) {
+        lock.lock();
+        try {
+            inFlight--;
+            limit = healthy ? Math.min(max, limit + 1 / limit) : Math.max(min, limit / 2);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.parser.ToolApiClient;
+import com.org.healthscore.parser.ToolDataParser;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Default pipeline: the client's raw responses parsed as they arrive.
+ */
+@RequiredArgsConstructor
+class ClientParserIntegration implements ToolIntegration {
+    
+    private final ToolApiClient client;
+    private final ToolDataParser parser;
+    private final PipelineMetrics pipelineMetrics;
+    
+    @Override
+    public String getSourceType() {
+        return client.getSourceType();
+    }
+    
+    @Override
+    public String sourceId(String entityId, Map<String, String> config) {
+        return client.sourceId(entityId, config);
+    }
+    
+    @Override
+    public Map<String, Object> fetchParsed(String sourceId, Map<String, String> config) {
+        return pipelineMetrics.fetchAndParse(getSourceType(), () -> client.fetch(sourceId, config), parser::parse);
+    }
+}
@@ -0,0 +1,72 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.adapter.IncrementalSyncService;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.parser.SonarApiClient;
+import com.org.healthscore.parser.SonarFetchMode;
+import com.org.healthscore.parser.SonarQubeParser;
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SonarQube pipeline: API → Parser, plus incremental sync against stored state.
+ * 
+ * Issues and facets modes are stateless fetch + parse. Incremental mode fetches only
+ * issues changed since the component's watermark and applies them to the stored counts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SonarQubeIntegration implements ToolIntegration {
+    
+    private final SonarApiClient sonarApiClient;
+    private final SonarQubeParser sonarQubeParser;
+    private final IncrementalSyncService incrementalSyncService;
+    private final PipelineMetrics pipelineMetrics;
+    
+    @Override
+    public String getSourceType() {
+        return sonarApiClient.getSourceType();
+    }
+    
+    @Override
+    public String sourceId(String entityId, Map<String, String> config) {
+        return sonarApiClient.sourceId(entityId, config);
+    }
+    
+    @Override
+    public Map<String, Object> fetchParsed(String componentKey, Map<String, String> config) {
+        SonarFetchMode fetchMode = sonarApiClient.fetchMode(config);
+        if (fetchMode == SonarFetchMode.INCREMENTAL) {
+            return syncIssues(componentKey);
+        }
+        return pipelineMetrics.fetchAndParse(getSourceType(),
+                () -> sonarApiClient.fetch(componentKey, fetchMode), sonarQubeParser::parse);
+    }
+    
+    /**
+     * An unchanged analysis date skips the issue fetch entirely; triage changes made between
+     * analyses (e.g. won't-fix) are picked up with the next analysis.
+     */
+    private Map<String, Object> syncIssues(String componentKey) {
+        Optional<ToolSyncStateDocument> state = incrementalSyncService.findState(getSourceType(), componentKey);
+        String analysisDate = sonarApiClient.fetchAnalysisDate(componentKey);
+        if (state.isPresent() && analysisDate != null && analysisDate.equals(state.get().getLastAnalysisDate())) {
+            log.debug("SonarQube component {} not re-analyzed since {}, reusing counts", componentKey, analysisDate);
+            return incrementalSyncService.toParsedData(state.get());
+        }
+        
+        List<Map<String, Object>> changes = pipelineMetrics.fetchAndParse(getSourceType(),
+                () -> sonarApiClient.streamIssueChanges(
+                        componentKey, state.map(ToolSyncStateDocument::getWatermark).orElse(null)),
+                sonarQubeParser::parseIssueChanges);
+        return incrementalSyncService.toParsedData(incrementalSyncService.apply(
+                getSourceType(), componentKey, state.orElse(null), analysisDate, changes));
+    }
+}
@@ -0,0 +1,85 @@
+package com.org.healthscore.integration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scheduled fleet sync settings ({@code healthscore.sync.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.sync")
+public class SyncProperties {
+    
+    /**
+     * Sync subscribed entities on a schedule.
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Delay between scheduling passes; a pass dispatches for at most this long.
+     */
+    private Duration tick = Duration.ofSeconds(30);
+    
+    /**
+     * Sync interval for entities with activity (score reads, computes, integrations) within activityWindow.
+     */
+    private Duration activeInterval = Duration.ofMinutes(5);
+    
+    /**
+     * Sync interval for all other entities.
+     */
+    private Duration idleInterval = Duration.ofHours(1);
+    
+    private Duration activityWindow = Duration.ofHours(1);
+    
+    /**
+     * Entities whose activity is remembered at once; activity beyond this is not tracked.
+     */
+    private int maxTrackedEntities = 100_000;
+    
+    /**
+     * Per-tool rate and concurrency, keyed by source type. Tools without an entry use the defaults.
+     */
+    private Map<String, ToolRate> tools = new HashMap<>();
+    
+    public ToolRate rateFor(String tool) {
+        return tools.getOrDefault(tool, new ToolRate());
+    }
+    
+    @Data
+    public static class ToolRate {
+        
+        /**
+         * Token bucket: sustained sync starts per second.
+         */
+        private double ratePerSecond = 2.0;
+        
+        /**
+         * Token bucket: starts allowed in a burst after idling.
+         */
+        private int burst = 10;
+        
+        /**
+         * AIMD: concurrent syncs at startup, and the bounds the limit moves within.
+         */
+        private int initialConcurrency = 2;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 8;
+        
+        /**
+         * Workers of the tool's integration executor kept free for interactive integrations:
+         * the concurrency limit never exceeds the executor's max-concurrency minus this (at least 1).
+         */
+        private int reservedConcurrency = 1;
+        
+        /**
+         * AIMD: syncs slower than this (or failing) halve the concurrency limit;
+         * faster ones raise it by about one per limit's worth of completions.
+         */
+        private Duration targetLatency = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,50 @@
+package com.org.healthscore.integration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket rate limiter. Callers reserve a token and sleep until it is due,
+ * so waiting callers are served in order at the configured rate.
+ */
+class TokenBucket {
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+    
+    TokenBucket(double ratePerSecond, int burst) {
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+    
+    /**
+     * Take a token, waiting for it if needed.
+     * 
+     * @return false, without taking a token, if it would not be available before the deadline
+     */
+    boolean acquire(long deadlineNanos) throws InterruptedException {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+            if (now + waitNanos - deadlineNanos > 0) {
+                return false;
+            }
+            tokens -= 1;
+        } finally {
+            lock.unlock();
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+}
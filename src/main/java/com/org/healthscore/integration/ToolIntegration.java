@@ -0,0 +1,27 @@
+package com.org.healthscore.integration;
+
+import java.util.Map;
+
+/**
+ * One external tool's fetch + parse pipeline, producing the normalized structure the adapter consumes.
+ * 
+ * Tools with a {@code ToolApiClient} and a {@code ToolDataParser} of the same source type get a
+ * default pipeline from {@link ToolRegistry}. Tools needing more orchestration (e.g. stateful
+ * incremental sync) declare a ToolIntegration bean, which takes precedence.
+ */
+public interface ToolIntegration {
+    
+    String getSourceType();
+    
+    /**
+     * The tool's identifier for an entity (e.g. a SonarQube component key).
+     */
+    String sourceId(String entityId, Map<String, String> config);
+    
+    /**
+     * Fetch and parse the tool's data for a source.
+     * 
+     * @return Normalized map structure for adapter processing (empty if the tool returned nothing)
+     */
+    Map<String, Object> fetchParsed(String sourceId, Map<String, String> config);
+}
@@ -0,0 +1,43 @@
+package com.org.healthscore.integration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-tool integration isolation ({@code healthscore.integration.*}).
+ * 
+ * Tools without an entry under {@code tools} use the defaults below.
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.integration")
+public class ToolIntegrationProperties {
+    
+    private Map<String, Limits> tools = new HashMap<>();
+    
+    public Limits limitsFor(String tool) {
+        return tools.getOrDefault(tool, new Limits());
+    }
+    
+    @Data
+    public static class Limits {
+        
+        /**
+         * Integrations of this tool running at once (threads in its dedicated pool).
+         */
+        private int maxConcurrency = 4;
+        
+        /**
+         * Integrations waiting for a thread; beyond this, new ones are rejected.
+         */
+        private int queueCapacity = 50;
+        
+        /**
+         * How long a caller waits for one integration (fetch + parse + adapt).
+         */
+        private Duration timeout = Duration.ofMinutes(2);
+    }
+}
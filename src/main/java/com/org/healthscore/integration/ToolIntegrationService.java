@@ -0,0 +1,106 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.adapter.SignalAdapterService;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.observability.jfr.IngestEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Orchestrates: Tool API call → Parser → Adapter, on the tool's own executor.
+ * 
+ * No parsing, normalization, or business logic here.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToolIntegrationService {
+    
+    private final ToolRegistry toolRegistry;
+    private final SignalAdapterService adapterService;
+    
+    /**
+     * Start an integration on the tool's executor.
+     * 
+     * @throws IllegalArgumentException if no integration is registered for the tool
+     * @throws java.util.concurrent.RejectedExecutionException if the tool's queue is full
+     */
+    public Integration submit(String tool, String entityType, String entityId, Map<String, String> config) {
+        ToolRegistry.RegisteredTool registered = toolRegistry.find(tool)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown tool: " + tool));
+        
+        CompletableFuture<List<Signal>> signals = CompletableFuture.supplyAsync(
+                () -> integrate(registered.integration(), entityType, entityId, config),
+                registered.executor());
+        return new Integration(tool, signals.orTimeout(registered.limits().getTimeout().toMillis(), 
+                TimeUnit.MILLISECONDS));
+    }
+    
+    /**
+     * Integrate synchronously on the tool's executor.
+     */
+    public List<Signal> integrate(String tool, String entityType, String entityId, Map<String, String> config) {
+        return submit(tool, entityType, entityId, config).await();
+    }
+    
+    /**
+     * Executor limits of a registered tool.
+     */
+    public Optional<ToolIntegrationProperties.Limits> limits(String tool) {
+        return toolRegistry.find(tool).map(ToolRegistry.RegisteredTool::limits);
+    }
+    
+    private List<Signal> integrate(ToolIntegration integration, String entityType, String entityId,
+                                   Map<String, String> config) {
+        String sourceId = integration.sourceId(entityId, config);
+        IngestEvent event = new IngestEvent();
+        event.start();
+        
+        // Step 1 + 2: Fetch raw responses (client) and parse them (parser)
+        Map<String, Object> parsedData = integration.fetchParsed(sourceId, config);
+        if (parsedData.isEmpty()) {
+            log.warn("Empty response from {} for source: {}", integration.getSourceType(), sourceId);
+            event.finish(entityType, entityId, integration.getSourceType(), 0);
+            return List.of();
+        }
+        
+        // Step 3: Adapt parsed data into canonical signals (Adapter responsibility)
+        List<Signal> signals = adapterService.adaptToSignals(
+                integration.getSourceType(), sourceId, entityType, entityId, parsedData);
+        event.finish(entityType, entityId, integration.getSourceType(), signals.size());
+        return signals;
+    }
+    
+    /**
+     * A running integration.
+     */
+    public record Integration(String tool, CompletableFuture<List<Signal>> signals) {
+        
+        /**
+         * Wait for the signals, rethrowing the integration's failure unwrapped.
+         */
+        public List<Signal> await() {
+            try {
+                return signals.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    // The worker keeps its thread until the tool's transport timeouts release it
+                    throw new IllegalStateException("Timed out integrating " + tool, e.getCause());
+                }
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.parser.ToolApiClient;
+import com.org.healthscore.parser.ToolDataParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of external tool integrations, keyed by source type.
+ * 
+ * Discovers {@link ToolIntegration} beans and pairs every remaining {@link ToolApiClient} with
+ * the {@link ToolDataParser} of the same source type, so a new tool plugs in by declaring its
+ * client and parser. Each tool runs on its own bounded pool ({@code healthscore.integration.tools.<tool>}),
+ * so a slow tool only exhausts its own threads. With {@code spring.threads.virtual.enabled} the pool
+ * threads are virtual; the pool still bounds each tool's concurrency and queue.
+ */
+@Slf4j
+@Component
+public class ToolRegistry {
+    
+    private final Map<String, RegisteredTool> tools;
+    
+    public ToolRegistry(List<ToolIntegration> integrations, List<ToolApiClient> clients, 
+                        List<ToolDataParser> parsers, ToolIntegrationProperties properties,
+                        PipelineMetrics pipelineMetrics, MeterRegistry meterRegistry,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        Map<String, ToolIntegration> bySourceType = new HashMap<>();
+        integrations.forEach(integration -> register(bySourceType, integration));
+        
+        Map<String, ToolDataParser> parsersBySourceType = parsers.stream()
+                .collect(Collectors.toMap(ToolDataParser::getSourceType, Function.identity()));
+        for (ToolApiClient client : clients) {
+            if (bySourceType.containsKey(client.getSourceType())) {
+                continue;
+            }
+            ToolDataParser parser = parsersBySourceType.get(client.getSourceType());
+            if (parser == null) {
+                log.warn("Tool client for {} has no parser, not registered", client.getSourceType());
+                continue;
+            }
+            register(bySourceType, new ClientParserIntegration(client, parser, pipelineMetrics));
+        }
+        parsersBySourceType.keySet().stream()
+                .filter(sourceType -> !bySourceType.containsKey(sourceType))
+                .forEach(sourceType -> log.warn("Parser for {} has no tool client, not registered", sourceType));
+        
+        Map<String, RegisteredTool> registered = new TreeMap<>();
+        bySourceType.forEach((sourceType, integration) -> {
+            ToolIntegrationProperties.Limits limits = properties.limitsFor(sourceType);
+            registered.put(sourceType, new RegisteredTool(integration, limits, 
+                    executor(sourceType, limits, meterRegistry, virtualThreads)));
+        });
+        this.tools = Collections.unmodifiableMap(registered);
+        log.info("Registered tool integrations: {}", tools.keySet());
+    }
+    
+    public Optional<RegisteredTool> find(String sourceType) {
+        return Optional.ofNullable(tools.get(sourceType.toLowerCase()));
+    }
+    
+    public List<String> sourceTypes() {
+        return List.copyOf(tools.keySet());
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        tools.values().forEach(tool -> tool.executor().shutdownNow());
+    }
+    
+    private static void register(Map<String, ToolIntegration> bySourceType, ToolIntegration integration) {
+        ToolIntegration existing = bySourceType.putIfAbsent(integration.getSourceType(), integration);
+        if (existing != null) {
+            throw new IllegalStateException("Duplicate tool integration for " + integration.getSourceType());
+        }
+    }
+    
+    private static ThreadPoolExecutor executor(String sourceType, ToolIntegrationProperties.Limits limits,
+                                               MeterRegistry meterRegistry, boolean virtualThreads) {
+        Thread.Builder threads = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                limits.getMaxConcurrency(), limits.getMaxConcurrency(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(limits.getQueueCapacity()),
+                threads.name("tool-" + sourceType + "-", 1).factory());
+        executor.allowCoreThreadTimeOut(true);
+        
+        Tags tags = Tags.of("tool", sourceType);
+        meterRegistry.gauge("healthscore.tool.integration.active", tags, executor, ThreadPoolExecutor::getActiveCount);
+        meterRegistry.gauge("healthscore.tool.integration.queued", tags, executor, e -> e.getQueue().size());
+        return executor;
+    }
+    
+    /**
+     * A tool's pipeline with its dedicated executor.
+     */
+    public record RegisteredTool(ToolIntegration integration, ToolIntegrationProperties.Limits limits,
+                                 ThreadPoolExecutor executor) {
+    }
+}
@@ -0,0 +1,267 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.ToolSubscriptionStore;
+import com.org.healthscore.repository.model.SignalDocument;
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every subscribed entity fresh by syncing it from its tool on a cadence.
+ * 
+ * Each pass selects due subscriptions (active entities every activeInterval, others every
+ * idleInterval), most important first: recently active entities, then the most overdue.
+ * Per tool, syncs are started through a token bucket (rate) and an AIMD limiter
+ * (concurrency adapted to observed latency and failures), and run on the tool's own
+ * integration executor. The concurrency limit stays below the executor's worker count, so
+ * interactive integrations keep reserved workers. Whatever is not dispatched within the pass
+ * stays due for the next.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@ConditionalOnProperty(prefix = "healthscore.sync", name = "enabled", havingValue = "true")
+public class ToolSyncScheduler {
+    
+    private final ToolSubscriptionStore subscriptionStore;
+    private final ToolIntegrationService integrationService;
+    private final SignalStore signalStore;
+    private final ActivityTracker activityTracker;
+    private final SyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ToolThrottle> throttles = new ConcurrentHashMap<>();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatchers;
+    
+    public ToolSyncScheduler(ToolSubscriptionStore subscriptionStore, ToolIntegrationService integrationService,
+                             SignalStore signalStore, ActivityTracker activityTracker, SyncProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.subscriptionStore = subscriptionStore;
+        this.integrationService = integrationService;
+        this.signalStore = signalStore;
+        this.activityTracker = activityTracker;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        
+        // Dispatchers mostly wait on throttles and integrations
+        this.dispatchers = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sync-dispatch-", 1).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("sync-dispatch-", 1).daemon().factory());
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        dispatchers.shutdownNow();
+    }
+    
+    /**
+     * One scheduling pass. Tools are dispatched in parallel, each within the pass's time budget.
+     */
+    @Scheduled(fixedDelayString = "${healthscore.sync.tick:PT30S}", initialDelayString = "${healthscore.sync.tick:PT30S}")
+    public void tick() {
+        Instant now = Instant.now();
+        activityTracker.prune(now.minus(properties.getActivityWindow()));
+        long deadline = System.nanoTime() + properties.getTick().toNanos();
+        
+        Map<String, List<ToolSubscriptionDocument>> byTool = subscriptionStore.findAll().stream()
+                .collect(Collectors.groupingBy(ToolSubscriptionDocument::getTool));
+        
+        List<CompletableFuture<Void>> passes = byTool.entrySet().stream()
+                .map(entry -> {
+                    ToolThrottle throttle = throttle(entry.getKey());
+                    List<Candidate> due = dueInOrder(entry.getValue(), now, throttle);
+                    return CompletableFuture.runAsync(() -> dispatch(entry.getKey(), due, throttle, deadline), 
+                            dispatchers);
+                })
+                .toList();
+        CompletableFuture.allOf(passes.toArray(CompletableFuture[]::new)).join();
+    }
+    
+    /**
+     * Due subscriptions, active entities first, then the most overdue. Also refreshes lag gauges.
+     */
+    private List<Candidate> dueInOrder(List<ToolSubscriptionDocument> subscriptions, Instant now, 
+                                       ToolThrottle throttle) {
+        Instant activeSince = now.minus(properties.getActivityWindow());
+        long maxLagSeconds = 0;
+        int overdue = 0;
+        
+        List<Candidate> due = new ArrayList<>();
+        for (ToolSubscriptionDocument subscription : subscriptions) {
+            Instant lastSynced = subscription.getLastSyncedAt() != null 
+                    ? subscription.getLastSyncedAt() : subscription.getCreatedAt();
+            if (lastSynced != null) {
+                maxLagSeconds = Math.max(maxLagSeconds, Duration.between(lastSynced, now).toSeconds());
+            }
+            
+            Instant activity = activityTracker.lastActivity(subscription.getEntityType(), subscription.getEntityId());
+            boolean active = activity != null && activity.isAfter(activeSince);
+            Duration interval = active ? properties.getActiveInterval() : properties.getIdleInterval();
+            Instant dueAt = subscription.getLastAttemptAt() == null 
+                    ? Instant.MIN : subscription.getLastAttemptAt().plus(interval);
+            if (!dueAt.isAfter(now) && !running.contains(subscription.getId())) {
+                due.add(new Candidate(subscription, active, dueAt));
+                overdue++;
+            }
+        }
+        throttle.maxLagSeconds().set(maxLagSeconds);
+        throttle.due().set(overdue);
+        
+        due.sort(Comparator.comparing(Candidate::active).reversed().thenComparing(Candidate::dueAt));
+        return due;
+    }
+    
+    private void dispatch(String tool, List<Candidate> due, ToolThrottle throttle, long deadline) {
+        int started = 0;
+        try {
+            for (Candidate candidate : due) {
+                if (!throttle.rate().acquire(deadline) || !throttle.concurrency().acquire(deadline)) {
+                    break;
+                }
+                if (!start(tool, candidate.subscription(), throttle)) {
+                    break;
+                }
+                started++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (started > 0 || !due.isEmpty()) {
+            log.debug("Sync pass for {}: started {} of {} due (concurrency limit {})", 
+                    tool, started, due.size(), throttle.concurrency().limit());
+        }
+    }
+    
+    /**
+     * @return false if the tool refused more work (its queue is full) - stop dispatching to it this pass
+     */
+    private boolean start(String tool, ToolSubscriptionDocument subscription, ToolThrottle throttle) {
+        long startNanos = System.nanoTime();
+        ToolIntegrationService.Integration integration;
+        try {
+            integration = integrationService.submit(
+                    tool, subscription.getEntityType(), subscription.getEntityId(), subscription.getConfig());
+        } catch (RejectedExecutionException e) {
+            throttle.concurrency().release(false);
+            return false;
+        } catch (IllegalArgumentException e) {
+            throttle.concurrency().release(true);
+            log.warn("Skipping subscription {}: {}", subscription.getId(), e.getMessage());
+            return false;
+        }
+        
+        running.add(subscription.getId());
+        integration.signals().whenComplete((signals, error) -> {
+            long nanos = System.nanoTime() - startNanos;
+            try {
+                throttle.concurrency().release(
+                        error == null && nanos <= throttle.targetLatency().toNanos());
+                complete(subscription, signals, error, nanos);
+            } finally {
+                running.remove(subscription.getId());
+            }
+        });
+        return true;
+    }
+    
+    private void complete(ToolSubscriptionDocument subscription, List<Signal> signals, Throwable error, long nanos) {
+        Instant now = Instant.now();
+        subscription.setLastAttemptAt(now);
+        subscription.setLastDurationMs(TimeUnit.NANOSECONDS.toMillis(nanos));
+        try {
+            if (error == null) {
+                signalStore.saveAll(signals.stream()
+                        .map(signal -> SignalDocument.from(signal, subscription.getEntityType(), subscription.getEntityId()))
+                        .toList());
+                subscription.setLastSyncedAt(now);
+                subscription.setLastError(null);
+                subscription.setConsecutiveFailures(0);
+            } else {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                log.warn("Scheduled sync of {} failed: {}", subscription.getId(), cause.getMessage());
+                subscription.setLastError(String.valueOf(cause.getMessage()));
+                subscription.setConsecutiveFailures(subscription.getConsecutiveFailures() + 1);
+            }
+            if (!subscriptionStore.saveSyncStatus(subscription)) {
+                log.debug("Subscription {} was removed while it synced", subscription.getId());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to record sync of {}: {}", subscription.getId(), e.getMessage(), e);
+        }
+        
+        Timer.builder("healthscore.sync.runs")
+                .tags("tool", subscription.getTool(), "outcome", error == null ? "success" : "error")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private ToolThrottle throttle(String tool) {
+        return throttles.computeIfAbsent(tool, t -> {
+            SyncProperties.ToolRate rate = properties.rateFor(t);
+            int maxConcurrency = maxConcurrency(t, rate);
+            ToolThrottle throttle = new ToolThrottle(
+                    new TokenBucket(rate.getRatePerSecond(), rate.getBurst()),
+                    new AimdLimiter(rate.getInitialConcurrency(), Math.min(rate.getMinConcurrency(), maxConcurrency),
+                            maxConcurrency),
+                    rate.getTargetLatency(), new AtomicLong(), new AtomicLong());
+            Tags tags = Tags.of("tool", t);
+            meterRegistry.gauge("healthscore.sync.lag", tags, throttle.maxLagSeconds());
+            meterRegistry.gauge("healthscore.sync.due", tags, throttle.due());
+            meterRegistry.gauge("healthscore.sync.concurrency.limit", tags, throttle.concurrency(), AimdLimiter::limit);
+            return throttle;
+        });
+    }
+    
+    /**
+     * Syncs share the tool's integration executor with interactive integrations, so they are
+     * kept below its worker count rather than filling its queue and getting requests rejected.
+     */
+    private int maxConcurrency(String tool, SyncProperties.ToolRate rate) {
+        int maxConcurrency = integrationService.limits(tool)
+                .map(limits -> Math.max(1, Math.min(rate.getMaxConcurrency(),
+                        limits.getMaxConcurrency() - rate.getReservedConcurrency())))
+                .orElse(rate.getMaxConcurrency());
+        if (maxConcurrency < rate.getMaxConcurrency()) {
+            log.info("Sync concurrency for {} capped at {}, leaving {} tool worker(s) to interactive integrations",
+                    tool, maxConcurrency, rate.getReservedConcurrency());
+        }
+        return maxConcurrency;
+    }
+    
+    private record Candidate(ToolSubscriptionDocument subscription, boolean active, Instant dueAt) {
+    }
+    
+    /**
+     * Per-tool rate limit, concurrency limit and lag figures (max seconds since last success, due count).
+     */
+    private record ToolThrottle(TokenBucket rate, AimdLimiter concurrency, Duration targetLatency,
+                                AtomicLong maxLagSeconds, AtomicLong due) {
+    }
+}
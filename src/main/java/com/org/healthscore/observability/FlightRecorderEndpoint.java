@@ -0,0 +1,96 @@
+package com.org.healthscore.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code /actuator/jfr}: control and download the {@link FlightRecorderService} recording.
+ * 
+ * <pre>
+ * GET  /actuator/jfr        status
+ * POST /actuator/jfr/start  {"settings": "default", "maxAge": "PT30M"}
+ * POST /actuator/jfr/stop
+ * GET  /actuator/jfr/dump   the recording as a .jfr file
+ * </pre>
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+    
+    private final FlightRecorderService flightRecorder;
+    
+    @ReadOperation
+    public FlightRecorderService.Status status() {
+        return flightRecorder.status();
+    }
+    
+    /**
+     * @param action "start" or "stop"
+     * @param settings JDK settings for start, "default" (always-on overhead) or "profile"
+     * @param maxAge How much history a started recording keeps, default PT30M
+     */
+    @WriteOperation
+    public WebEndpointResponse<FlightRecorderService.Status> control(@Selector String action,
+                                                                     @Nullable String settings,
+                                                                     @Nullable Duration maxAge) {
+        try {
+            return switch (action) {
+                case "start" -> new WebEndpointResponse<>(flightRecorder.start(
+                        settings != null ? settings : "default", maxAge != null ? maxAge : Duration.ofMinutes(30)));
+                case "stop" -> new WebEndpointResponse<>(flightRecorder.stop());
+                default -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            };
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(409);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+    
+    /**
+     * The current (or last stopped) recording, for JDK Mission Control or {@code jfr print}. The
+     * temporary file is deleted once the response has been written.
+     */
+    @ReadOperation(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public WebEndpointResponse<Resource> dump(@Selector String name) throws IOException {
+        if (!"dump".equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = flightRecorder.dump();
+        if (file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new FilterInputStream(super.getInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                };
+            }
+        });
+    }
+}
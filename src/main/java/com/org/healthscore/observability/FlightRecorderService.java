@@ -0,0 +1,148 @@
+package com.org.healthscore.observability;
+
+import com.org.healthscore.observability.jfr.AdapterEvent;
+import com.org.healthscore.observability.jfr.DebtComputationEvent;
+import com.org.healthscore.observability.jfr.IngestEvent;
+import com.org.healthscore.observability.jfr.ScoreComputationEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * On-demand Flight Recorder recording with the pipeline events enabled, at most one at a time.
+ * 
+ * The JDK's "default" settings cost about 1% and are safe to leave running; "profile" adds
+ * allocation and lock profiling for a short investigation. Virtual threads pinned to their
+ * carrier for more than {@value #PINNED_THRESHOLD_MS} ms are recorded as {@code jdk.VirtualThreadPinned}
+ * whichever settings are used. Events that capture the environment, system properties or JVM
+ * arguments are always disabled. Served by {@link FlightRecorderEndpoint} on the management port.
+ */
+@Slf4j
+@Component
+public class FlightRecorderService {
+    
+    private static final List<Class<? extends Event>> PIPELINE_EVENTS = List.of(
+            IngestEvent.class, AdapterEvent.class, ScoreComputationEvent.class, DebtComputationEvent.class);
+    private static final long PINNED_THRESHOLD_MS = 5;
+    
+    /**
+     * Environment variables, system properties and the JVM command line carry credentials
+     * (Sonar token, MongoDB URI), so they are never written to a recording.
+     */
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+    
+    public record Status(boolean running, String settings, Instant startedAt, Instant stoppedAt,
+                         Duration maxAge, long sizeBytes) {
+    }
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String settings;
+    
+    /**
+     * Start a recording, replacing a stopped one.
+     * 
+     * @param settings JDK settings name, "default" or "profile"
+     * @param maxAge How much history the recording keeps
+     * @throws IllegalStateException if a recording is already running
+     * @throws IllegalArgumentException if the settings name is unknown
+     */
+    public Status start(String settings, Duration maxAge) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+        
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                throw new IllegalStateException("A recording is already running");
+            }
+            if (recording != null) {
+                recording.close();
+            }
+            Recording next = new Recording(configuration);
+            next.setName("healthscore");
+            next.setMaxAge(maxAge);
+            next.setToDisk(true);
+            for (Class<? extends Event> event : PIPELINE_EVENTS) {
+                next.enable(event).withThreshold(Duration.ZERO);
+            }
+            for (String event : SENSITIVE_EVENTS) {
+                next.disable(event);
+            }
+            next.enable("jdk.VirtualThreadPinned").withStackTrace()
+                    .withThreshold(Duration.ofMillis(PINNED_THRESHOLD_MS));
+            next.start();
+            recording = next;
+            this.settings = settings;
+            log.info("Started JFR recording with {} settings, max age {}", settings, maxAge);
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Stop the running recording; it stays available for {@link #dump()} until the next start.
+     */
+    public Status stop() {
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+                log.info("Stopped JFR recording");
+            }
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public Status status() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return new Status(false, null, null, null, null, 0);
+            }
+            return new Status(recording.getState() == RecordingState.RUNNING, settings,
+                    recording.getStartTime(), recording.getStopTime(), recording.getMaxAge(), recording.getSize());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Write the recording so far to a temporary .jfr file, which the caller deletes.
+     * 
+     * @return The file, or null if nothing was ever recorded
+     */
+    public Path dump() throws IOException {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return null;
+            }
+            Path file = Files.createTempFile("healthscore-", ".jfr");
+            recording.dump(file);
+            return file;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
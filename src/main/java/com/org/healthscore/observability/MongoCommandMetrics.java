@@ -0,0 +1,305 @@
+package com.org.healthscore.observability;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB driver listener: command latency per collection and command, connection pool
+ * checkout wait, and capture of slow commands into the {@link SlowCommandLog}.
+ * 
+ * Recorded as {@code healthscore.mongo.commands} (tags {@code collection}, {@code command},
+ * {@code status}) and {@code healthscore.mongo.pool.wait} (tag {@code server}), both with
+ * percentile histograms, plus {@code healthscore.mongo.pool.checkout.failures}. Slow reads are
+ * explained in the background (one at a time, excess dropped) to attach a plan summary such as
+ * {@code FETCH > IXSCAN(entityType_1_entityId_1)}, so Mongo profiling can stay off.
+ * 
+ * The command document is only valid while its start event is handled, so the fields a slow
+ * command needs are kept as raw BSON bytes; they are only decoded and shaped once the command
+ * turns out to be slow.
+ */
+@Slf4j
+@Component
+public class MongoCommandMetrics implements CommandListener, ConnectionPoolListener {
+    
+    public static final String COMMAND_TIMER = "healthscore.mongo.commands";
+    public static final String POOL_WAIT_TIMER = "healthscore.mongo.pool.wait";
+    
+    /**
+     * Where each command keeps its filter (per nested statement for update/delete).
+     */
+    private static final Map<String, List<String>> FILTER_FIELDS = Map.of(
+            "find", List.of("filter", "sort", "projection"),
+            "aggregate", List.of("pipeline"),
+            "count", List.of("query"),
+            "distinct", List.of("key", "query"),
+            "findAndModify", List.of("query", "sort"),
+            "update", List.of("updates"),
+            "delete", List.of("deletes"));
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct");
+    private static final Set<String> STATEMENT_ARRAYS = Set.of("updates", "deletes");
+    private static final Set<String> SESSION_FIELDS = Set.of(
+            "lsid", "$db", "$clusterTime", "txnNumber", "$readPreference", "readConcern", "autocommit", "startTransaction");
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+    
+    private final MeterRegistry meterRegistry;
+    private final SlowCommandLog slowCommandLog;
+    private final MongoObservabilityProperties properties;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final ConcurrentMap<Integer, Started> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(16), runnable -> Thread.ofPlatform().name("mongo-explain").daemon().unstarted(runnable),
+            new ThreadPoolExecutor.DiscardPolicy());
+    
+    /**
+     * @param snapshot Filter fields (or, for explainable commands, the command without session
+     *                 fields) encoded at start; null for commands without a filter
+     */
+    private record Started(Instant at, String collection, RawBsonDocument snapshot) {
+    }
+    
+    public MongoCommandMetrics(MeterRegistry meterRegistry, SlowCommandLog slowCommandLog,
+                               MongoObservabilityProperties properties, ObjectProvider<MongoTemplate> mongoTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.slowCommandLog = slowCommandLog;
+        this.properties = properties;
+        this.mongoTemplate = mongoTemplate;
+        this.explainer.allowCoreThreadTimeOut(true);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        explainer.shutdownNow();
+    }
+    
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        // The command document is only valid during this callback: keep what we need now
+        BsonDocument command = event.getCommand();
+        String name = event.getCommandName();
+        inFlight.put(event.getRequestId(), new Started(Instant.now(), collection(command, name), 
+                snapshot(command, name)));
+    }
+    
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getDatabaseName(), event.getCommandName(), 
+                event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+    
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getDatabaseName(), event.getCommandName(), 
+                event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+    
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        Timer.builder(POOL_WAIT_TIMER)
+                .description("Time waiting to check a connection out of the pool")
+                .tag("server", event.getConnectionId().getServerId().getAddress().toString())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+    
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        Counter.builder("healthscore.mongo.pool.checkout.failures")
+                .tag("server", event.getServerId().getAddress().toString())
+                .tag("reason", event.getReason().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private void complete(int requestId, String database, String name, long elapsedNanos, boolean failed) {
+        Started started = inFlight.remove(requestId);
+        String collection = started != null ? started.collection() : "none";
+        Timer.builder(COMMAND_TIMER)
+                .description("MongoDB command latency")
+                .tag("collection", collection)
+                .tag("command", name)
+                .tag("status", failed ? "failure" : "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        if (started == null || "explain".equals(name) || elapsed.compareTo(properties.getSlowCommandThreshold()) < 0) {
+            return;
+        }
+        SlowCommandLog.SlowCommand slow = new SlowCommandLog.SlowCommand(started.at(), database, collection, name,
+                elapsed, failed, started.snapshot() != null ? filterShape(started.snapshot(), name) : null);
+        slowCommandLog.add(slow);
+        if (explainable(name)) {
+            explainer.execute(() -> explain(database, started.snapshot(), slow));
+        }
+    }
+    
+    private void explain(String database, BsonDocument command, SlowCommandLog.SlowCommand slow) {
+        MongoTemplate template = mongoTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            Document explained = template.getMongoDatabaseFactory().getMongoDatabase(database)
+                    .runCommand(new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner")));
+            slow.planSummary(planSummary(explained));
+        } catch (Exception e) {
+            log.debug("Could not explain slow {} on {}: {}", slow.getCommand(), slow.getCollection(), e.getMessage());
+            slow.planSummary("unavailable: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Winning plan stages, outermost first, with index names: "SORT > FETCH > IXSCAN(idx)".
+     */
+    @SuppressWarnings("unchecked")
+    static String planSummary(Document explained) {
+        Object planner = explained.get("queryPlanner");
+        if (planner == null && explained.get("stages") instanceof List<?> stages && !stages.isEmpty()
+                && stages.get(0) instanceof Document first && first.get("$cursor") instanceof Document cursor) {
+            // Aggregations wrap the query plan in their first stage
+            planner = cursor.get("queryPlanner");
+        }
+        if (!(planner instanceof Document queryPlanner) || !(queryPlanner.get("winningPlan") instanceof Document plan)) {
+            return "unknown";
+        }
+        if (plan.get("queryPlan") instanceof Document queryPlan) {
+            // Slot-based engine
+            plan = queryPlan;
+        }
+        StringBuilder summary = new StringBuilder();
+        while (plan != null) {
+            if (!summary.isEmpty()) {
+                summary.append(" > ");
+            }
+            summary.append(plan.getString("stage"));
+            if (plan.getString("indexName") != null) {
+                summary.append('(').append(plan.getString("indexName")).append(')');
+            }
+            Object input = plan.get("inputStage");
+            if (input == null && plan.get("inputStages") instanceof List<?> inputs && !inputs.isEmpty()) {
+                input = inputs.get(0);
+            }
+            plan = input instanceof Document next ? next : null;
+        }
+        return summary.toString();
+    }
+    
+    private static String collection(BsonDocument command, String name) {
+        // A getMore targets its cursor id; the collection is a separate field
+        BsonValue target = command.get("getMore".equals(name) ? "collection" : name);
+        return target != null && target.isString() ? target.asString().getValue() : "none";
+    }
+    
+    private boolean explainable(String name) {
+        return EXPLAINABLE.contains(name) && properties.isExplainSlowCommands();
+    }
+    
+    /**
+     * What a slow command's report needs, copied out of the driver's buffer as raw bytes. Only the
+     * first update/delete statement is kept, as only it is shaped.
+     */
+    private RawBsonDocument snapshot(BsonDocument command, String name) {
+        List<String> fields = FILTER_FIELDS.get(name);
+        if (fields == null) {
+            return null;
+        }
+        BsonDocument kept = new BsonDocument();
+        if (explainable(name)) {
+            command.forEach((key, value) -> {
+                if (!SESSION_FIELDS.contains(key)) {
+                    kept.put(key, value);
+                }
+            });
+        } else {
+            for (String field : fields) {
+                BsonValue value = command.get(field);
+                if (value != null && STATEMENT_ARRAYS.contains(field) && value.isArray() && !value.asArray().isEmpty()) {
+                    value = new BsonArray(List.of(value.asArray().get(0)));
+                }
+                if (value != null) {
+                    kept.put(field, value);
+                }
+            }
+        }
+        return new RawBsonDocument(kept, CODEC);
+    }
+    
+    static String filterShape(BsonDocument command, String name) {
+        List<String> fields = FILTER_FIELDS.get(name);
+        if (fields == null) {
+            return null;
+        }
+        BsonDocument shape = new BsonDocument();
+        for (String field : fields) {
+            BsonValue value = command.get(field);
+            if (value == null) {
+                continue;
+            }
+            if (STATEMENT_ARRAYS.contains(field) && value.isArray() && !value.asArray().isEmpty()
+                    && value.asArray().get(0).isDocument()) {
+                // update/delete: the shape of the first statement's filter
+                value = value.asArray().get(0).asDocument().get("q");
+                field = "q";
+            }
+            if (value != null) {
+                shape.put(field, "key".equals(field) || "sort".equals(field) || "projection".equals(field) 
+                        ? value : shape(value));
+            }
+        }
+        return shape.toJson();
+    }
+    
+    private static BsonValue shape(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument shaped = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> shaped.put(key, shape(nested)));
+            return shaped;
+        }
+        if (value.isArray()) {
+            // Arrays of values collapse to one placeholder; pipelines and $and/$or keep every element
+            BsonArray shaped = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                shaped.add(shape(element));
+                if (!element.isDocument() && !element.isArray()) {
+                    break;
+                }
+            }
+            return shaped;
+        }
+        return PLACEHOLDER;
+    }
+}
@@ -0,0 +1,29 @@
+package com.org.healthscore.observability;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * MongoDB command observability settings ({@code healthscore.mongo.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.mongo")
+public class MongoObservabilityProperties {
+    
+    /**
+     * Commands taking at least this long are captured in the slow-command log.
+     */
+    private Duration slowCommandThreshold = Duration.ofMillis(100);
+    
+    /**
+     * Slow commands kept (most recent first); older ones are overwritten.
+     */
+    private int slowCommandCapacity = 200;
+    
+    /**
+     * Explain slow reads (queryPlanner verbosity, in the background) to attach a plan summary.
+     */
+    private boolean explainSlowCommands = true;
+}
@@ -0,0 +1,215 @@
+package com.org.healthscore.observability;
+
+import com.org.healthscore.repository.ScoringConfig;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Timers per pipeline stage, so request time can be attributed to fetch, parse, adapt, score,
+ * debt and aggregation.
+ * 
+ * Stages are recorded as {@code healthscore.pipeline.stage} (tags {@code stage} plus
+ * {@code sourceType} or {@code entityType}) with percentile histograms; signals produced and
+ * dropped by the adapter are counted in {@code healthscore.pipeline.signals}. Work inside a
+ * {@link WarmupScope} is not recorded.
+ * 
+ * Entity types come from request paths, so both tags are checked against the scoring
+ * configuration (source types with signal definitions, entity types with dimension weights)
+ * and anything else is reported as {@code _other}. The configured types are reloaded at most
+ * once per {@code healthscore.config.cache.refresh-interval}, when an unknown value shows up.
+ */
+@Slf4j
+@Component
+public class PipelineMetrics {
+    
+    public static final String STAGE_TIMER = "healthscore.pipeline.stage";
+    public static final String SIGNALS_COUNTER = "healthscore.pipeline.signals";
+    public static final String OTHER = "_other";
+    
+    private final MeterRegistry meterRegistry;
+    private final ScoringConfigStore configStore;
+    private final long refreshIntervalNanos;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile KnownTypes knownTypes;
+    
+    public PipelineMetrics(MeterRegistry meterRegistry, ScoringConfigStore configStore,
+                           @Value("${healthscore.config.cache.refresh-interval:30s}") Duration refreshInterval) {
+        this.meterRegistry = meterRegistry;
+        this.configStore = configStore;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.knownTypes = new KnownTypes(Set.of(), Set.of(), System.nanoTime() - refreshIntervalNanos - 1);
+    }
+    
+    /**
+     * Time a stage for a source type (tool stages: fetch, parse, adapt).
+     */
+    public <T> T timeSource(String stage, String sourceType, Supplier<T> body) {
+        if (WarmupScope.isActive()) {
+            return body.get();
+        }
+        return stageTimer(stage, "sourceType", sourceTag(sourceType)).record(body);
+    }
+    
+    /**
+     * Time a stage for an entity type (scoring stages: score, debt, aggregate).
+     */
+    public <T> T timeEntity(String stage, String entityType, Supplier<T> body) {
+        if (WarmupScope.isActive()) {
+            return body.get();
+        }
+        return stageTimer(stage, "entityType", entityTag(entityType)).record(body);
+    }
+    
+    /**
+     * Run a streaming fetch + parse, recording the two stages separately.
+     * 
+     * Pages are parsed as they arrive, so the time spent producing pages (the tool's API calls)
+     * is measured inside the stream and recorded as {@code fetch}; the rest is {@code parse}.
+     */
+    public <T, R> R fetchAndParse(String sourceType, Supplier<Stream<T>> fetch, Function<Stream<T>, R> parse) {
+        long start = System.nanoTime();
+        long[] fetchNanos = new long[1];
+        try (Stream<T> raw = fetch.get()) {
+            fetchNanos[0] = System.nanoTime() - start;
+            Iterator<T> pages = raw.iterator();
+            Iterator<T> timed = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    long begin = System.nanoTime();
+                    try {
+                        return pages.hasNext();
+                    } finally {
+                        fetchNanos[0] += System.nanoTime() - begin;
+                    }
+                }
+                
+                @Override
+                public T next() {
+                    long begin = System.nanoTime();
+                    try {
+                        return pages.next();
+                    } finally {
+                        fetchNanos[0] += System.nanoTime() - begin;
+                    }
+                }
+            };
+            return parse.apply(StreamSupport.stream(Spliterators.spliteratorUnknownSize(timed, 0), false));
+        } finally {
+            if (!WarmupScope.isActive()) {
+                long total = System.nanoTime() - start;
+                String tag = sourceTag(sourceType);
+                stageTimer("fetch", "sourceType", tag).record(fetchNanos[0], TimeUnit.NANOSECONDS);
+                stageTimer("parse", "sourceType", tag)
+                        .record(Math.max(0, total - fetchNanos[0]), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+    
+    /**
+     * Count signals the adapter produced and dropped (no value, invalid or failed) for a source.
+     */
+    public void signals(String sourceType, int produced, int dropped) {
+        if (WarmupScope.isActive()) {
+            return;
+        }
+        String tag = sourceTag(sourceType);
+        signalCounter(tag, "produced").increment(produced);
+        signalCounter(tag, "dropped").increment(dropped);
+    }
+    
+    private Timer stageTimer(String stage, String tag, String value) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Time spent per pipeline stage")
+                .tag("stage", stage)
+                .tag(tag, value)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private Counter signalCounter(String sourceType, String outcome) {
+        return Counter.builder(SIGNALS_COUNTER)
+                .tag("sourceType", sourceType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
+    private String sourceTag(String sourceType) {
+        if (sourceType != null
+                && (knownTypes.sourceTypes().contains(sourceType) || reloadIfStale().sourceTypes().contains(sourceType))) {
+            return sourceType;
+        }
+        return OTHER;
+    }
+    
+    private String entityTag(String entityType) {
+        if (entityType != null
+                && (knownTypes.entityTypes().contains(entityType) || reloadIfStale().entityTypes().contains(entityType))) {
+            return entityType;
+        }
+        return OTHER;
+    }
+    
+    /**
+     * One caller reloads; the others (and callers within the interval) use the current types
+     * rather than waiting on the configuration query.
+     */
+    private KnownTypes reloadIfStale() {
+        KnownTypes current = knownTypes;
+        if (System.nanoTime() - current.loadedAt() <= refreshIntervalNanos || !reloadLock.tryLock()) {
+            return current;
+        }
+        try {
+            current = knownTypes;
+            long now = System.nanoTime();
+            if (now - current.loadedAt() <= refreshIntervalNanos) {
+                return current;
+            }
+            try {
+                knownTypes = KnownTypes.of(configStore.findAll(), now);
+            } catch (Exception e) {
+                // Keep the previous types until the next interval rather than querying on every sample
+                log.warn("Could not load configured types for pipeline metrics: {}", e.getMessage());
+                knownTypes = new KnownTypes(current.sourceTypes(), current.entityTypes(), now);
+            }
+            return knownTypes;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+    
+    private record KnownTypes(Set<String> sourceTypes, Set<String> entityTypes, long loadedAt) {
+        
+        static KnownTypes of(ScoringConfig config, long loadedAt) {
+            return new KnownTypes(
+                    config.signalDefinitions().stream()
+                            .map(AdapterSignalDefinitionDocument::getSourceType)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toUnmodifiableSet()),
+                    config.dimensionWeights().stream()
+                            .map(DebtDimensionWeightDocument::getEntityType)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toUnmodifiableSet()),
+                    loadedAt);
+        }
+    }
+}
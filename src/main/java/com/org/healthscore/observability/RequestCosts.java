@@ -0,0 +1,133 @@
+package com.org.healthscore.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CPU time and heap allocation of API requests, per endpoint, entity type and client id.
+ * 
+ * Exported per endpoint as {@code healthscore.request.cpu} and {@code healthscore.request.allocated};
+ * the finer breakdown is kept in memory for {@code /actuator/requestcosts}. Entity types and
+ * client ids come from callers, so past {@code healthscore.request-costs.max-keys} distinct
+ * combinations new ones are folded into {@value #OTHER}.
+ */
+@Component
+public class RequestCosts {
+    
+    public static final String CPU_TIMER = "healthscore.request.cpu";
+    public static final String ALLOCATED_SUMMARY = "healthscore.request.allocated";
+    public static final String OTHER = "_other";
+    
+    public enum SortBy {
+        CPU,
+        ALLOCATED,
+        REQUESTS
+    }
+    
+    private record Key(String endpoint, String entityType, String clientId) {
+    }
+    
+    public record Stats(String endpoint, String entityType, String clientId, long requests,
+                        double totalCpuMillis, double meanCpuMillis, long totalAllocatedBytes,
+                        long meanAllocatedBytes, long maxAllocatedBytes) {
+    }
+    
+    private final MeterRegistry meterRegistry;
+    private final int maxKeys;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    
+    public RequestCosts(MeterRegistry meterRegistry,
+                        @Value("${healthscore.request-costs.max-keys:1000}") int maxKeys) {
+        this.meterRegistry = meterRegistry;
+        this.maxKeys = maxKeys;
+    }
+    
+    /**
+     * Record a request; a negative measurement means the JVM does not support it.
+     */
+    public void record(String endpoint, String entityType, String clientId, long cpuNanos, long allocatedBytes) {
+        boundedKey(new Key(endpoint, entityType, clientId)).record(cpuNanos, allocatedBytes);
+        
+        if (cpuNanos >= 0) {
+            Timer.builder(CPU_TIMER)
+                    .description("Thread CPU time spent serving API requests")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .record(cpuNanos, TimeUnit.NANOSECONDS);
+        }
+        if (allocatedBytes >= 0) {
+            DistributionSummary.builder(ALLOCATED_SUMMARY)
+                    .description("Heap allocated while serving API requests")
+                    .baseUnit("bytes")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .record(allocatedBytes);
+        }
+    }
+    
+    /**
+     * The {@code limit} most expensive endpoint, entity type and client combinations since startup.
+     */
+    public List<Stats> top(SortBy sortBy, int limit) {
+        Comparator<Stats> order = switch (sortBy) {
+            case CPU -> Comparator.comparingDouble(Stats::totalCpuMillis);
+            case ALLOCATED -> Comparator.comparingLong(Stats::totalAllocatedBytes);
+            case REQUESTS -> Comparator.comparingLong(Stats::requests);
+        };
+        return entries.entrySet().stream()
+                .map(entry -> entry.getValue().stats(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+    
+    private Entry boundedKey(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() >= maxKeys) {
+            key = new Key(key.endpoint(), OTHER, OTHER);
+        }
+        return entries.computeIfAbsent(key, k -> new Entry());
+    }
+    
+    private static final class Entry {
+        
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final AtomicLong maxAllocatedBytes = new AtomicLong();
+        
+        void record(long cpu, long allocated) {
+            requests.increment();
+            if (cpu > 0) {
+                cpuNanos.add(cpu);
+            }
+            if (allocated > 0) {
+                allocatedBytes.add(allocated);
+                maxAllocatedBytes.accumulateAndGet(allocated, Math::max);
+            }
+        }
+        
+        Stats stats(Key key) {
+            long count = requests.sum();
+            double cpuMillis = cpuNanos.sum() / 1_000_000.0;
+            long allocated = allocatedBytes.sum();
+            return new Stats(key.endpoint(), key.entityType(), key.clientId(), count,
+                    cpuMillis, count > 0 ? cpuMillis / count : 0,
+                    allocated, count > 0 ? allocated / count : 0, maxAllocatedBytes.get());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.org.healthscore.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /actuator/requestcosts}: the most expensive callers of the health score API since
+ * startup, by endpoint, entity type and client id.
+ */
+@Component
+@Endpoint(id = "requestcosts")
+@RequiredArgsConstructor
+public class RequestCostsEndpoint {
+    
+    private final RequestCosts requestCosts;
+    
+    /**
+     * @param sortBy "cpu" (default), "allocated" or "requests"
+     * @param limit Rows to return, default 20
+     */
+    @ReadOperation
+    public List<RequestCosts.Stats> requestCosts(@Nullable String sortBy, @Nullable Integer limit) {
+        String order = sortBy != null ? sortBy : "cpu";
+        RequestCosts.SortBy sort;
+        try {
+            sort = RequestCosts.SortBy.valueOf(order.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Unknown sortBy: " + order, "Unknown sortBy");
+        }
+        return requestCosts.top(sort, limit != null ? Math.max(1, limit) : 20);
+    }
+}
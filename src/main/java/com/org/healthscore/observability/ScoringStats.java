@@ -0,0 +1,166 @@
+package com.org.healthscore.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scoring outcomes and compute latency per metric key and per operator.
+ * 
+ * Exported as {@code healthscore.scoring.evaluations} (tags {@code metricKey}, {@code operator},
+ * {@code outcome}) and {@code healthscore.scoring.compute} (successful and failed operator
+ * computations), and kept in memory for {@code /actuator/scoringstats}. Metric keys come
+ * from scoring rules; past {@code healthscore.scoring.stats.max-metric-keys} distinct keys, new
+ * ones are folded into {@value #OTHER} so a misconfiguration cannot explode tag cardinality.
+ * Evaluations inside a {@link WarmupScope} are not recorded.
+ */
+@Component
+public class ScoringStats {
+    
+    public static final String EVALUATIONS_COUNTER = "healthscore.scoring.evaluations";
+    public static final String COMPUTE_TIMER = "healthscore.scoring.compute";
+    public static final String OTHER = "_other";
+    
+    /**
+     * How a rule evaluation ended. Everything but SUCCESS yields no score for the signal.
+     */
+    public enum Outcome {
+        SUCCESS,
+        /** The operator threw while computing. */
+        FAILURE,
+        /** The signal's canonical form differs from the rule's required form. */
+        FORM_MISMATCH,
+        /** The rule's operator does not support the signal's canonical form. */
+        UNSUPPORTED_FORM,
+        INVALID_PARAMETERS,
+        UNKNOWN_OPERATOR;
+        
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+    
+    public record Stats(long invocations, Map<String, Long> outcomes, double meanComputeMicros,
+                        double maxComputeMicros) {
+    }
+    
+    public record Snapshot(Map<String, Stats> operators, Map<String, Stats> metrics) {
+    }
+    
+    private final MeterRegistry meterRegistry;
+    private final int maxMetricKeys;
+    private final ConcurrentMap<String, Entry> byMetric = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Entry> byOperator = new ConcurrentHashMap<>();
+    
+    public ScoringStats(MeterRegistry meterRegistry,
+                        @Value("${healthscore.scoring.stats.max-metric-keys:500}") int maxMetricKeys) {
+        this.meterRegistry = meterRegistry;
+        this.maxMetricKeys = maxMetricKeys;
+    }
+    
+    /**
+     * Record an evaluation that did not reach the operator.
+     */
+    public void record(String metricKey, String operator, Outcome outcome) {
+        record(metricKey, operator, outcome, -1);
+    }
+    
+    /**
+     * Record an evaluation; {@code computeNanos} is the operator's compute time, or negative if
+     * the operator was not invoked.
+     */
+    public void record(String metricKey, String operator, Outcome outcome, long computeNanos) {
+        if (WarmupScope.isActive()) {
+            return;
+        }
+        String metricTag = boundedMetricKey(metricKey);
+        String operatorTag = String.valueOf(operator);
+        
+        byMetric.computeIfAbsent(metricTag, key -> new Entry()).record(outcome, computeNanos);
+        byOperator.computeIfAbsent(operatorTag, key -> new Entry()).record(outcome, computeNanos);
+        
+        Counter.builder(EVALUATIONS_COUNTER)
+                .description("Scoring rule evaluations by outcome")
+                .tag("metricKey", metricTag)
+                .tag("operator", operatorTag)
+                .tag("outcome", outcome.tag())
+                .register(meterRegistry)
+                .increment();
+        if (computeNanos >= 0) {
+            Timer.builder(COMPUTE_TIMER)
+                    .description("Scoring operator compute time")
+                    .tag("metricKey", metricTag)
+                    .tag("operator", operatorTag)
+                    .register(meterRegistry)
+                    .record(computeNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    public Snapshot snapshot() {
+        return new Snapshot(snapshot(byOperator), snapshot(byMetric));
+    }
+    
+    private String boundedMetricKey(String metricKey) {
+        String key = String.valueOf(metricKey);
+        if (byMetric.containsKey(key) || byMetric.size() < maxMetricKeys) {
+            return key;
+        }
+        return OTHER;
+    }
+    
+    private static Map<String, Stats> snapshot(Map<String, Entry> entries) {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        entries.forEach((key, entry) -> snapshot.put(key, entry.stats()));
+        return snapshot;
+    }
+    
+    private static final class Entry {
+        
+        private final EnumMap<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+        private final LongAdder computeCount = new LongAdder();
+        private final LongAdder computeNanos = new LongAdder();
+        private final AtomicLong maxComputeNanos = new AtomicLong();
+        
+        Entry() {
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome, new LongAdder());
+            }
+        }
+        
+        void record(Outcome outcome, long nanos) {
+            outcomes.get(outcome).increment();
+            if (nanos >= 0) {
+                computeCount.increment();
+                computeNanos.add(nanos);
+                maxComputeNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+        
+        Stats stats() {
+            Map<String, Long> counts = new TreeMap<>();
+            long invocations = 0;
+            for (Map.Entry<Outcome, LongAdder> outcome : outcomes.entrySet()) {
+                long count = outcome.getValue().sum();
+                invocations += count;
+                if (count > 0) {
+                    counts.put(outcome.getKey().tag(), count);
+                }
+            }
+            long computed = computeCount.sum();
+            double mean = computed > 0 ? computeNanos.sum() / (double) computed / 1_000 : 0;
+            return new Stats(invocations, counts, mean, maxComputeNanos.get() / 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.org.healthscore.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/scoringstats}: scoring outcomes and operator compute time since startup,
+ * per operator and per metric key.
+ */
+@Component
+@Endpoint(id = "scoringstats")
+@RequiredArgsConstructor
+public class ScoringStatsEndpoint {
+    
+    private final ScoringStats scoringStats;
+    
+    @ReadOperation
+    public ScoringStats.Snapshot scoringStats() {
+        return scoringStats.snapshot();
+    }
+}
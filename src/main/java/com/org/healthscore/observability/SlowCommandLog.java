@@ -0,0 +1,83 @@
+package com.org.healthscore.observability;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size ring buffer of the most recent slow MongoDB commands.
+ */
+@Component
+public class SlowCommandLog {
+    
+    /**
+     * A captured command. The filter shape keeps field names and operators with every value
+     * replaced by {@code "?"}; the plan summary is filled in once the background explain returns.
+     */
+    @Getter
+    public static class SlowCommand {
+        
+        private final Instant startedAt;
+        private final String database;
+        private final String collection;
+        private final String command;
+        private final long durationMillis;
+        private final boolean failed;
+        private final String filterShape;
+        private volatile String planSummary;
+        
+        public SlowCommand(Instant startedAt, String database, String collection, String command,
+                           Duration duration, boolean failed, String filterShape) {
+            this.startedAt = startedAt;
+            this.database = database;
+            this.collection = collection;
+            this.command = command;
+            this.durationMillis = duration.toMillis();
+            this.failed = failed;
+            this.filterShape = filterShape;
+        }
+        
+        void planSummary(String planSummary) {
+            this.planSummary = planSummary;
+        }
+    }
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final SlowCommand[] entries;
+    private long written;
+    
+    public SlowCommandLog(MongoObservabilityProperties properties) {
+        this.entries = new SlowCommand[Math.max(1, properties.getSlowCommandCapacity())];
+    }
+    
+    public void add(SlowCommand command) {
+        lock.lock();
+        try {
+            entries[(int) (written++ % entries.length)] = command;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Captured commands, most recent first.
+     */
+    public List<SlowCommand> recent() {
+        lock.lock();
+        try {
+            int size = (int) Math.min(written, entries.length);
+            List<SlowCommand> recent = new ArrayList<>(size);
+            for (int i = 1; i <= size; i++) {
+                recent.add(entries[(int) ((written - i) % entries.length)]);
+            }
+            return recent;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
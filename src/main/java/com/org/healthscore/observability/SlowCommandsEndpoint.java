@@ -0,0 +1,25 @@
+package com.org.healthscore.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/slowcommands}: recent MongoDB commands over
+ * healthscore.mongo.slow-command-threshold, most recent first.
+ */
+@Component
+@Endpoint(id = "slowcommands")
+@RequiredArgsConstructor
+public class SlowCommandsEndpoint {
+    
+    private final SlowCommandLog slowCommandLog;
+    
+    @ReadOperation
+    public List<SlowCommandLog.SlowCommand> slowCommands() {
+        return slowCommandLog.recent();
+    }
+}
@@ -0,0 +1,84 @@
+package com.org.healthscore.observability;
+
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.ToolSubscriptionStore;
+import com.org.healthscore.repository.ToolSyncStateStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.NativeDetector;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times every storage SPI call ({@code healthscore.repository.calls}, tags {@code store},
+ * {@code method} and {@code outcome}, with percentile histograms), whatever the engine.
+ * 
+ * Store beans are proxied by subclass, so they keep their concrete type. Methods returning a
+ * stream or cursor are timed until the result is returned, not until it is consumed. Native
+ * images cannot generate subclasses at runtime, so there the stores are left unproxied.
+ */
+@Component
+public class StoreMetricsPostProcessor implements BeanPostProcessor {
+    
+    public static final String STORE_TIMER = "healthscore.repository.calls";
+    
+    private static final List<Class<?>> STORES = List.of(SignalStore.class, ScoreStore.class,
+            ScoringConfigStore.class, ToolSyncStateStore.class, ToolSubscriptionStore.class);
+    
+    // Resolved on first call: post-processors are created before the registry
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    public StoreMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> store = STORES.stream().filter(type -> type.isInstance(bean)).findFirst().orElse(null);
+        if (store == null || NativeDetector.inNativeImage()) {
+            return bean;
+        }
+        
+        Set<String> storeMethods = Arrays.stream(store.getMethods()).map(Method::getName).collect(Collectors.toSet());
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!storeMethods.contains(invocation.getMethod().getName()) || WarmupScope.isActive()) {
+                return invocation.proceed();
+            }
+            long start = System.nanoTime();
+            String outcome = "error";
+            try {
+                Object result = invocation.proceed();
+                outcome = "success";
+                return result;
+            } finally {
+                timer(store.getSimpleName(), invocation.getMethod().getName(), outcome)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+    
+    private Timer timer(String store, String method, String outcome) {
+        return Timer.builder(STORE_TIMER)
+                .description("Storage SPI call latency")
+                .tag("store", store)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry.getObject());
+    }
+}
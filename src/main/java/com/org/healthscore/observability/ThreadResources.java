@@ -0,0 +1,35 @@
+package com.org.healthscore.observability;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * CPU time and heap allocation of the current thread, or -1 where the JVM does not support it.
+ * 
+ * Java 21 measures neither for virtual threads, so with {@code spring.threads.virtual.enabled}
+ * request costs and pipeline event allocation read -1 (and are left out of the meters).
+ */
+public final class ThreadResources {
+    
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean HOTSPOT_THREADS = 
+            THREADS instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()
+                    ? hotspot : null;
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+    
+    private ThreadResources() {
+    }
+    
+    /**
+     * Bytes allocated by the current thread since it started (monotonic, approximate).
+     */
+    public static long allocatedBytes() {
+        return HOTSPOT_THREADS != null ? HOTSPOT_THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+    
+    /**
+     * CPU time (user + system) consumed by the current thread, in nanoseconds.
+     */
+    public static long cpuTimeNanos() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+}
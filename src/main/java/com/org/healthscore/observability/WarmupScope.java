@@ -0,0 +1,29 @@
+package com.org.healthscore.observability;
+
+/**
+ * Marks work on the current thread as startup warm-up.
+ * 
+ * Warm-up replays synthetic traffic through the real pipeline; {@link PipelineMetrics},
+ * {@link ScoringStats} and the store timers skip anything recorded inside the scope, so
+ * dashboards and {@code /actuator/scoringstats} only reflect real requests.
+ */
+public final class WarmupScope {
+    
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+    
+    private WarmupScope() {
+    }
+    
+    public static void run(Runnable work) {
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            work.run();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+    
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.org.healthscore.observability.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.org.healthscore.Adapter")
+@Label("Adapter Run")
+@Description("Raw tool data normalized into signals")
+public final class AdapterEvent extends PipelineEvent {
+}
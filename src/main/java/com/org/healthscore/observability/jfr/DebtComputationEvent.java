@@ -0,0 +1,11 @@
+package com.org.healthscore.observability.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.org.healthscore.DebtComputation")
+@Label("Debt Computation")
+@Description("Debt contributions computed for an entity's signals")
+public final class DebtComputationEvent extends PipelineEvent {
+}
@@ -0,0 +1,11 @@
+package com.org.healthscore.observability.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.org.healthscore.Ingest")
+@Label("Ingest")
+@Description("Signals ingested from a request body or a tool integration")
+public final class IngestEvent extends PipelineEvent {
+}
@@ -0,0 +1,63 @@
+package com.org.healthscore.observability.jfr;
+
+import com.org.healthscore.observability.ThreadResources;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the pipeline's Flight Recorder events: one per ingest, adapter run, score and debt
+ * computation, with entity, signal count, duration and the bytes the thread allocated meanwhile.
+ * 
+ * Usage: {@code start()} before the work, {@code finish(...)} after it. When no recording has the
+ * event enabled, both are a flag check.
+ */
+@Category({"Health Score", "Pipeline"})
+@StackTrace(false)
+public abstract class PipelineEvent extends Event {
+    
+    @Label("Entity Type")
+    String entityType;
+    
+    @Label("Entity Id")
+    String entityId;
+    
+    @Label("Source Type")
+    String sourceType;
+    
+    @Label("Signal Count")
+    int signalCount;
+    
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+    
+    private transient long allocatedAtStart;
+    
+    public void start() {
+        if (isEnabled()) {
+            allocatedAtStart = ThreadResources.allocatedBytes();
+            begin();
+        }
+    }
+    
+    /**
+     * @param sourceType Tool the signals came from, or null for scoring events
+     */
+    public void finish(String entityType, String entityId, String sourceType, int signalCount) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.sourceType = sourceType;
+            this.signalCount = signalCount;
+            this.allocatedBytes = allocatedAtStart >= 0 ? ThreadResources.allocatedBytes() - allocatedAtStart : -1;
+            commit();
+        }
+    }
+}
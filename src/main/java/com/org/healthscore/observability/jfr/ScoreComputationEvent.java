@@ -0,0 +1,11 @@
+package com.org.healthscore.observability.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.org.healthscore.ScoreComputation")
+@Label("Score Computation")
+@Description("Health score computed (signal scoring and aggregation)")
+public final class ScoreComputationEvent extends PipelineEvent {
+}
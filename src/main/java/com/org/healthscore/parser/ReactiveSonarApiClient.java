@@ -0,0 +1,171 @@
+package com.org.healthscore.parser;
+
+import com.org.healthscore.parser.http.ToolHttpClientFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking HTTP client for the SonarQube REST API, for the reactive API.
+ * 
+ * Same requests, paging and result-window slicing as {@link SonarApiClient}, on the tool's shared
+ * transport via WebClient: a fetch holds no thread while waiting for SonarQube, and at most
+ * {@code sonarqube.max-concurrent-requests} of its pages are in flight at once. Incremental
+ * sync needs the stored sync state and stays on the blocking client.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "healthscore.api.reactive", name = "enabled", havingValue = "true")
+public class ReactiveSonarApiClient {
+    
+    /**
+     * A full issue page is a few hundred kilobytes, over WebClient's 256 KB default.
+     */
+    private static final int MAX_RESPONSE_BYTES = 16 * 1024 * 1024;
+    
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<>() {};
+    
+    private final WebClient webClient;
+    private final int maxConcurrentRequests;
+    private final String measureKeys;
+    
+    public ReactiveSonarApiClient(
+            @Value("${sonarqube.base-url:http://localhost:9000}") String baseUrl,
+            @Value("${sonarqube.token:}") String token,
+            @Value("${sonarqube.max-concurrent-requests:4}") int maxConcurrentRequests,
+            @Value("${sonarqube.measure-keys:" + SonarApiClient.DEFAULT_MEASURE_KEYS + "}") String measureKeys,
+            ToolHttpClientFactory httpClientFactory) {
+        
+        WebClient.Builder builder = httpClientFactory.webClientBuilder("sonarqube", baseUrl)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_RESPONSE_BYTES));
+        if (token != null && !token.isBlank()) {
+            String auth = Base64.getEncoder().encodeToString((token + ":").getBytes());
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + auth);
+        }
+        
+        this.webClient = builder.build();
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.measureKeys = measureKeys;
+    }
+    
+    /**
+     * Fetch raw responses for a component in the requested mode.
+     *
+     * @return Raw API responses (unparsed), in completion order
+     */
+    public Flux<Map<String, Object>> fetch(String componentKey, SonarFetchMode fetchMode) {
+        return switch (fetchMode) {
+            case ISSUES -> issuePages(componentKey);
+            case FACETS -> summary(componentKey);
+            case INCREMENTAL -> Flux.error(new IllegalArgumentException(
+                    "Incremental sync needs the component's sync state, use SonarApiClient"));
+        };
+    }
+    
+    /**
+     * Every issue of a component as raw search pages; see {@link SonarApiClient#streamIssuePages}.
+     */
+    public Flux<Map<String, Object>> issuePages(String componentKey) {
+        log.debug("Fetching issues from SonarQube for component: {}", componentKey);
+        Map<String, String> base = Map.of("componentKeys", componentKey);
+        
+        return searchIssues(SonarApiClient.withFacets(base, "severities"), 1, SonarApiClient.PAGE_SIZE)
+                .flatMapMany(firstPage -> {
+                    long total = SonarApiClient.total(firstPage);
+                    if (total <= SonarApiClient.RESULT_WINDOW) {
+                        List<SonarApiClient.PageRequest> requests = new ArrayList<>();
+                        SonarApiClient.addPages(requests, base, total, 2);
+                        // The planning facet is not part of the issue payload
+                        firstPage.remove("facets");
+                        return Flux.concat(Mono.just(firstPage), fetchPages(Flux.fromIterable(requests)));
+                    }
+                    return fetchPages(planSlices(base, firstPage));
+                });
+    }
+    
+    /**
+     * Pre-aggregated issue counts and component measures; see {@link SonarApiClient#streamSummary}.
+     */
+    public Flux<Map<String, Object>> summary(String componentKey) {
+        log.debug("Fetching issue facets and measures from SonarQube for component: {}", componentKey);
+        return Flux.merge(
+                searchIssues(Map.of("componentKeys", componentKey, "facets", "severities,types"), 1, 1),
+                get(SonarApiClient.MEASURES_COMPONENT, Map.of("component", componentKey, "metricKeys", measureKeys)));
+    }
+    
+    private Flux<Map<String, Object>> fetchPages(Flux<SonarApiClient.PageRequest> requests) {
+        return requests.flatMap(request -> searchIssues(request.params(), request.page(), SonarApiClient.PAGE_SIZE),
+                maxConcurrentRequests);
+    }
+    
+    /**
+     * Slice by severity, then bisect oversized severities on creation date.
+     */
+    private Flux<SonarApiClient.PageRequest> planSlices(Map<String, String> base, Map<String, Object> facetPage) {
+        return Flux.fromIterable(SonarApiClient.facetCounts(facetPage, "severities").entrySet())
+                .concatMap(severity -> {
+                    Map<String, String> slice = new LinkedHashMap<>(base);
+                    slice.put("severities", severity.getKey());
+                    if (severity.getValue() <= SonarApiClient.RESULT_WINDOW) {
+                        return Flux.fromIterable(pages(slice, severity.getValue()));
+                    }
+                    return planDateSlices(slice, SonarApiClient.EARLIEST_ISSUE, Instant.now().plusSeconds(1));
+                });
+    }
+    
+    private Flux<SonarApiClient.PageRequest> planDateSlices(Map<String, String> slice, Instant from, Instant to) {
+        Map<String, String> range = new LinkedHashMap<>(slice);
+        range.put("createdAfter", SonarApiClient.SONAR_DATE_TIME.format(from));
+        range.put("createdBefore", SonarApiClient.SONAR_DATE_TIME.format(to));
+        
+        return searchIssues(range, 1, 1).flatMapMany(response -> {
+            long count = SonarApiClient.total(response);
+            long seconds = to.getEpochSecond() - from.getEpochSecond();
+            if (count == 0) {
+                return Flux.empty();
+            }
+            if (count <= SonarApiClient.RESULT_WINDOW || seconds <= 1) {
+                if (count > SonarApiClient.RESULT_WINDOW) {
+                    log.warn("More than {} issues created within one second, truncating slice {}",
+                            SonarApiClient.RESULT_WINDOW, range);
+                }
+                return Flux.fromIterable(pages(range, count));
+            }
+            Instant middle = from.plusSeconds(seconds / 2);
+            return Flux.concat(planDateSlices(slice, from, middle), planDateSlices(slice, middle, to));
+        });
+    }
+    
+    private static List<SonarApiClient.PageRequest> pages(Map<String, String> params, long total) {
+        List<SonarApiClient.PageRequest> requests = new ArrayList<>();
+        SonarApiClient.addPages(requests, params, total, 1);
+        return requests;
+    }
+    
+    private Mono<Map<String, Object>> searchIssues(Map<String, String> params, int page, int pageSize) {
+        return get(SonarApiClient.ISSUES_SEARCH, SonarApiClient.paged(params, page, pageSize));
+    }
+    
+    private Mono<Map<String, Object>> get(String path, Map<String, String> params) {
+        return webClient.get()
+                .uri(SonarApiClient.uriTemplate(path, params), params)
+                .retrieve()
+                .bodyToMono(JSON_OBJECT);
+    }
+}
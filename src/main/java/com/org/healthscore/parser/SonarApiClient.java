@@ -1,14 +1,37 @@
 package com.org.healthscore.parser;
 
+import com.org.healthscore.parser.http.ToolHttpClientFactory;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * HTTP client for SonarQube REST API.
@@ -20,16 +43,41 @@ import java.util.Map;
  */
 @Slf4j
 @Component
-public class SonarApiClient {
+public class SonarApiClient implements ToolApiClient {
+    
+    static final int PAGE_SIZE = 500;
+    
+    static final String DEFAULT_MEASURE_KEYS = 
+            "coverage,duplicated_lines_density,ncloc,bugs,vulnerabilities,code_smells,sqale_index";
+    
+    /**
+     * SonarQube refuses to page past 10,000 results (p * ps) for a single query.
+     */
+    static final int RESULT_WINDOW = 10_000;
+    
+    static final String ISSUES_SEARCH = "/api/issues/search";
+    static final String MEASURES_COMPONENT = "/api/measures/component";
+    private static final String COMPONENTS_SHOW = "/api/components/show";
+    static final DateTimeFormatter SONAR_DATE_TIME = 
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ").withZone(ZoneOffset.UTC);
+    static final Instant EARLIEST_ISSUE = Instant.parse("2000-01-01T00:00:00Z");
     
     private final RestClient restClient;
+    private final ExecutorService pageExecutor;
+    private final String measureKeys;
+    private final SonarFetchMode defaultFetchMode;
     
     public SonarApiClient(
             @Value("${sonarqube.base-url:http://localhost:9000}") String baseUrl,
-            @Value("${sonarqube.token:}") String token) {
+            @Value("${sonarqube.token:}") String token,
+            @Value("${sonarqube.max-concurrent-requests:4}") int maxConcurrentRequests,
+            @Value("${sonarqube.measure-keys:" + DEFAULT_MEASURE_KEYS + "}") String measureKeys,
+            @Value("${sonarqube.fetch-mode:issues}") String defaultFetchMode,
+            ToolHttpClientFactory httpClientFactory,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         
-        RestClient.Builder builder = RestClient.builder()
-                .baseUrl(baseUrl)
+        // Pooled transport with timeouts, retry, bulkhead and circuit breaker (healthscore.tool-http.tools.sonarqube)
+        RestClient.Builder builder = httpClientFactory.builder("sonarqube", baseUrl)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
         
         // Add authentication if token is provided
@@ -39,30 +87,340 @@ public class SonarApiClient {
         }
         
         this.restClient = builder.build();
+        this.measureKeys = measureKeys;
+        this.defaultFetchMode = SonarFetchMode.from(defaultFetchMode);
+        
+        // One client per SonarQube host, so the pool size is the per-host concurrency bound
+        Thread.Builder threads = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        this.pageExecutor = Executors.newFixedThreadPool(maxConcurrentRequests,
+                threads.name("sonar-fetch-", 1).factory());
+    }
+    
+    @Override
+    public String getSourceType() {
+        return "sonarqube";
+    }
+    
+    /**
+     * The "componentKey" tool config entry, or the entity id.
+     */
+    @Override
+    public String sourceId(String entityId, Map<String, String> config) {
+        return config != null && config.containsKey("componentKey") ? config.get("componentKey") : entityId;
+    }
+    
+    /**
+     * Fetch raw responses in the mode given by the "fetchMode" tool config entry (or the default).
+     */
+    @Override
+    public Stream<Map<String, Object>> fetch(String componentKey, Map<String, String> config) {
+        return fetch(componentKey, fetchMode(config));
+    }
+    
+    /**
+     * The "fetchMode" tool config entry, or the configured default.
+     */
+    public SonarFetchMode fetchMode(Map<String, String> config) {
+        return config != null && config.containsKey("fetchMode") 
+                ? SonarFetchMode.from(config.get("fetchMode")) 
+                : defaultFetchMode;
     }
     
     /**
-     * Fetch issues from SonarQube for a component.
+     * Fetch raw responses for a component in the requested mode.
      * 
-     * Invokes: GET /api/issues/search?componentKeys={componentKey}
+     * @param componentKey The SonarQube project/component key
+     * @param fetchMode Fetch mode, or null for the configured default
+     * @return Raw API responses (unparsed). The caller must close the stream.
+     */
+    public Stream<Map<String, Object>> fetch(String componentKey, SonarFetchMode fetchMode) {
+        return switch (fetchMode != null ? fetchMode : defaultFetchMode) {
+            case ISSUES -> streamIssuePages(componentKey);
+            case FACETS -> streamSummary(componentKey);
+            case INCREMENTAL -> throw new IllegalArgumentException(
+                    "Incremental sync needs the component's sync state, use streamIssueChanges");
+        };
+    }
+    
+    /**
+     * Fetch every issue of a component as a stream of raw search pages.
+     * 
+     * Invokes: GET /api/issues/search?componentKeys={componentKey}&ps=500&p={page}
+     * 
+     * Pages are fetched concurrently and emitted in completion order. Result sets larger than
+     * SonarQube's 10,000-issue window are sliced by severity, then by creation date, so each
+     * slice can be paged completely.
      * 
      * @param componentKey The SonarQube project/component key
-     * @return Raw API response as a map (unparsed)
+     * @return Raw API response pages (unparsed). The caller must close the stream.
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> fetchIssues(String componentKey) {
+    public Stream<Map<String, Object>> streamIssuePages(String componentKey) {
         log.debug("Fetching issues from SonarQube for component: {}", componentKey);
-        
+        return streamSearch(Map.of("componentKeys", componentKey));
+    }
+    
+    /**
+     * Fetch the issues of a component that changed since a watermark.
+     * 
+     * Invokes: GET /api/issues/search?componentKeys={componentKey}&updatedAfter={watermark}&ps=500&p={page}
+     * 
+     * Without a watermark only unresolved issues are fetched (the baseline). With one, resolved
+     * issues are included so the caller can retire them. updatedAfter is inclusive, so issues
+     * updated in the watermark's second are returned again.
+     * 
+     * @param componentKey The SonarQube project/component key
+     * @param updatedAfter Watermark from the previous sync, or null for a full baseline
+     * @return Raw API response pages (unparsed). The caller must close the stream.
+     */
+    public Stream<Map<String, Object>> streamIssueChanges(String componentKey, Instant updatedAfter) {
+        log.debug("Fetching issues changed since {} from SonarQube for component: {}", updatedAfter, componentKey);
+        return streamSearch(updatedAfter != null
+                ? Map.of("componentKeys", componentKey, "updatedAfter", SONAR_DATE_TIME.format(updatedAfter))
+                : Map.of("componentKeys", componentKey, "resolved", "false"));
+    }
+    
+    /**
+     * Date of the component's last analysis, or null if it was never analyzed.
+     * 
+     * Always asks SonarQube (bypassing the response cache): a cached date would hide a new
+     * analysis and make incremental sync reuse stale counts for up to the cache TTL.
+     * 
+     * Invokes: GET /api/components/show?component={componentKey}
+     */
+    @SuppressWarnings("unchecked")
+    public String fetchAnalysisDate(String componentKey) {
+        Map<String, String> params = Map.of("component", componentKey);
         Map<String, Object> response = restClient.get()
-                .uri("/api/issues/search?componentKeys={componentKey}&ps=500", componentKey)
+                .uri(uriTemplate(COMPONENTS_SHOW, params), params)
+                .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
                 .retrieve()
                 .body(Map.class);
+        if (response != null && response.get("component") instanceof Map<?, ?> component) {
+            return (String) ((Map<String, Object>) component).get("analysisDate");
+        }
+        return null;
+    }
+    
+    private Stream<Map<String, Object>> streamSearch(Map<String, String> base) {
+        String componentKey = base.get("componentKeys");
+        Map<String, Object> firstPage = searchIssues(withFacets(base, "severities"), 1, PAGE_SIZE);
+        long total = total(firstPage);
+        
+        List<PageRequest> requests = new ArrayList<>();
+        boolean emitFirstPage = total <= RESULT_WINDOW;
+        if (emitFirstPage) {
+            addPages(requests, base, total, 2);
+        } else {
+            planSlices(requests, base, firstPage);
+        }
+        
+        log.debug("SonarQube component {} has {} issues, fetching {} more pages", 
+                componentKey, total, requests.size());
+        
+        // The planning facet is not part of the issue payload; parsers treat facets as authoritative counts
+        firstPage.remove("facets");
+        
+        Stream<Map<String, Object>> remaining = fetchConcurrently(requests.stream()
+                .<Callable<Map<String, Object>>>map(request -> 
+                        () -> searchIssues(request.params(), request.page(), PAGE_SIZE))
+                .toList());
+        return emitFirstPage ? Stream.concat(Stream.of(firstPage), remaining) : remaining;
+    }
+    
+    /**
+     * Fetch pre-aggregated issue counts and component measures, concurrently.
+     * 
+     * Invokes: GET /api/issues/search?componentKeys={componentKey}&facets=severities,types&ps=1
+     *          GET /api/measures/component?component={componentKey}&metricKeys={measureKeys}
+     * 
+     * A few kilobytes of payload regardless of project size, versus every issue object.
+     * 
+     * @param componentKey The SonarQube project/component key
+     * @return Raw facet and measures responses (unparsed). The caller must close the stream.
+     */
+    public Stream<Map<String, Object>> streamSummary(String componentKey) {
+        log.debug("Fetching issue facets and measures from SonarQube for component: {}", componentKey);
+        return fetchConcurrently(List.of(
+                () -> fetchIssueFacets(componentKey),
+                () -> fetchMeasures(componentKey)));
+    }
+    
+    /**
+     * Invokes: GET /api/issues/search?componentKeys={componentKey}&facets=severities,types&ps=1
+     */
+    public Map<String, Object> fetchIssueFacets(String componentKey) {
+        return searchIssues(Map.of("componentKeys", componentKey, "facets", "severities,types"), 1, 1);
+    }
+    
+    /**
+     * Invokes: GET /api/measures/component?component={componentKey}&metricKeys={measureKeys}
+     */
+    public Map<String, Object> fetchMeasures(String componentKey) {
+        return get(MEASURES_COMPONENT, Map.of("component", componentKey, "metricKeys", measureKeys));
+    }
+    
+    /**
+     * Split an oversized result set into slices that each fit the result window.
+     */
+    private void planSlices(List<PageRequest> requests, Map<String, String> base, Map<String, Object> facetPage) {
+        Map<String, Long> severityCounts = facetCounts(facetPage, "severities");
+        for (Map.Entry<String, Long> severity : severityCounts.entrySet()) {
+            Map<String, String> slice = new LinkedHashMap<>(base);
+            slice.put("severities", severity.getKey());
+            
+            if (severity.getValue() <= RESULT_WINDOW) {
+                addPages(requests, slice, severity.getValue(), 1);
+            } else {
+                planDateSlices(requests, slice, EARLIEST_ISSUE, Instant.now().plusSeconds(1));
+            }
+        }
+    }
+    
+    /**
+     * Bisect [from, to) on creation date until every range fits the result window.
+     */
+    private void planDateSlices(List<PageRequest> requests, Map<String, String> slice, Instant from, Instant to) {
+        Map<String, String> range = new LinkedHashMap<>(slice);
+        range.put("createdAfter", SONAR_DATE_TIME.format(from));
+        range.put("createdBefore", SONAR_DATE_TIME.format(to));
         
-        log.debug("Received response from SonarQube with {} issues", 
-                response != null && response.containsKey("issues") 
-                        ? ((java.util.List<?>) response.get("issues")).size() 
-                        : 0);
+        long count = total(searchIssues(range, 1, 1));
+        if (count == 0) {
+            return;
+        }
+        
+        long seconds = to.getEpochSecond() - from.getEpochSecond();
+        if (count <= RESULT_WINDOW || seconds <= 1) {
+            if (count > RESULT_WINDOW) {
+                log.warn("More than {} issues created within one second, truncating slice {}", RESULT_WINDOW, range);
+            }
+            addPages(requests, range, count, 1);
+            return;
+        }
         
-        return response;
+        Instant middle = from.plusSeconds(seconds / 2);
+        planDateSlices(requests, slice, from, middle);
+        planDateSlices(requests, slice, middle, to);
+    }
+    
+    static void addPages(List<PageRequest> requests, Map<String, String> params, long total, int firstPage) {
+        long lastPage = (Math.min(total, RESULT_WINDOW) + PAGE_SIZE - 1) / PAGE_SIZE;
+        for (int page = firstPage; page <= lastPage; page++) {
+            requests.add(new PageRequest(params, page));
+        }
+    }
+    
+    private Stream<Map<String, Object>> fetchConcurrently(List<Callable<Map<String, Object>>> requests) {
+        if (requests.isEmpty()) {
+            return Stream.empty();
+        }
+        
+        CompletionService<Map<String, Object>> completion = new ExecutorCompletionService<>(pageExecutor);
+        List<Future<Map<String, Object>>> futures = new ArrayList<>(requests.size());
+        for (Callable<Map<String, Object>> request : requests) {
+            futures.add(completion.submit(request));
+        }
+        
+        Iterator<Map<String, Object>> pages = new Iterator<>() {
+            private int taken;
+            
+            @Override
+            public boolean hasNext() {
+                return taken < futures.size();
+            }
+            
+            @Override
+            public Map<String, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                taken++;
+                try {
+                    return completion.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RestClientException("Interrupted while fetching SonarQube issues", e);
+                } catch (ExecutionException e) {
+                    throw new RestClientException("Failed to fetch from SonarQube: " 
+                            + e.getCause().getMessage(), e.getCause());
+                }
+            }
+        };
+        
+        return StreamSupport.stream(Spliterators.spliterator(pages, futures.size(), Spliterator.ORDERED), false)
+                .onClose(() -> futures.forEach(future -> future.cancel(true)));
+    }
+    
+    private Map<String, Object> searchIssues(Map<String, String> params, int page, int pageSize) {
+        return get(ISSUES_SEARCH, paged(params, page, pageSize));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> get(String path, Map<String, String> params) {
+        return restClient.get()
+                .uri(uriTemplate(path, params), params)
+                .retrieve()
+                .body(Map.class);
+    }
+    
+    static Map<String, String> paged(Map<String, String> params, int page, int pageSize) {
+        Map<String, String> paged = new LinkedHashMap<>(params);
+        paged.put("ps", String.valueOf(pageSize));
+        paged.put("p", String.valueOf(page));
+        return paged;
+    }
+    
+    /**
+     * Every parameter as a URI variable, so values are strictly encoded (SonarQube date-times contain '+').
+     */
+    static String uriTemplate(String path, Map<String, String> params) {
+        StringBuilder uri = new StringBuilder(path);
+        char separator = '?';
+        for (String name : params.keySet()) {
+            uri.append(separator).append(name).append("={").append(name).append('}');
+            separator = '&';
+        }
+        return uri.toString();
+    }
+    
+    static Map<String, String> withFacets(Map<String, String> params, String facets) {
+        Map<String, String> withFacets = new LinkedHashMap<>(params);
+        withFacets.put("facets", facets);
+        return withFacets;
+    }
+    
+    static long total(Map<String, Object> response) {
+        if (response == null) {
+            return 0;
+        }
+        Object paging = response.get("paging");
+        Object total = paging instanceof Map<?, ?> pagingMap ? pagingMap.get("total") : response.get("total");
+        return total instanceof Number number ? number.longValue() : 0;
+    }
+    
+    static Map<String, Long> facetCounts(Map<String, Object> response, String property) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (!(response.get("facets") instanceof List<?> facets)) {
+            return counts;
+        }
+        for (Object facet : facets) {
+            if (facet instanceof Map<?, ?> facetMap && property.equals(facetMap.get("property"))
+                    && facetMap.get("values") instanceof List<?> values) {
+                for (Object value : values) {
+                    if (value instanceof Map<?, ?> valueMap && valueMap.get("count") instanceof Number count) {
+                        counts.put(String.valueOf(valueMap.get("val")), count.longValue());
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        pageExecutor.shutdownNow();
+    }
+    
+    record PageRequest(Map<String, String> params, int page) {
     }
 }
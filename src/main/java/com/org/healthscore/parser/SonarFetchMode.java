@@ -0,0 +1,32 @@
+package com.org.healthscore.parser;
+
+import java.util.Locale;
+
+/**
+ * How SonarQube data is retrieved for an integration.
+ */
+public enum SonarFetchMode {
+    
+    /**
+     * Page through every issue and let the adapter count severities.
+     */
+    ISSUES,
+    
+    /**
+     * Read SonarQube's own severity/type facet counts plus component measures (two small requests).
+     */
+    FACETS,
+    
+    /**
+     * Fetch only issues changed since the component's last sync and apply them to the stored counts.
+     */
+    INCREMENTAL;
+    
+    public static SonarFetchMode from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown SonarQube fetch mode: " + value, e);
+        }
+    }
+}
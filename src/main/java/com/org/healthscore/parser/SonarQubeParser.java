@@ -6,10 +6,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Parser for SonarQube API responses.
@@ -23,6 +27,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SonarQubeParser implements ToolDataParser {
     
+    private static final DateTimeFormatter SONAR_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ");
+    
     private final ObjectMapper objectMapper;
     
     @Override
@@ -43,6 +49,7 @@ public class SonarQubeParser implements ToolDataParser {
     }
     
     @Override
+    @SuppressWarnings("unchecked")
     public Map<String, Object> parse(Map<String, Object> rawResponse) {
         Map<String, Object> normalized = new HashMap<>();
         
@@ -65,6 +72,21 @@ public class SonarQubeParser implements ToolDataParser {
             }
         }
         
+        // Facet responses carry SonarQube's own counts - relay them as category maps
+        // (the adapter accepts pre-aggregated maps), ignoring the sample issue page. SonarQube
+        // answers "facets": [] to a plain issues search, so only a non-empty list counts
+        if (rawResponse.get("facets") instanceof List<?> facets && !facets.isEmpty()) {
+            for (Map<String, Object> facet : (List<Map<String, Object>>) facets) {
+                Map<String, Object> counts = new HashMap<>();
+                for (Map<String, Object> value : (List<Map<String, Object>>) facet.get("values")) {
+                    counts.put((String) value.get("val"), value.get("count"));
+                }
+                normalized.put("issues_" + facet.get("property"), counts);
+            }
+            normalized.put("issues_total", pagingTotal(rawResponse));
+            return normalized;
+        }
+        
         // Extract issues as a LIST (not aggregated) - aggregation happens in adapter
         // Parser only normalizes structure, does NOT count or group
         if (rawResponse.containsKey("issues")) {
@@ -87,4 +109,81 @@ public class SonarQubeParser implements ToolDataParser {
         
         return normalized;
     }
+    
+    /**
+     * Parse changed-issue pages into one entry per issue: key, severity, resolved, updatedAt.
+     * 
+     * Resolved is true when SonarQube reports a resolution (fixed, false-positive, removed, ...).
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> parseIssueChanges(Stream<Map<String, Object>> rawResponses) {
+        List<Map<String, Object>> changes = new ArrayList<>();
+        Iterator<Map<String, Object>> pages = rawResponses.iterator();
+        while (pages.hasNext()) {
+            var issues = (List<Map<String, Object>>) pages.next().get("issues");
+            if (issues == null) {
+                continue;
+            }
+            for (Map<String, Object> issue : issues) {
+                Map<String, Object> change = new HashMap<>();
+                change.put("key", issue.get("key"));
+                change.put("severity", issue.get("severity"));
+                change.put("resolved", issue.get("resolution") != null);
+                Object updateDate = issue.get("updateDate");
+                if (updateDate != null) {
+                    change.put("updatedAt", Instant.from(SONAR_DATE_TIME.parse((String) updateDate)));
+                }
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Object pagingTotal(Map<String, Object> rawResponse) {
+        if (rawResponse.get("paging") instanceof Map<?, ?> paging) {
+            return ((Map<String, Object>) paging).get("total");
+        }
+        return rawResponse.get("total");
+    }
+    
+    /**
+     * Parse issue search pages (or facet and measures responses) into one normalized structure.
+     * 
+     * Severity lists are concatenated across pages (still uncounted - the adapter aggregates),
+     * so only severities are retained, never whole issue objects.
+     */
+    @Override
+    public Map<String, Object> parse(Stream<Map<String, Object>> rawResponses) {
+        return merge(rawResponses.map(this::parse));
+    }
+    
+    /**
+     * Merge responses already parsed one at a time (e.g. as they arrive from a reactive client)
+     * the same way {@link #parse(Stream)} does. The parsed maps are consumed (modified).
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> merge(Stream<Map<String, Object>> parsedResponses) {
+        Map<String, Object> normalized = new HashMap<>();
+        List<String> severities = new ArrayList<>();
+        int issuesTotal = 0;
+        boolean hasIssues = false;
+        
+        Iterator<Map<String, Object>> pages = parsedResponses.iterator();
+        while (pages.hasNext()) {
+            Map<String, Object> page = pages.next();
+            if (page.get("issues_severities") instanceof List) {
+                hasIssues = true;
+                severities.addAll((List<String>) page.remove("issues_severities"));
+                issuesTotal += (Integer) page.remove("issues_total");
+            }
+            normalized.putAll(page);
+        }
+        
+        if (hasIssues) {
+            normalized.put("issues_severities", severities);
+            normalized.put("issues_total", issuesTotal);
+        }
+        return normalized;
+    }
 }
@@ -0,0 +1,34 @@
+package com.org.healthscore.parser;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Contract for external tool API clients.
+ * 
+ * Clients handle transport and the tool's request syntax only; responses are returned
+ * unparsed for the {@link ToolDataParser} of the same source type.
+ */
+public interface ToolApiClient {
+    
+    /**
+     * The source type this client fetches from (matches {@link ToolDataParser#getSourceType()}).
+     */
+    String getSourceType();
+    
+    /**
+     * The tool's identifier for an entity: the "sourceId" tool config entry, or the entity id.
+     */
+    default String sourceId(String entityId, Map<String, String> config) {
+        return config != null && config.containsKey("sourceId") ? config.get("sourceId") : entityId;
+    }
+    
+    /**
+     * Fetch raw responses for a source.
+     * 
+     * @param sourceId The tool's identifier for the entity
+     * @param config Per-request tool config (may be null)
+     * @return Raw API responses (unparsed). The caller must close the stream.
+     */
+    Stream<Map<String, Object>> fetch(String sourceId, Map<String, String> config);
+}
@@ -1,6 +1,8 @@
 package com.org.healthscore.parser;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Contract for external tool data parsers.
@@ -30,4 +32,20 @@ public interface ToolDataParser {
      * @return Normalized map structure for adapter processing
      */
     Map<String, Object> parse(Map<String, Object> rawResponse);
+    
+    /**
+     * Parse a sequence of raw API responses (e.g. result pages) into one normalized structure.
+     * 
+     * Responses are consumed one at a time, so implementations need not hold them all.
+     * The default merges each parsed response, later values replacing earlier ones;
+     * parsers whose payloads are split across pages override this.
+     * 
+     * @param rawResponses Raw responses as maps, in any order
+     * @return Normalized map structure for adapter processing
+     */
+    default Map<String, Object> parse(Stream<Map<String, Object>> rawResponses) {
+        Map<String, Object> merged = new HashMap<>();
+        rawResponses.forEach(rawResponse -> merged.putAll(parse(rawResponse)));
+        return merged;
+    }
 }
@@ -0,0 +1,137 @@
+package com.org.healthscore.parser.http;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker.
+ * 
+ * CLOSED tracks the outcome of the last {@code windowSize} calls and opens when the failure rate
+ * reaches the threshold. OPEN rejects calls until {@code openDuration} has passed, then lets one
+ * trial call through (HALF_OPEN): success closes the circuit, failure re-opens it.
+ */
+class CircuitBreaker {
+    
+    enum State { CLOSED, OPEN, HALF_OPEN }
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+    
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+    
+    /**
+     * @return true if the call may proceed; the caller must then report its outcome
+     */
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (trialInFlight) {
+                        yield false;
+                    }
+                    trialInFlight = true;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    void onSuccess() {
+        record(false);
+    }
+    
+    void onFailure() {
+        record(true);
+    }
+    
+    /**
+     * The call was abandoned without an outcome (e.g. cancelled); frees the half-open trial slot.
+     */
+    void onAbandoned() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void record(boolean failed) {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (failed) {
+                    open();
+                } else {
+                    reset();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+            
+            if (recorded == outcomes.length) {
+                failures -= outcomes[next] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+            outcomes[next] = failed;
+            failures += failed ? 1 : 0;
+            next = (next + 1) % outcomes.length;
+            
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        trialInFlight = false;
+    }
+    
+    private void reset() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,156 @@
+package com.org.healthscore.parser.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking counterpart of {@link ResilientToolInterceptor} for WebClient.
+ * 
+ * Shares the tool's bulkhead and circuit breaker with the blocking transport and records the same
+ * metrics. Same policy: GET/HEAD retried on I/O errors, 5xx and 429 with full-jitter backoff; the
+ * bulkhead slot is held until the response body completes. Waiting for a slot and backing off
+ * are timers, never parked threads.
+ */
+@Slf4j
+class ReactiveToolFilter implements ExchangeFilterFunction {
+    
+    private static final Duration BULKHEAD_POLL = Duration.ofMillis(5);
+    
+    private final String tool;
+    private final ToolHttpProperties.Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    
+    ReactiveToolFilter(String tool, ToolHttpProperties.Settings settings, MeterRegistry meterRegistry,
+                       Semaphore bulkhead, CircuitBreaker circuitBreaker) {
+        this.tool = tool;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+    }
+    
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = request.url().getPath();
+        boolean idempotent = HttpMethod.GET.equals(request.method()) || HttpMethod.HEAD.equals(request.method());
+        int maxAttempts = idempotent ? Math.max(1, settings.getMaxAttempts()) : 1;
+        
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            };
+            
+            return acquireBulkhead()
+                    .then(Mono.defer(() -> attempt(request, next, endpoint, 1, maxAttempts)
+                            .map(response -> response.mutate()
+                                    .body(body -> body.doFinally(signal -> release.run()))
+                                    .build())
+                            .doOnError(e -> release.run())
+                            .doOnCancel(release)))
+                    .doOnSuccess(response -> record(request, endpoint, start,
+                            response != null ? String.valueOf(response.statusCode().value()) : "IO_ERROR"))
+                    .doOnError(e -> record(request, endpoint, start,
+                            e instanceof ToolCallRejectedException ? "REJECTED" : "IO_ERROR"));
+        });
+    }
+    
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next, String endpoint,
+                                         int attempt, int maxAttempts) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejected("circuit_open");
+            return Mono.error(new ToolCallRejectedException("Circuit open for " + tool));
+        }
+        
+        return next.exchange(request)
+                .doOnCancel(circuitBreaker::onAbandoned)
+                // Not retried, but still an outcome: a half-open trial would otherwise never end
+                .doOnError(e -> !(e instanceof WebClientRequestException), e -> circuitBreaker.onFailure())
+                .onErrorResume(WebClientRequestException.class, e -> {
+                    circuitBreaker.onFailure();
+                    if (attempt >= maxAttempts) {
+                        return Mono.error(e);
+                    }
+                    log.debug("{} {} failed ({}), retrying", tool, endpoint, e.getMessage());
+                    return backoff(attempt, endpoint).then(attempt(request, next, endpoint, attempt + 1, maxAttempts));
+                })
+                .flatMap(response -> {
+                    HttpStatusCode statusCode = response.statusCode();
+                    if (statusCode.is5xxServerError()) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                    
+                    if ((statusCode.is5xxServerError() || statusCode.value() == 429) && attempt < maxAttempts) {
+                        log.debug("{} {} returned {}, retrying", tool, endpoint, statusCode.value());
+                        return response.releaseBody()
+                                .then(backoff(attempt, endpoint))
+                                .then(attempt(request, next, endpoint, attempt + 1, maxAttempts));
+                    }
+                    return Mono.just(response);
+                });
+    }
+    
+    /**
+     * Polls for a slot until maxWait passes, then rejects.
+     */
+    private Mono<Void> acquireBulkhead() {
+        return Mono.fromCallable(bulkhead::tryAcquire)
+                .filter(Boolean::booleanValue)
+                .repeatWhenEmpty(attempts -> attempts.delayElements(BULKHEAD_POLL))
+                .timeout(settings.getMaxWait(), Mono.defer(() -> {
+                    rejected("bulkhead_full");
+                    return Mono.error(new ToolCallRejectedException("Too many concurrent " + tool + " requests"));
+                }))
+                .then();
+    }
+    
+    /**
+     * Full jitter: wait a random time up to min(maxBackoff, initialBackoff * 2^(attempt-1)).
+     */
+    private Mono<Long> backoff(int attempt, String endpoint) {
+        Counter.builder(ResilientToolInterceptor.RETRIES)
+                .tags("tool", tool, "endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        long cap = Math.min(settings.getMaxBackoff().toMillis(),
+                settings.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1)));
+    }
+    
+    private void record(ClientRequest request, String endpoint, long start, String status) {
+        Timer.builder(ResilientToolInterceptor.REQUESTS)
+                .tags("tool", tool, "method", request.method().name(), "endpoint", endpoint, "status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    
+    private void rejected(String reason) {
+        Counter.builder(ResilientToolInterceptor.REJECTED)
+                .tags("tool", tool, "reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
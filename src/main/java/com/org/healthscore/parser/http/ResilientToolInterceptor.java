@@ -0,0 +1,235 @@
+package com.org.healthscore.parser.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulkhead, retry and circuit breaker for one tool, plus per-endpoint latency/outcome metrics.
+ * 
+ * Order per call: bulkhead slot (held until the response is closed) → attempts, each gated by the
+ * circuit breaker. Only GET/HEAD are retried, on I/O errors, 5xx and 429, with full-jitter
+ * exponential backoff. I/O errors, unexpected exceptions and 5xx count as circuit failures;
+ * other statuses as successes.
+ */
+@Slf4j
+class ResilientToolInterceptor implements ClientHttpRequestInterceptor {
+    
+    static final String REQUESTS = "healthscore.tool.http.requests";
+    static final String RETRIES = "healthscore.tool.http.retries";
+    static final String REJECTED = "healthscore.tool.http.rejected";
+    
+    private final String tool;
+    private final ToolHttpProperties.Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    
+    ResilientToolInterceptor(String tool, ToolHttpProperties.Settings settings, MeterRegistry meterRegistry) {
+        this.tool = tool;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(settings.getMaxConcurrentRequests());
+        this.circuitBreaker = new CircuitBreaker(settings.getSlidingWindowSize(), settings.getMinimumCalls(),
+                settings.getFailureRateThreshold(), settings.getOpenDuration());
+        
+        meterRegistry.gauge("healthscore.tool.http.in_flight", 
+                Tags.of("tool", tool), bulkhead, 
+                b -> settings.getMaxConcurrentRequests() - b.availablePermits());
+        meterRegistry.gauge("healthscore.tool.http.circuit.open", 
+                Tags.of("tool", tool), circuitBreaker, 
+                cb -> cb.state() == CircuitBreaker.State.CLOSED ? 0 : 1);
+    }
+    
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+    
+    /**
+     * Shared with {@link ReactiveToolFilter}, so both transports count against one bound.
+     */
+    Semaphore bulkhead() {
+        return bulkhead;
+    }
+    
+    CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+    
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, 
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String endpoint = request.getURI().getPath();
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        
+        try {
+            if (!acquireBulkhead()) {
+                status = "REJECTED";
+                rejected("bulkhead_full");
+                throw new ToolCallRejectedException("Too many concurrent " + tool + " requests");
+            }
+            
+            try {
+                ClientHttpResponse response = executeWithRetry(request, body, execution, endpoint);
+                status = String.valueOf(response.getStatusCode().value());
+                return new SlotReleasingResponse(response, bulkhead);
+            } catch (IOException | RuntimeException e) {
+                bulkhead.release();
+                if (e instanceof ToolCallRejectedException) {
+                    status = "REJECTED";
+                }
+                throw e;
+            }
+        } finally {
+            Timer.builder(REQUESTS)
+                    .tags("tool", tool, "method", request.getMethod().name(), "endpoint", endpoint, "status", status)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private ClientHttpResponse executeWithRetry(HttpRequest request, byte[] body, 
+                                                ClientHttpRequestExecution execution,
+                                                String endpoint) throws IOException {
+        boolean idempotent = HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod());
+        int maxAttempts = idempotent ? Math.max(1, settings.getMaxAttempts()) : 1;
+        
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                rejected("circuit_open");
+                throw new ToolCallRejectedException("Circuit open for " + tool);
+            }
+            
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                circuitBreaker.onFailure();
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("{} {} failed ({}), retrying", tool, endpoint, e.getMessage());
+                backoff(attempt, endpoint);
+                continue;
+            } catch (RuntimeException | Error e) {
+                // Not retried, but still an outcome: a half-open trial would otherwise never end
+                circuitBreaker.onFailure();
+                throw e;
+            }
+            
+            HttpStatusCode statusCode;
+            try {
+                statusCode = response.getStatusCode();
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onFailure();
+                response.close();
+                throw e;
+            }
+            if (statusCode.is5xxServerError()) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            
+            if ((statusCode.is5xxServerError() || statusCode.value() == 429) && attempt < maxAttempts) {
+                log.debug("{} {} returned {}, retrying", tool, endpoint, statusCode.value());
+                response.close();
+                backoff(attempt, endpoint);
+                continue;
+            }
+            return response;
+        }
+    }
+    
+    private boolean acquireBulkhead() throws IOException {
+        try {
+            return bulkhead.tryAcquire(settings.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a " + tool + " request slot");
+        }
+    }
+    
+    /**
+     * Full jitter: sleep a random time up to min(maxBackoff, initialBackoff * 2^(attempt-1)).
+     */
+    private void backoff(int attempt, String endpoint) throws IOException {
+        Counter.builder(RETRIES).tags("tool", tool, "endpoint", endpoint).register(meterRegistry).increment();
+        long cap = Math.min(settings.getMaxBackoff().toMillis(), 
+                settings.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during " + tool + " retry backoff");
+        }
+    }
+    
+    private void rejected(String reason) {
+        Counter.builder(REJECTED).tags("tool", tool, "reason", reason).register(meterRegistry).increment();
+    }
+    
+    /**
+     * Holds the bulkhead slot until the body has been consumed and the response closed.
+     */
+    private static final class SlotReleasingResponse implements ClientHttpResponse {
+        
+        private final ClientHttpResponse delegate;
+        private final Semaphore bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        SlotReleasingResponse(ClientHttpResponse delegate, Semaphore bulkhead) {
+            this.delegate = delegate;
+            this.bulkhead = bulkhead;
+        }
+        
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+        
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+        
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+        
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+        
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        }
+    }
+}
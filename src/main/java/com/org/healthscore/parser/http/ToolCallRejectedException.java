@@ -0,0 +1,13 @@
+package com.org.healthscore.parser.http;
+
+import java.io.IOException;
+
+/**
+ * A tool call refused locally - circuit open or bulkhead full - without reaching the tool.
+ */
+public class ToolCallRejectedException extends IOException {
+    
+    public ToolCallRejectedException(String message) {
+        super(message);
+    }
+}
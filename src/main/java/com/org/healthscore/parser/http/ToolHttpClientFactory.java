@@ -0,0 +1,111 @@
+package com.org.healthscore.parser.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared HTTP transport for external tool API clients.
+ * 
+ * Each tool gets one pooled JDK {@link HttpClient} (HTTP/2 where the server supports it, HTTP/1.1
+ * keep-alive otherwise) with its own timeouts, bulkhead, retry and circuit breaker
+ * ({@code healthscore.tool-http.tools.<tool>.*}), so a hung tool cannot tie up request threads
+ * beyond its own bulkhead. GET responses can optionally be served from a per-tool TTL cache.
+ * {@link #webClientBuilder} exposes the same transport to non-blocking clients.
+ */
+@Slf4j
+@Component
+public class ToolHttpClientFactory {
+    
+    private final ToolHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ToolTransport> transports = new ConcurrentHashMap<>();
+    
+    public ToolHttpClientFactory(ToolHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * A RestClient builder for a tool, pre-wired with the tool's transport and base URL.
+     * Clients built for the same tool share its connection pool, bulkhead and circuit breaker.
+     */
+    public RestClient.Builder builder(String tool, String baseUrl) {
+        ToolTransport transport = transports.computeIfAbsent(tool, this::createTransport);
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(transport.requestFactory());
+        // Cache outermost, so hits never take a bulkhead slot or count against the circuit
+        if (transport.cache() != null) {
+            builder.requestInterceptor(transport.cache());
+        }
+        return builder.requestInterceptor(transport.interceptor());
+    }
+    
+    /**
+     * A non-blocking WebClient builder for a tool, on the same connection pool, bulkhead and
+     * circuit breaker as {@link #builder}. The response cache applies to RestClient only.
+     */
+    public WebClient.Builder webClientBuilder(String tool, String baseUrl) {
+        ToolTransport transport = transports.computeIfAbsent(tool, this::createTransport);
+        JdkClientHttpConnector connector = new JdkClientHttpConnector(transport.httpClient());
+        connector.setReadTimeout(properties.settingsFor(tool).getReadTimeout());
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(connector)
+                .filter(transport.reactiveFilter());
+    }
+    
+    private ToolTransport createTransport(String tool) {
+        ToolHttpProperties.Settings settings = properties.settingsFor(tool);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.getReadTimeout());
+        
+        log.info("Tool HTTP transport for {}: connect {} / read {}, {} attempts, bulkhead {}", tool,
+                settings.getConnectTimeout(), settings.getReadTimeout(), settings.getMaxAttempts(),
+                settings.getMaxConcurrentRequests());
+        ToolResponseCache cache = null;
+        if (settings.getCache().isEnabled()) {
+            cache = new ToolResponseCache(tool, settings.getCache(), meterRegistry);
+            log.info("Tool response cache for {}: TTL {}, {} entries, {} heap bytes", tool, 
+                    settings.getCache().getTtl(), settings.getCache().getMaxEntries(),
+                    settings.getCache().getMaxHeapBytes());
+        }
+        ResilientToolInterceptor interceptor = new ResilientToolInterceptor(tool, settings, meterRegistry);
+        ReactiveToolFilter reactiveFilter = new ReactiveToolFilter(tool, settings, meterRegistry,
+                interceptor.bulkhead(), interceptor.circuitBreaker());
+        return new ToolTransport(httpClient, requestFactory, interceptor, reactiveFilter, cache);
+    }
+    
+    /**
+     * Delete the response caches' spilled bodies.
+     */
+    @PreDestroy
+    void shutdown() {
+        transports.values().stream()
+                .map(ToolTransport::cache)
+                .filter(Objects::nonNull)
+                .forEach(ToolResponseCache::close);
+    }
+    
+    private record ToolTransport(HttpClient httpClient, JdkClientHttpRequestFactory requestFactory,
+                                 ResilientToolInterceptor interceptor, ReactiveToolFilter reactiveFilter,
+                                 ToolResponseCache cache) {
+    }
+}
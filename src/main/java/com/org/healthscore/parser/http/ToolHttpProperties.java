@@ -0,0 +1,117 @@
+package com.org.healthscore.parser.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Transport settings for external tool APIs ({@code healthscore.tool-http.*}).
+ * 
+ * Tools without an entry under {@code tools} use the defaults below.
+ */
+@Data
+@ConfigurationProperties(prefix = "healthscore.tool-http")
+public class ToolHttpProperties {
+    
+    /**
+     * Per-tool settings keyed by source type (e.g. "sonarqube").
+     */
+    private Map<String, Settings> tools = new HashMap<>();
+    
+    public Settings settingsFor(String tool) {
+        return tools.getOrDefault(tool, new Settings());
+    }
+    
+    @Data
+    public static class Settings {
+        
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        
+        /**
+         * Time to wait for a response (per attempt).
+         */
+        private Duration readTimeout = Duration.ofSeconds(30);
+        
+        /**
+         * Attempts per idempotent request, including the first. Non-idempotent requests are never retried.
+         */
+        private int maxAttempts = 3;
+        
+        /**
+         * Backoff cap for the first retry; doubles per retry up to maxBackoff, with full jitter.
+         */
+        private Duration initialBackoff = Duration.ofMillis(200);
+        
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        
+        /**
+         * Bulkhead: concurrent in-flight requests to this tool.
+         */
+        private int maxConcurrentRequests = 8;
+        
+        /**
+         * Bulkhead: how long a caller waits for a slot before being rejected.
+         */
+        private Duration maxWait = Duration.ofSeconds(1);
+        
+        /**
+         * Circuit breaker: number of most recent calls the failure rate is computed over.
+         */
+        private int slidingWindowSize = 20;
+        
+        /**
+         * Circuit breaker: calls required in the window before the failure rate is evaluated.
+         */
+        private int minimumCalls = 10;
+        
+        /**
+         * Circuit breaker: failure rate (0-1) at which the circuit opens.
+         */
+        private double failureRateThreshold = 0.5;
+        
+        /**
+         * Circuit breaker: how long the circuit stays open before a single trial call is let through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+        
+        private Cache cache = new Cache();
+    }
+    
+    /**
+     * Local cache of successful GET responses, keyed by tool, endpoint and query parameters.
+     */
+    @Data
+    public static class Cache {
+        
+        private boolean enabled = false;
+        
+        /**
+         * Freshness lifetime; a shorter Cache-Control max-age from the tool wins.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+        
+        /**
+         * Least recently used entries beyond this are evicted.
+         */
+        private int maxEntries = 1_000;
+        
+        /**
+         * Bodies larger than this are kept in a temp file instead of on the heap.
+         */
+        private int spillThresholdBytes = 256 * 1024;
+        
+        /**
+         * Total size of the bodies kept on the heap; least recently used entries beyond it are
+         * evicted. Spilled bodies do not count.
+         */
+        private long maxHeapBytes = 32L * 1024 * 1024;
+        
+        /**
+         * Spill directory; defaults to a fresh directory under java.io.tmpdir.
+         */
+        private String spillDirectory;
+    }
+}
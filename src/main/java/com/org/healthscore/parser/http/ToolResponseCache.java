@@ -0,0 +1,477 @@
+package com.org.healthscore.parser.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * TTL cache for one tool's GET responses.
+ * 
+ * Keyed by (tool, endpoint, sorted query parameters, credentials). Concurrent identical
+ * misses share a single upstream fetch. Stale entries with an ETag or Last-Modified are
+ * revalidated with a conditional GET; a 304 renews them without re-downloading. The tool's
+ * Cache-Control is honored: no-store is never cached, no-cache is always revalidated and
+ * max-age shortens the configured TTL. Requests sent with no-cache or no-store bypass the cache.
+ * Large bodies are spilled to temp files; the rest count against a heap byte budget.
+ * {@link #close} deletes the spilled files.
+ */
+@Slf4j
+class ToolResponseCache implements ClientHttpRequestInterceptor, AutoCloseable {
+    
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    
+    private final String tool;
+    private final ToolHttpProperties.Cache settings;
+    private final MeterRegistry meterRegistry;
+    private final Path spillDirectory;
+    private final boolean ownsSpillDirectory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private long heapBytes;
+    
+    ToolResponseCache(String tool, ToolHttpProperties.Cache settings, MeterRegistry meterRegistry) {
+        this.tool = tool;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.ownsSpillDirectory = settings.getSpillDirectory() == null || settings.getSpillDirectory().isBlank();
+        this.spillDirectory = createSpillDirectory(tool, settings.getSpillDirectory());
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > settings.getMaxEntries()) {
+                    heapBytes -= eldest.getValue().heapBytes();
+                    eldest.getValue().discard();
+                    return true;
+                }
+                return false;
+            }
+        };
+        meterRegistry.gauge("healthscore.tool.http.cache.entries", Tags.of("tool", tool), this, 
+                ToolResponseCache::size);
+        meterRegistry.gauge("healthscore.tool.http.cache.heap.bytes", Tags.of("tool", tool), this, 
+                ToolResponseCache::heapBytes);
+    }
+    
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, 
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod()) || bypassesCache(request)) {
+            return execution.execute(request, body);
+        }
+        
+        String key = key(request);
+        Entry cached = get(key);
+        if (cached != null && cached.isFresh()) {
+            try {
+                ClientHttpResponse response = cached.toResponse();
+                record("hit");
+                return response;
+            } catch (NoSuchFileException e) {
+                // Evicted between lookup and read
+                cached = null;
+            }
+        }
+        
+        CompletableFuture<Entry> flight = new CompletableFuture<>();
+        CompletableFuture<Entry> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            record("shared");
+            try {
+                return await(leader).toResponse();
+            } catch (NoSuchFileException e) {
+                // The leader's uncached spill file is already gone; fetch our own copy
+                return execution.execute(request, body);
+            }
+        }
+        
+        try {
+            Entry fetched = fetch(key, cached, request, body, execution);
+            // Open before sharing: a follower closing an uncached response deletes its file
+            ClientHttpResponse response = fetched.toResponse();
+            flight.complete(fetched);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    /**
+     * A caller that sends no-cache or no-store needs the tool's current answer; it is neither
+     * served from nor stored in the cache.
+     */
+    private static boolean bypassesCache(HttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+    }
+    
+    private Entry fetch(String key, Entry stale, HttpRequest request, byte[] body,
+                        ClientHttpRequestExecution execution) throws IOException {
+        if (stale != null) {
+            if (stale.eTag != null) {
+                request.getHeaders().setIfNoneMatch(stale.eTag);
+            }
+            if (stale.lastModified != null) {
+                request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, stale.lastModified);
+            }
+        }
+        
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            HttpStatusCode status = response.getStatusCode();
+            if (stale != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                record("revalidated");
+                Entry renewed = stale.renew(freshness(response.getHeaders()));
+                put(key, renewed);
+                return renewed;
+            }
+            
+            record("miss");
+            Entry entry = read(response);
+            String cacheControl = response.getHeaders().getCacheControl();
+            if (status.value() == HttpStatus.OK.value() 
+                    && (cacheControl == null || !cacheControl.contains("no-store"))) {
+                put(key, entry);
+                return entry;
+            }
+            if (stale != null) {
+                remove(key);
+            }
+            return entry.uncached();
+        }
+    }
+    
+    /**
+     * Buffer the response, switching to a temp file once the spill threshold is exceeded.
+     */
+    private Entry read(ClientHttpResponse response) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Path file = null;
+        try (InputStream in = response.getBody()) {
+            byte[] chunk = new byte[8192];
+            int read;
+            OutputStream out = buffer;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+                if (file == null && buffer.size() > settings.getSpillThresholdBytes()) {
+                    file = Files.createTempFile(spillDirectory, "response-", ".body");
+                    out = Files.newOutputStream(file);
+                    buffer.writeTo(out);
+                    buffer = null;
+                }
+            }
+            if (file != null) {
+                out.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+            throw e;
+        }
+        
+        return new Entry(response.getStatusCode(), headers, file == null ? buffer.toByteArray() : null, file,
+                expiry(freshness(headers)), headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED), false);
+    }
+    
+    /**
+     * Configured TTL, shortened by the tool's max-age; zero for no-cache (always revalidate).
+     */
+    private Duration freshness(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return settings.getTtl();
+        }
+        if (cacheControl.contains("no-cache")) {
+            return Duration.ZERO;
+        }
+        Matcher maxAge = MAX_AGE.matcher(cacheControl);
+        if (maxAge.find()) {
+            Duration toolMaxAge = Duration.ofSeconds(Long.parseLong(maxAge.group(1)));
+            return toolMaxAge.compareTo(settings.getTtl()) < 0 ? toolMaxAge : settings.getTtl();
+        }
+        return settings.getTtl();
+    }
+    
+    private static long expiry(Duration freshness) {
+        return System.nanoTime() + freshness.toNanos();
+    }
+    
+    private String key(HttpRequest request) {
+        URI uri = request.getURI();
+        String query = uri.getRawQuery() == null ? "" : String.join("&", 
+                Arrays.stream(uri.getRawQuery().split("&")).sorted().toList());
+        // Distinct credentials may see distinct data
+        return tool + ' ' + uri.getRawPath() + '?' + query + '#' 
+                + credentials(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+    
+    /**
+     * SHA-256 of the Authorization header, so neither the secret is kept in memory nor can two
+     * credentials collide on one entry.
+     */
+    private static String credentials(String authorization) {
+        if (authorization == null) {
+            return "";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(authorization.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private Entry await(CompletableFuture<Entry> leader) throws IOException {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a shared " + tool + " response");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+    
+    private Entry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void put(String key, Entry entry) {
+        lock.lock();
+        try {
+            heapBytes += entry.heapBytes();
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                heapBytes -= previous.heapBytes();
+                if (previous.file != entry.file) {
+                    previous.discard();
+                }
+            }
+            evictOverBudget();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void remove(String key) {
+        lock.lock();
+        try {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                heapBytes -= previous.heapBytes();
+                previous.discard();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Drop least recently used entries until the bodies on the heap fit the budget. Spilled
+     * entries hold no heap bytes but are dropped too if they are older; they are cheap to refetch.
+     */
+    private void evictOverBudget() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (heapBytes > settings.getMaxHeapBytes() && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            heapBytes -= evicted.heapBytes();
+            evicted.discard();
+        }
+    }
+    
+    /**
+     * Delete every cached body file and, if the cache created it, the spill directory with any
+     * files still in it. A configured directory may be shared, so it is left in place.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            entries.values().forEach(Entry::discard);
+            entries.clear();
+            heapBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+        if (ownsSpillDirectory) {
+            try (Stream<Path> files = Files.list(spillDirectory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    // Readers that already opened the file keep reading it until they close it
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(spillDirectory);
+            } catch (IOException e) {
+                log.warn("Could not delete response cache spill directory {}: {}", spillDirectory, e.getMessage());
+            }
+        }
+    }
+    
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    long heapBytes() {
+        lock.lock();
+        try {
+            return heapBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    Path spillDirectory() {
+        return spillDirectory;
+    }
+    
+    private void record(String result) {
+        Counter.builder("healthscore.tool.http.cache")
+                .tags("tool", tool, "result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private static Path createSpillDirectory(String tool, String configured) {
+        try {
+            if (configured != null && !configured.isBlank()) {
+                return Files.createDirectories(Path.of(configured));
+            }
+            return Files.createTempDirectory("healthscore-" + tool + "-cache-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create response cache spill directory", e);
+        }
+    }
+    
+    /**
+     * A buffered response. Either {@code body} or {@code file} holds the payload. The file of a
+     * response that was not cached is deleted once its reader closes it.
+     */
+    private record Entry(HttpStatusCode status, HttpHeaders headers, byte[] body, Path file,
+                         long expiresAtNanos, String eTag, String lastModified, boolean deleteOnClose) {
+        
+        boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+        
+        Entry renew(Duration freshness) {
+            return new Entry(status, headers, body, file, expiry(freshness), eTag, lastModified, deleteOnClose);
+        }
+        
+        long heapBytes() {
+            return body == null ? 0 : body.length;
+        }
+        
+        Entry uncached() {
+            return new Entry(status, headers, body, file, expiresAtNanos, eTag, lastModified, true);
+        }
+        
+        void discard() {
+            if (file != null) {
+                try {
+                    // Readers that already opened the file keep reading it until they close it
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("Could not delete cached response {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        
+        ClientHttpResponse toResponse() throws IOException {
+            InputStream in = file != null ? Files.newInputStream(file) : new ByteArrayInputStream(body);
+            return new ClientHttpResponse() {
+                @Override
+                public HttpStatusCode getStatusCode() {
+                    return status;
+                }
+                
+                @Override
+                public String getStatusText() {
+                    HttpStatus known = HttpStatus.resolve(status.value());
+                    return known != null ? known.getReasonPhrase() : "";
+                }
+                
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+                
+                @Override
+                public InputStream getBody() {
+                    return in;
+                }
+                
+                @Override
+                public void close() {
+                    try {
+                        in.close();
+                    } catch (IOException e) {
+                        log.debug("Failed to close cached response body: {}", e.getMessage());
+                    }
+                    if (deleteOnClose) {
+                        discard();
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ScoringConfigStore} decorator that serves the configuration from memory.
+ * 
+ * {@link #refresh()} loads every document at once and indexes it the way the lookups need it
+ * (enabled definitions per source type, rules and debt rules per metric, weights per entity
+ * type in display order). A background thread refreshes every {@code refreshInterval}, so
+ * configuration edits take effect within one interval. Until the first load succeeds,
+ * lookups go to the delegate.
+ */
+@Slf4j
+public class CachingScoringConfigStore implements ScoringConfigStore, AutoCloseable {
+    
+    private final ScoringConfigStore delegate;
+    private final Duration refreshInterval;
+    private final Thread refresher;
+    private volatile boolean running = true;
+    private volatile Index index;
+    
+    public CachingScoringConfigStore(ScoringConfigStore delegate, Duration refreshInterval) {
+        this.delegate = delegate;
+        this.refreshInterval = refreshInterval;
+        this.refresher = Thread.ofPlatform().name("scoring-config-refresh").daemon().start(this::runRefresher);
+    }
+    
+    /**
+     * Reload and re-index the whole configuration from the delegate.
+     * 
+     * @return What was loaded
+     */
+    public ScoringConfig refresh() {
+        ScoringConfig config = delegate.findAll();
+        index = new Index(config, Instant.now());
+        log.debug("Loaded {} scoring configuration documents", config.size());
+        return config;
+    }
+    
+    /**
+     * When the cached configuration was loaded, or null if it has not been yet.
+     */
+    public Instant loadedAt() {
+        Index current = index;
+        return current != null ? current.loadedAt : null;
+    }
+    
+    @Override
+    public List<AdapterSignalDefinitionDocument> findSignalDefinitions(String sourceType) {
+        Index current = index;
+        return current != null
+                ? current.definitionsBySource.getOrDefault(sourceType, List.of())
+                : delegate.findSignalDefinitions(sourceType);
+    }
+    
+    @Override
+    public SignalScoringRuleDocument findScoringRule(String metricKey) {
+        Index current = index;
+        return current != null ? current.rulesByMetric.get(metricKey) : delegate.findScoringRule(metricKey);
+    }
+    
+    @Override
+    public DebtSignalContributionDocument findDebtContribution(String metricKey) {
+        Index current = index;
+        return current != null ? current.debtByMetric.get(metricKey) : delegate.findDebtContribution(metricKey);
+    }
+    
+    @Override
+    public List<DebtDimensionWeightDocument> findDimensionWeights(String entityType) {
+        Index current = index;
+        return current != null
+                ? current.weightsByEntityType.getOrDefault(entityType, List.of())
+                : delegate.findDimensionWeights(entityType);
+    }
+    
+    @Override
+    public ScoringConfig findAll() {
+        Index current = index;
+        return current != null ? current.config : delegate.findAll();
+    }
+    
+    private void runRefresher() {
+        while (running) {
+            LockSupport.parkNanos(refreshInterval.toNanos());
+            if (!running) {
+                return;
+            }
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Could not refresh scoring configuration, keeping the previous one: {}", e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(refresher);
+    }
+    
+    private static final class Index {
+        
+        private final ScoringConfig config;
+        private final Instant loadedAt;
+        private final Map<String, List<AdapterSignalDefinitionDocument>> definitionsBySource;
+        private final Map<String, SignalScoringRuleDocument> rulesByMetric;
+        private final Map<String, DebtSignalContributionDocument> debtByMetric;
+        private final Map<String, List<DebtDimensionWeightDocument>> weightsByEntityType;
+        
+        Index(ScoringConfig config, Instant loadedAt) {
+            this.config = config;
+            this.loadedAt = loadedAt;
+            this.definitionsBySource = config.signalDefinitions().stream()
+                    .filter(definition -> definition.isEnabled() && definition.getSourceType() != null)
+                    .collect(Collectors.groupingBy(AdapterSignalDefinitionDocument::getSourceType,
+                            Collectors.toUnmodifiableList()));
+            this.rulesByMetric = config.scoringRules().stream()
+                    .filter(rule -> rule.getMetricKey() != null)
+                    .collect(Collectors.toMap(SignalScoringRuleDocument::getMetricKey, rule -> rule,
+                            (first, second) -> first));
+            this.debtByMetric = config.debtContributions().stream()
+                    .filter(contribution -> contribution.getMetricKey() != null)
+                    .collect(Collectors.toMap(DebtSignalContributionDocument::getMetricKey,
+                            contribution -> contribution, (first, second) -> first));
+            // Same order as the repository query: ascending display order, missing first
+            this.weightsByEntityType = config.dimensionWeights().stream()
+                    .filter(weight -> weight.getEntityType() != null)
+                    .sorted(Comparator.comparing(DebtDimensionWeightDocument::getDisplayOrder,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .collect(Collectors.groupingBy(DebtDimensionWeightDocument::getEntityType,
+                            Collectors.toUnmodifiableList()));
+        }
+    }
+}
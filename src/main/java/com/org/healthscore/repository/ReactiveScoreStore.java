@@ -0,0 +1,22 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.ScoreDocument;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking storage contract for computed health scores, used by the reactive API.
+ * 
+ * Same semantics as {@link ScoreStore}: MongoDB through the reactive driver by default,
+ * the in-memory engine under the "memory" profile.
+ */
+public interface ReactiveScoreStore {
+    
+    Mono<Void> save(ScoreDocument score);
+    
+    Mono<ScoreDocument> findById(String id);
+    
+    /**
+     * Latest score revision of an entity without loading the full document; empty if it has none.
+     */
+    Mono<ScoreVersion> findLatestVersion(String entityType, String entityId);
+}
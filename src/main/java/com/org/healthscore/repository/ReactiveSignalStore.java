@@ -0,0 +1,39 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.SignalDocument;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking storage contract for normalized signals, used by the reactive API.
+ * 
+ * Same semantics as {@link SignalStore}: MongoDB through the reactive driver by default,
+ * the in-memory engine under the "memory" profile.
+ */
+public interface ReactiveSignalStore {
+    
+    /**
+     * Persist signals. Documents without an id are assigned one.
+     */
+    Mono<Void> saveAll(List<SignalDocument> signals);
+    
+    /**
+     * All signals of an entity, in no particular order.
+     */
+    Flux<SignalDocument> findByEntity(String entityType, String entityId);
+    
+    Mono<Long> countByEntity(String entityType, String entityId);
+    
+    /**
+     * Most recent signal of an entity by (timestamp, id); empty if it has none.
+     */
+    Mono<SignalVersion> findLatestVersion(String entityType, String entityId);
+    
+    /**
+     * Matching signals ordered by (timestamp, id), after the query's cursor and up to
+     * {@code query.limit()} (unbounded when 0). Emitted as the cursor is read.
+     */
+    Flux<SignalDocument> find(SignalQuery query);
+}
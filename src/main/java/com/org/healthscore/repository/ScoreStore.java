@@ -0,0 +1,39 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.ScoreDocument;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage contract for computed health scores.
+ * 
+ * Implementations are selected by profile: MongoDB by default,
+ * a concurrent in-memory engine under the "memory" profile.
+ */
+public interface ScoreStore {
+    
+    void save(ScoreDocument score);
+    
+    /**
+     * Persist a batch of scores in one round trip where the engine supports it.
+     */
+    void saveAll(List<ScoreDocument> scores);
+    
+    Optional<ScoreDocument> findById(String id);
+    
+    /**
+     * Latest score revision of an entity without loading the full document.
+     */
+    Optional<ScoreVersion> findLatestVersion(String entityType, String entityId);
+    
+    /**
+     * Stream the latest score of every entity of a type.
+     * 
+     * @param asOf Only consider scores computed at or before this instant; null for latest
+     * @return One score per entity, in no particular order. The caller must close the stream.
+     */
+    Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf);
+}
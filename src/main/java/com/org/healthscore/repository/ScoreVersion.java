@@ -0,0 +1,16 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.ScoreDocument;
+
+import java.time.Instant;
+
+/**
+ * Closed projection over {@link ScoreDocument} carrying only what is needed
+ * to identify a score revision (used for HTTP conditional requests).
+ */
+public interface ScoreVersion {
+    
+    String getId();
+    
+    Instant getComputedAt();
+}
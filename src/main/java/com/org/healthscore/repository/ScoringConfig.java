@@ -0,0 +1,21 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+
+import java.util.List;
+
+/**
+ * Every configuration document at one point in time, enabled or not.
+ */
+public record ScoringConfig(List<AdapterSignalDefinitionDocument> signalDefinitions,
+                            List<SignalScoringRuleDocument> scoringRules,
+                            List<DebtSignalContributionDocument> debtContributions,
+                            List<DebtDimensionWeightDocument> dimensionWeights) {
+    
+    public int size() {
+        return signalDefinitions.size() + scoringRules.size() + debtContributions.size() + dimensionWeights.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+
+import java.util.List;
+
+/**
+ * Read contract for the configuration that gives signals their meaning:
+ * adapter definitions, scoring rules, debt rules and dimension weights.
+ */
+public interface ScoringConfigStore {
+    
+    /**
+     * Enabled adapter signal definitions for a source type.
+     */
+    List<AdapterSignalDefinitionDocument> findSignalDefinitions(String sourceType);
+    
+    /**
+     * Scoring rule for a metric, or null if none is configured (enabled or not).
+     */
+    SignalScoringRuleDocument findScoringRule(String metricKey);
+    
+    /**
+     * Debt rule for a metric, or null if none is configured (enabled or not).
+     */
+    DebtSignalContributionDocument findDebtContribution(String metricKey);
+    
+    /**
+     * Dimension weights for an entity type, in display order.
+     */
+    List<DebtDimensionWeightDocument> findDimensionWeights(String entityType);
+    
+    /**
+     * The whole configuration, enabled or not, for warm-up and caching.
+     */
+    ScoringConfig findAll();
+}
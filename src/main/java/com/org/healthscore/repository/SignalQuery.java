@@ -0,0 +1,38 @@
+package com.org.healthscore.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Filtered, keyset-paginated query over an entity's signal history.
+ * 
+ * Results are ordered by (timestamp, id) ascending. Optional filters are null when unset;
+ * an empty field list means the full document.
+ */
+public record SignalQuery(
+        String entityType,
+        String entityId,
+        String metricKey,
+        String sourceType,
+        Instant from,
+        Instant to,
+        SignalCursor after,
+        int limit,
+        List<String> fields
+) {
+    /**
+     * Fields a client may project. Keyset fields are always returned.
+     */
+    public static final List<String> PROJECTABLE_FIELDS = List.of(
+            "id", "sourceType", "sourceId", "metricKey", "canonicalForm",
+            "value", "timestamp", "metadata", "entityType", "entityId");
+    
+    public SignalQuery {
+        fields = fields != null ? List.copyOf(fields) : List.of();
+        for (String field : fields) {
+            if (!PROJECTABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown signal field: " + field);
+            }
+        }
+    }
+}
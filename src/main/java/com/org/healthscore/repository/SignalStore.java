@@ -0,0 +1,43 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.SignalDocument;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage contract for normalized signals.
+ * 
+ * Implementations are selected by profile: MongoDB by default,
+ * a concurrent in-memory engine under the "memory" profile.
+ */
+public interface SignalStore {
+    
+    /**
+     * Persist signals. Documents without an id are assigned one.
+     */
+    void saveAll(List<SignalDocument> signals);
+    
+    /**
+     * All signals of an entity, in no particular order.
+     */
+    List<SignalDocument> findByEntity(String entityType, String entityId);
+    
+    long countByEntity(String entityType, String entityId);
+    
+    /**
+     * Most recent signal of an entity by (timestamp, id).
+     */
+    Optional<SignalVersion> findLatestVersion(String entityType, String entityId);
+    
+    /**
+     * Fetch at most {@code query.limit()} signals after the query's cursor, ordered by (timestamp, id).
+     */
+    List<SignalDocument> findPage(SignalQuery query);
+    
+    /**
+     * Stream all matching signals ordered by (timestamp, id). The caller must close the stream.
+     */
+    Stream<SignalDocument> stream(SignalQuery query);
+}
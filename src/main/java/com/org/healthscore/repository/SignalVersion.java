@@ -0,0 +1,16 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.SignalDocument;
+
+import java.time.Instant;
+
+/**
+ * Closed projection over {@link SignalDocument} carrying only what is needed
+ * to identify the latest signal of an entity (used for HTTP conditional requests).
+ */
+public interface SignalVersion {
+    
+    String getId();
+    
+    Instant getTimestamp();
+}
@@ -0,0 +1,34 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence contract for the entity → tool source mapping synced on a schedule.
+ */
+public interface ToolSubscriptionStore {
+    
+    Optional<ToolSubscriptionDocument> find(String tool, String entityType, String entityId);
+    
+    List<ToolSubscriptionDocument> findAll();
+    
+    List<ToolSubscriptionDocument> findByTool(String tool);
+    
+    void save(ToolSubscriptionDocument subscription);
+    
+    /**
+     * Update only the sync status fields (last attempt, last success, error, failures, duration)
+     * of an existing subscription. Never creates one, so a subscription deleted or replaced while
+     * it was syncing is not brought back or reverted.
+     * 
+     * @return false if the subscription no longer exists
+     */
+    boolean saveSyncStatus(ToolSubscriptionDocument subscription);
+    
+    /**
+     * @return true if a subscription was removed
+     */
+    boolean delete(String tool, String entityType, String entityId);
+}
@@ -0,0 +1,39 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persistence contract for incremental tool sync state.
+ * 
+ * A component's state and its open issues are stored separately; issue writes are idempotent,
+ * so re-applying the same changes after a failed sync is harmless.
+ */
+public interface ToolSyncStateStore {
+    
+    Optional<ToolSyncStateDocument> find(String sourceType, String componentKey);
+    
+    /**
+     * Replace the state of a component (last writer wins).
+     */
+    void save(ToolSyncStateDocument state);
+    
+    /**
+     * Record issues as open with their category, and remove resolved ones.
+     */
+    void saveOpenIssues(String sourceType, String componentKey, Map<String, String> open,
+                        Collection<String> resolved);
+    
+    /**
+     * Remove every open issue of a component, before a new baseline.
+     */
+    void clearOpenIssues(String sourceType, String componentKey);
+    
+    /**
+     * Open issues of a component per category.
+     */
+    Map<String, Integer> countOpenIssues(String sourceType, String componentKey);
+}
@@ -0,0 +1,263 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.model.ScoreDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScoreStore} decorator that persists scores asynchronously.
+ * 
+ * Saved scores go into a bounded buffer and become readable immediately from memory;
+ * a background flusher writes them to the delegate as bulk inserts every
+ * {@code flushInterval} or {@code batchSize} documents, whichever comes first.
+ * A full buffer makes the caller flush inline, so memory stays bounded.
+ * A batch that still fails after {@code maxAttempts} is kept and retried first by the next
+ * flush, and the failure is thrown to whoever flushed. Pending scores are flushed on close.
+ */
+@Slf4j
+public class WriteBehindScoreStore implements ScoreStore, AutoCloseable {
+    
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    
+    private final ScoreStore delegate;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final int maxAttempts;
+    
+    private final BlockingQueue<Pending> queue;
+    private final ConcurrentMap<String, ScoreDocument> pendingById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ScoreDocument> pendingLatest = new ConcurrentHashMap<>();
+    
+    // Serializes flushes between the background flusher and callers applying backpressure
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Drained batch not yet persisted (guarded by flushLock), visible to the lag gauge
+    private volatile List<Pending> unwritten = List.of();
+    private final Thread flusher;
+    private volatile boolean running = true;
+    
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+    
+    public WriteBehindScoreStore(ScoreStore delegate, int capacity, int batchSize, Duration flushInterval,
+                                 int maxAttempts, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        
+        Gauge.builder("healthscore.scores.write_behind.pending", queue, BlockingQueue::size)
+                .description("Scores buffered but not yet persisted")
+                .register(meterRegistry);
+        Gauge.builder("healthscore.scores.write_behind.lag", this, WriteBehindScoreStore::lagSeconds)
+                .description("Age of the oldest buffered score")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("healthscore.scores.write_behind.flush")
+                .description("Bulk insert latency of buffered scores")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("healthscore.scores.write_behind.flushed")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("healthscore.scores.write_behind.failures")
+                .register(meterRegistry);
+        
+        this.flusher = Thread.ofPlatform().name("score-write-behind").daemon().start(this::runFlusher);
+    }
+    
+    @Override
+    public void save(ScoreDocument score) {
+        String key = entityKey(score);
+        pendingById.put(score.getId(), score);
+        ScoreDocument[] previous = new ScoreDocument[1];
+        pendingLatest.compute(key, (k, current) -> {
+            previous[0] = current;
+            return current == null || isNewer(score, current) ? score : current;
+        });
+        
+        Pending pending = new Pending(score, System.nanoTime());
+        while (!queue.offer(pending)) {
+            // Buffer full: apply backpressure by flushing on the caller's thread
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // Not buffered, so it must not be served as if it were going to be persisted
+                pendingById.remove(score.getId(), score);
+                // An older score of the entity may still be pending; it is the latest again
+                if (previous[0] != null && pendingById.containsKey(previous[0].getId())) {
+                    pendingLatest.replace(key, score, previous[0]);
+                } else {
+                    pendingLatest.remove(key, score);
+                }
+                throw e;
+            }
+        }
+        if (queue.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+    
+    @Override
+    public void saveAll(List<ScoreDocument> scores) {
+        scores.forEach(this::save);
+    }
+    
+    @Override
+    public Optional<ScoreDocument> findById(String id) {
+        ScoreDocument pending = pendingById.get(id);
+        return pending != null ? Optional.of(pending) : delegate.findById(id);
+    }
+    
+    @Override
+    public Optional<ScoreVersion> findLatestVersion(String entityType, String entityId) {
+        ScoreDocument pending = pendingLatest.get(entityKey(entityType, entityId));
+        if (pending != null) {
+            return Optional.of(new Version(pending.getId(), pending.getComputedAt()));
+        }
+        return delegate.findLatestVersion(entityType, entityId);
+    }
+    
+    /**
+     * Flushes pending scores first so exports see everything computed so far.
+     */
+    @Override
+    public Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf) {
+        flush();
+        return delegate.streamLatestByEntityType(entityType, asOf);
+    }
+    
+    /**
+     * Persist everything currently buffered.
+     * 
+     * @throws RuntimeException if a batch could not be written after {@code maxAttempts}
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!unwritten.isEmpty()) {
+                write(unwritten);
+            }
+            List<Pending> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(flushInterval.multipliedBy(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        try {
+            flush();
+            log.info("Write-behind score store flushed and closed");
+        } catch (RuntimeException e) {
+            log.error("Write-behind shutdown flush failed, {} scores not persisted: {}", 
+                    pendingById.size(), e.getMessage(), e);
+        }
+    }
+    
+    private void runFlusher() {
+        while (running) {
+            // Sleeps for the flush interval unless save() signals a full batch
+            LockSupport.parkNanos(this, flushInterval.toNanos());
+            if (!running) {
+                return;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Write-behind flush failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+    
+    private void write(List<Pending> batch) {
+        unwritten = batch;
+        List<ScoreDocument> docs = batch.stream().map(Pending::score).toList();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> delegate.saveAll(docs));
+                break;
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                if (attempt >= maxAttempts || !running) {
+                    log.error("Failed to flush {} scores after {} attempts, keeping them for the next flush: {}",
+                            docs.size(), attempt, e.getMessage());
+                    throw e;
+                }
+                log.warn("Failed to flush {} scores (attempt {} of {}), retrying: {}", 
+                        docs.size(), attempt, maxAttempts, e.getMessage());
+                LockSupport.parkNanos(this, RETRY_BACKOFF.toNanos());
+            }
+        }
+        unwritten = List.of();
+        
+        flushedCounter.increment(docs.size());
+        for (ScoreDocument doc : docs) {
+            pendingById.remove(doc.getId(), doc);
+            pendingLatest.remove(entityKey(doc), doc);
+        }
+    }
+    
+    private double lagSeconds() {
+        // A batch being written (or kept after a failed flush) is older than anything still queued
+        List<Pending> writing = unwritten;
+        Pending oldest = !writing.isEmpty() ? writing.get(0) : queue.peek();
+        return oldest != null ? (System.nanoTime() - oldest.enqueuedAtNanos()) / 1e9 : 0.0;
+    }
+    
+    private boolean isNewer(ScoreDocument candidate, ScoreDocument current) {
+        return current.getComputedAt() == null 
+                || (candidate.getComputedAt() != null && !candidate.getComputedAt().isBefore(current.getComputedAt()));
+    }
+    
+    private String entityKey(ScoreDocument score) {
+        return entityKey(score.getEntityType(), score.getEntityId());
+    }
+    
+    private String entityKey(String entityType, String entityId) {
+        return entityType + '\u0000' + entityId;
+    }
+    
+    private record Pending(ScoreDocument score, long enqueuedAtNanos) {
+    }
+    
+    private record Version(String id, Instant computedAt) implements ScoreVersion {
+        
+        @Override
+        public String getId() {
+            return id;
+        }
+        
+        @Override
+        public Instant getComputedAt() {
+            return computedAt;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.org.healthscore.repository.memory;
+
+/**
+ * Index key for per-entity data in the in-memory stores.
+ */
+record EntityKey(String entityType, String entityId) {
+}
@@ -0,0 +1,34 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.ReactiveScoreStore;
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.model.ScoreDocument;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveScoreStore} over the in-memory engine (or its write-behind buffer).
+ * 
+ * Neither blocks, so calls run on the subscribing thread.
+ */
+@RequiredArgsConstructor
+public class InMemoryReactiveScoreStore implements ReactiveScoreStore {
+    
+    private final ScoreStore delegate;
+    
+    @Override
+    public Mono<Void> save(ScoreDocument score) {
+        return Mono.fromRunnable(() -> delegate.save(score));
+    }
+    
+    @Override
+    public Mono<ScoreDocument> findById(String id) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findById(id)));
+    }
+    
+    @Override
+    public Mono<ScoreVersion> findLatestVersion(String entityType, String entityId) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findLatestVersion(entityType, entityId)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.ReactiveSignalStore;
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.SignalVersion;
+import com.org.healthscore.repository.model.SignalDocument;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * {@link ReactiveSignalStore} over the in-memory engine.
+ * 
+ * The in-memory store never blocks, so calls run on the subscribing thread.
+ */
+@RequiredArgsConstructor
+public class InMemoryReactiveSignalStore implements ReactiveSignalStore {
+    
+    private final SignalStore delegate;
+    
+    @Override
+    public Mono<Void> saveAll(List<SignalDocument> signals) {
+        return Mono.fromRunnable(() -> delegate.saveAll(signals));
+    }
+    
+    @Override
+    public Flux<SignalDocument> findByEntity(String entityType, String entityId) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByEntity(entityType, entityId)));
+    }
+    
+    @Override
+    public Mono<Long> countByEntity(String entityType, String entityId) {
+        return Mono.fromSupplier(() -> delegate.countByEntity(entityType, entityId));
+    }
+    
+    @Override
+    public Mono<SignalVersion> findLatestVersion(String entityType, String entityId) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findLatestVersion(entityType, entityId)));
+    }
+    
+    @Override
+    public Flux<SignalDocument> find(SignalQuery query) {
+        return Flux.defer(() -> Flux.fromStream(delegate.stream(query)));
+    }
+}
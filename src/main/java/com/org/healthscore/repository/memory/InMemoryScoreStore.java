@@ -0,0 +1,107 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.model.ScoreDocument;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent in-memory {@link ScoreStore}.
+ * 
+ * Scores are indexed by id and per entity ordered by (computedAt, id),
+ * so "latest" and "latest as of" are a single floor lookup.
+ */
+public class InMemoryScoreStore implements ScoreStore {
+    
+    private final ConcurrentMap<String, ScoreDocument> byId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<EntityKey, ConcurrentNavigableMap<ScoreKey, ScoreDocument>> byEntity = 
+            new ConcurrentHashMap<>();
+    
+    @Override
+    public void save(ScoreDocument score) {
+        if (score.getId() == null) {
+            score.setId(UUID.randomUUID().toString());
+        }
+        byId.put(score.getId(), score);
+        byEntity.computeIfAbsent(new EntityKey(score.getEntityType(), score.getEntityId()), 
+                        k -> new ConcurrentSkipListMap<>())
+                .put(ScoreKey.of(score), score);
+    }
+    
+    @Override
+    public void saveAll(List<ScoreDocument> scores) {
+        scores.forEach(this::save);
+    }
+    
+    @Override
+    public Optional<ScoreDocument> findById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+    
+    @Override
+    public Optional<ScoreVersion> findLatestVersion(String entityType, String entityId) {
+        NavigableMap<ScoreKey, ScoreDocument> scores = byEntity.get(new EntityKey(entityType, entityId));
+        if (scores == null || scores.isEmpty()) {
+            return Optional.empty();
+        }
+        ScoreDocument latest = scores.lastEntry().getValue();
+        return Optional.of(new Version(latest.getId(), latest.getComputedAt()));
+    }
+    
+    @Override
+    public Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf) {
+        return byEntity.entrySet().stream()
+                .filter(entry -> entry.getKey().entityType().equals(entityType))
+                .map(entry -> latestAsOf(entry.getValue(), asOf))
+                .filter(Objects::nonNull);
+    }
+    
+    private ScoreDocument latestAsOf(NavigableMap<ScoreKey, ScoreDocument> scores, Instant asOf) {
+        Map.Entry<ScoreKey, ScoreDocument> entry = asOf == null
+                ? scores.lastEntry()
+                : scores.lowerEntry(new ScoreKey(asOf.plusNanos(1), ""));
+        return entry != null ? entry.getValue() : null;
+    }
+    
+    private record ScoreKey(Instant computedAt, String id) implements Comparable<ScoreKey> {
+        
+        private static final Comparator<ScoreKey> ORDER = Comparator
+                .comparing(ScoreKey::computedAt)
+                .thenComparing(ScoreKey::id);
+        
+        static ScoreKey of(ScoreDocument doc) {
+            return new ScoreKey(doc.getComputedAt() != null ? doc.getComputedAt() : Instant.EPOCH, doc.getId());
+        }
+        
+        @Override
+        public int compareTo(ScoreKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+    
+    private record Version(String id, Instant computedAt) implements ScoreVersion {
+        
+        @Override
+        public String getId() {
+            return id;
+        }
+        
+        @Override
+        public Instant getComputedAt() {
+            return computedAt;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.ScoringConfig;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory {@link ScoringConfigStore}, populated from a seed document at startup
+ * or programmatically (tests, benchmarks).
+ */
+public class InMemoryScoringConfigStore implements ScoringConfigStore {
+    
+    private final ConcurrentMap<String, List<AdapterSignalDefinitionDocument>> definitionsBySource = 
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SignalScoringRuleDocument> rulesByMetric = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DebtSignalContributionDocument> debtByMetric = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<DebtDimensionWeightDocument>> weightsByEntityType = 
+            new ConcurrentHashMap<>();
+    
+    public void load(Seed seed) {
+        seed.getAdapterSignalDefinitions().forEach(this::saveSignalDefinition);
+        seed.getSignalScoringRules().forEach(this::saveScoringRule);
+        seed.getDebtSignalContributions().forEach(this::saveDebtContribution);
+        seed.getDebtDimensionWeights().forEach(this::saveDimensionWeight);
+    }
+    
+    public void saveSignalDefinition(AdapterSignalDefinitionDocument definition) {
+        definitionsBySource.computeIfAbsent(definition.getSourceType(), k -> new CopyOnWriteArrayList<>())
+                .add(definition);
+    }
+    
+    public void saveScoringRule(SignalScoringRuleDocument rule) {
+        rulesByMetric.put(rule.getMetricKey(), rule);
+    }
+    
+    public void saveDebtContribution(DebtSignalContributionDocument contribution) {
+        debtByMetric.put(contribution.getMetricKey(), contribution);
+    }
+    
+    public void saveDimensionWeight(DebtDimensionWeightDocument weight) {
+        weightsByEntityType.computeIfAbsent(weight.getEntityType(), k -> new CopyOnWriteArrayList<>())
+                .add(weight);
+    }
+    
+    @Override
+    public List<AdapterSignalDefinitionDocument> findSignalDefinitions(String sourceType) {
+        return definitionsBySource.getOrDefault(sourceType, List.of()).stream()
+                .filter(AdapterSignalDefinitionDocument::isEnabled)
+                .toList();
+    }
+    
+    @Override
+    public SignalScoringRuleDocument findScoringRule(String metricKey) {
+        return rulesByMetric.get(metricKey);
+    }
+    
+    @Override
+    public DebtSignalContributionDocument findDebtContribution(String metricKey) {
+        return debtByMetric.get(metricKey);
+    }
+    
+    @Override
+    public List<DebtDimensionWeightDocument> findDimensionWeights(String entityType) {
+        return weightsByEntityType.getOrDefault(entityType, List.of()).stream()
+                .sorted(Comparator.comparing(DebtDimensionWeightDocument::getDisplayOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+    
+    @Override
+    public ScoringConfig findAll() {
+        return new ScoringConfig(
+                definitionsBySource.values().stream().flatMap(List::stream).toList(),
+                List.copyOf(rulesByMetric.values()),
+                List.copyOf(debtByMetric.values()),
+                weightsByEntityType.values().stream().flatMap(List::stream).toList());
+    }
+    
+    /**
+     * Seed file layout: one array per configuration collection.
+     */
+    @Data
+    public static class Seed {
+        private List<AdapterSignalDefinitionDocument> adapterSignalDefinitions = new ArrayList<>();
+        private List<SignalScoringRuleDocument> signalScoringRules = new ArrayList<>();
+        private List<DebtSignalContributionDocument> debtSignalContributions = new ArrayList<>();
+        private List<DebtDimensionWeightDocument> debtDimensionWeights = new ArrayList<>();
+    }
+}
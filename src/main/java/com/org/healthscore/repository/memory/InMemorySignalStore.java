@@ -0,0 +1,182 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.SignalCursor;
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.SignalVersion;
+import com.org.healthscore.repository.model.SignalDocument;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent in-memory {@link SignalStore}.
+ * 
+ * Signals are indexed by entity and by (entity, metric), each index ordered by
+ * (timestamp, id) so keyset pages and time filters are sub-map views.
+ * Semantics match the MongoDB implementation, including field projection.
+ */
+public class InMemorySignalStore implements SignalStore {
+    
+    private final ConcurrentMap<EntityKey, ConcurrentNavigableMap<SignalKey, SignalDocument>> byEntity = 
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<EntityKey, ConcurrentMap<String, ConcurrentNavigableMap<SignalKey, SignalDocument>>> byMetric = 
+            new ConcurrentHashMap<>();
+    
+    @Override
+    public void saveAll(List<SignalDocument> signals) {
+        for (SignalDocument signal : signals) {
+            if (signal.getId() == null) {
+                signal.setId(UUID.randomUUID().toString());
+            }
+            EntityKey entity = new EntityKey(signal.getEntityType(), signal.getEntityId());
+            SignalKey key = SignalKey.of(signal);
+            
+            byEntity.computeIfAbsent(entity, k -> new ConcurrentSkipListMap<>()).put(key, signal);
+            if (signal.getMetricKey() != null) {
+                byMetric.computeIfAbsent(entity, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(signal.getMetricKey(), k -> new ConcurrentSkipListMap<>())
+                        .put(key, signal);
+            }
+        }
+    }
+    
+    @Override
+    public List<SignalDocument> findByEntity(String entityType, String entityId) {
+        NavigableMap<SignalKey, SignalDocument> signals = byEntity.get(new EntityKey(entityType, entityId));
+        return signals != null ? List.copyOf(signals.values()) : List.of();
+    }
+    
+    @Override
+    public long countByEntity(String entityType, String entityId) {
+        NavigableMap<SignalKey, SignalDocument> signals = byEntity.get(new EntityKey(entityType, entityId));
+        return signals != null ? signals.size() : 0;
+    }
+    
+    @Override
+    public Optional<SignalVersion> findLatestVersion(String entityType, String entityId) {
+        NavigableMap<SignalKey, SignalDocument> signals = byEntity.get(new EntityKey(entityType, entityId));
+        if (signals == null || signals.isEmpty()) {
+            return Optional.empty();
+        }
+        SignalDocument latest = signals.lastEntry().getValue();
+        return Optional.of(new Version(latest.getId(), latest.getTimestamp()));
+    }
+    
+    @Override
+    public List<SignalDocument> findPage(SignalQuery query) {
+        try (Stream<SignalDocument> page = stream(query)) {
+            return page.toList();
+        }
+    }
+    
+    @Override
+    public Stream<SignalDocument> stream(SignalQuery query) {
+        Stream<SignalDocument> matches = range(query).values().stream()
+                .filter(doc -> query.sourceType() == null || query.sourceType().equals(doc.getSourceType()));
+        if (query.limit() > 0) {
+            matches = matches.limit(query.limit());
+        }
+        return query.fields().isEmpty() ? matches : matches.map(doc -> project(doc, query.fields()));
+    }
+    
+    private NavigableMap<SignalKey, SignalDocument> range(SignalQuery query) {
+        EntityKey entity = new EntityKey(query.entityType(), query.entityId());
+        NavigableMap<SignalKey, SignalDocument> index;
+        if (query.metricKey() != null) {
+            Map<String, ConcurrentNavigableMap<SignalKey, SignalDocument>> metrics = byMetric.get(entity);
+            index = metrics != null ? metrics.get(query.metricKey()) : null;
+        } else {
+            index = byEntity.get(entity);
+        }
+        if (index == null) {
+            return new ConcurrentSkipListMap<>();
+        }
+        
+        // "" sorts before every id, so (instant, "") bounds all signals at that instant.
+        // Bounds are resolved up front: nested sub-map views reject keys outside their range.
+        SignalKey lower = query.from() != null ? new SignalKey(query.from(), "") : null;
+        boolean lowerInclusive = true;
+        SignalCursor after = query.after();
+        if (after != null) {
+            SignalKey afterKey = new SignalKey(after.timestamp(), after.id());
+            if (lower == null || afterKey.compareTo(lower) >= 0) {
+                lower = afterKey;
+                lowerInclusive = false;
+            }
+        }
+        SignalKey upper = query.to() != null ? new SignalKey(query.to(), "") : null;
+        
+        if (lower != null && upper != null) {
+            return lower.compareTo(upper) < 0
+                    ? index.subMap(lower, lowerInclusive, upper, false)
+                    : new ConcurrentSkipListMap<>();
+        }
+        if (lower != null) {
+            return index.tailMap(lower, lowerInclusive);
+        }
+        if (upper != null) {
+            return index.headMap(upper, false);
+        }
+        return index;
+    }
+    
+    private SignalDocument project(SignalDocument doc, List<String> fields) {
+        SignalDocument projected = new SignalDocument();
+        projected.setId(doc.getId());
+        projected.setTimestamp(doc.getTimestamp());
+        for (String field : fields) {
+            switch (field) {
+                case "sourceType" -> projected.setSourceType(doc.getSourceType());
+                case "sourceId" -> projected.setSourceId(doc.getSourceId());
+                case "metricKey" -> projected.setMetricKey(doc.getMetricKey());
+                case "canonicalForm" -> projected.setCanonicalForm(doc.getCanonicalForm());
+                case "value" -> projected.setValue(doc.getValue());
+                case "metadata" -> projected.setMetadata(doc.getMetadata());
+                case "entityType" -> projected.setEntityType(doc.getEntityType());
+                case "entityId" -> projected.setEntityId(doc.getEntityId());
+                default -> { }
+            }
+        }
+        return projected;
+    }
+    
+    private record SignalKey(Instant timestamp, String id) implements Comparable<SignalKey> {
+        
+        private static final Comparator<SignalKey> ORDER = Comparator
+                .comparing(SignalKey::timestamp)
+                .thenComparing(SignalKey::id);
+        
+        static SignalKey of(SignalDocument doc) {
+            return new SignalKey(doc.getTimestamp() != null ? doc.getTimestamp() : Instant.EPOCH, doc.getId());
+        }
+        
+        @Override
+        public int compareTo(SignalKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+    
+    private record Version(String id, Instant timestamp) implements SignalVersion {
+        
+        @Override
+        public String getId() {
+            return id;
+        }
+        
+        @Override
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.ToolSubscriptionStore;
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent in-memory {@link ToolSubscriptionStore}.
+ */
+public class InMemoryToolSubscriptionStore implements ToolSubscriptionStore {
+    
+    private final ConcurrentMap<String, ToolSubscriptionDocument> subscriptions = new ConcurrentHashMap<>();
+    
+    @Override
+    public Optional<ToolSubscriptionDocument> find(String tool, String entityType, String entityId) {
+        return Optional.ofNullable(subscriptions.get(ToolSubscriptionDocument.idFor(tool, entityType, entityId)));
+    }
+    
+    @Override
+    public List<ToolSubscriptionDocument> findAll() {
+        return List.copyOf(subscriptions.values());
+    }
+    
+    @Override
+    public List<ToolSubscriptionDocument> findByTool(String tool) {
+        return subscriptions.values().stream()
+                .filter(subscription -> tool.equals(subscription.getTool()))
+                .toList();
+    }
+    
+    @Override
+    public void save(ToolSubscriptionDocument subscription) {
+        subscription.setId(ToolSubscriptionDocument.idFor(
+                subscription.getTool(), subscription.getEntityType(), subscription.getEntityId()));
+        subscriptions.put(subscription.getId(), subscription);
+    }
+    
+    @Override
+    public boolean saveSyncStatus(ToolSubscriptionDocument subscription) {
+        String id = ToolSubscriptionDocument.idFor(
+                subscription.getTool(), subscription.getEntityType(), subscription.getEntityId());
+        return subscriptions.computeIfPresent(id, (key, existing) -> {
+            existing.setLastAttemptAt(subscription.getLastAttemptAt());
+            existing.setLastSyncedAt(subscription.getLastSyncedAt());
+            existing.setLastError(subscription.getLastError());
+            existing.setConsecutiveFailures(subscription.getConsecutiveFailures());
+            existing.setLastDurationMs(subscription.getLastDurationMs());
+            return existing;
+        }) != null;
+    }
+    
+    @Override
+    public boolean delete(String tool, String entityType, String entityId) {
+        return subscriptions.remove(ToolSubscriptionDocument.idFor(tool, entityType, entityId)) != null;
+    }
+}
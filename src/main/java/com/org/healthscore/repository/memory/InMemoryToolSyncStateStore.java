@@ -0,0 +1,54 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.ToolSyncStateStore;
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent in-memory {@link ToolSyncStateStore}.
+ */
+public class InMemoryToolSyncStateStore implements ToolSyncStateStore {
+    
+    private final ConcurrentMap<String, ToolSyncStateDocument> states = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> openIssues = new ConcurrentHashMap<>();
+    
+    @Override
+    public Optional<ToolSyncStateDocument> find(String sourceType, String componentKey) {
+        return Optional.ofNullable(states.get(ToolSyncStateDocument.idFor(sourceType, componentKey)));
+    }
+    
+    @Override
+    public void save(ToolSyncStateDocument state) {
+        state.setId(ToolSyncStateDocument.idFor(state.getSourceType(), state.getComponentKey()));
+        states.put(state.getId(), state);
+    }
+    
+    @Override
+    public void saveOpenIssues(String sourceType, String componentKey, Map<String, String> open,
+                               Collection<String> resolved) {
+        ConcurrentMap<String, String> issues = openIssues.computeIfAbsent(
+                ToolSyncStateDocument.idFor(sourceType, componentKey), id -> new ConcurrentHashMap<>());
+        issues.putAll(open);
+        resolved.forEach(issues::remove);
+    }
+    
+    @Override
+    public void clearOpenIssues(String sourceType, String componentKey) {
+        openIssues.remove(ToolSyncStateDocument.idFor(sourceType, componentKey));
+    }
+    
+    @Override
+    public Map<String, Integer> countOpenIssues(String sourceType, String componentKey) {
+        Map<String, Integer> counts = new HashMap<>();
+        openIssues.getOrDefault(ToolSyncStateDocument.idFor(sourceType, componentKey), new ConcurrentHashMap<>())
+                .values()
+                .forEach(category -> counts.merge(category, 1, Integer::sum));
+        return counts;
+    }
+}
@@ -1,4 +1,4 @@
-package com.org.healthscore.repository.mongo;
+package com.org.healthscore.repository.model;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
@@ -0,0 +1,69 @@
+package com.org.healthscore.repository.model;
+
+import com.org.healthscore.domain.DebtContribution;
+import com.org.healthscore.domain.HealthScore;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MongoDB document storing computed health scores.
+ */
+@Data
+@Document(collection = "scores")
+public class ScoreDocument {
+    
+    @Id
+    private String id;
+    
+    private String entityType;
+    private String entityId;
+    private BigDecimal overallScore;
+    private Map<String, BigDecimal> dimensionScores;
+    private List<DebtContributionEmbedded> debtContributions;
+    private Instant computedAt;
+    private String computationVersion;
+    
+    /**
+     * Storage form of a computed score, with its debt contributions embedded.
+     */
+    public static ScoreDocument from(HealthScore healthScore) {
+        ScoreDocument doc = new ScoreDocument();
+        doc.setId(healthScore.getId());
+        doc.setEntityType(healthScore.getEntityType());
+        doc.setEntityId(healthScore.getEntityId());
+        doc.setOverallScore(healthScore.getOverallScore());
+        doc.setDimensionScores(healthScore.getDimensionScores());
+        doc.setComputedAt(healthScore.getComputedAt());
+        doc.setComputationVersion(healthScore.getComputationVersion());
+        doc.setDebtContributions(healthScore.getDebtContributions().stream()
+                .map(DebtContributionEmbedded::from)
+                .toList());
+        return doc;
+    }
+    
+    @Data
+    public static class DebtContributionEmbedded {
+        private String signalId;
+        private String metricKey;
+        private String dimension;
+        private BigDecimal contribution;
+        private String severity;
+        private String description;
+        
+        static DebtContributionEmbedded from(DebtContribution contribution) {
+            DebtContributionEmbedded embedded = new DebtContributionEmbedded();
+            embedded.setSignalId(contribution.getSignalId());
+            embedded.setMetricKey(contribution.getMetricKey());
+            embedded.setDimension(contribution.getDimension());
+            embedded.setContribution(contribution.getContribution());
+            embedded.setSeverity(contribution.getSeverity());
+            embedded.setDescription(contribution.getDescription());
+            return embedded;
+        }
+    }
+}
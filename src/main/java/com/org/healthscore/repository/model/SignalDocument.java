@@ -0,0 +1,102 @@
+package com.org.healthscore.repository.model;
+
+import com.org.healthscore.domain.CanonicalForm;
+import com.org.healthscore.domain.Signal;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * MongoDB document storing normalized signals.
+ * 
+ * Signals are the output of adapters after processing external tool data.
+ */
+@Data
+@Document(collection = "signals")
+public class SignalDocument {
+    
+    @Id
+    private String id;
+    
+    private String sourceType;
+    private String sourceId;
+    private String metricKey;
+    private String canonicalForm;
+    
+    /**
+     * Value storage - structure depends on canonicalForm:
+     * - COUNTABLE_CATEGORY: {"CRITICAL": 5, "HIGH": 10}
+     * - SCALAR: {"value": 85.5}
+     * - BOOLEAN: {"value": true}
+     * - ENUM: {"value": "HIGH"}
+     */
+    private Map<String, Object> value;
+    
+    private Instant timestamp;
+    private Map<String, Object> metadata;
+    
+    /**
+     * Entity this signal belongs to (project, team, etc.)
+     */
+    private String entityType;
+    private String entityId;
+    
+    /**
+     * Storage form of an adapted signal for an entity.
+     */
+    public static SignalDocument from(Signal signal, String entityType, String entityId) {
+        SignalDocument doc = new SignalDocument();
+        doc.setId(signal.getId());
+        doc.setSourceType(signal.getSourceType());
+        doc.setSourceId(signal.getSourceId());
+        doc.setMetricKey(signal.getMetricKey());
+        doc.setCanonicalForm(signal.getCanonicalForm().name());
+        doc.setTimestamp(signal.getTimestamp());
+        doc.setEntityType(entityType);
+        doc.setEntityId(entityId);
+        
+        // Store value based on canonical form
+        doc.setValue(switch (signal.getCanonicalForm()) {
+            case COUNTABLE_CATEGORY -> Map.of("categories", signal.getCountableValue());
+            case SCALAR -> Map.of("value", signal.getScalarValue());
+            case BOOLEAN -> Map.of("value", signal.getBooleanValue());
+            case ENUM -> Map.of("value", signal.getEnumValue());
+        });
+        
+        return doc;
+    }
+    
+    /**
+     * Domain form of the stored signal, for scoring.
+     */
+    public Signal toSignal() {
+        CanonicalForm form = CanonicalForm.valueOf(canonicalForm);
+        
+        Signal.SignalBuilder builder = Signal.builder()
+                .id(id)
+                .sourceType(sourceType)
+                .sourceId(sourceId)
+                .metricKey(metricKey)
+                .canonicalForm(form)
+                .timestamp(timestamp)
+                .metadata(metadata);
+        
+        if (value != null) {
+            switch (form) {
+                case COUNTABLE_CATEGORY -> {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Integer> categories = (Map<String, Integer>) value.get("categories");
+                    builder.countableValue(categories);
+                }
+                case SCALAR -> builder.scalarValue(new BigDecimal(value.get("value").toString()));
+                case BOOLEAN -> builder.booleanValue((Boolean) value.get("value"));
+                case ENUM -> builder.enumValue((String) value.get("value"));
+            }
+        }
+        
+        return builder.build();
+    }
+}
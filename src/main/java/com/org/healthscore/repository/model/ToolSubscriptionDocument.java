@@ -0,0 +1,39 @@
+package com.org.healthscore.repository.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MongoDB document registering an entity for scheduled sync from a tool.
+ */
+@Data
+@Document(collection = "tool_subscriptions")
+public class ToolSubscriptionDocument {
+    
+    @Id
+    private String id;
+    
+    private String tool;
+    private String entityType;
+    private String entityId;
+    
+    /**
+     * Tool config passed to every sync (e.g. componentKey, fetchMode).
+     */
+    private Map<String, String> config = new HashMap<>();
+    
+    private Instant createdAt;
+    private Instant lastAttemptAt;
+    private Instant lastSyncedAt;
+    private Long lastDurationMs;
+    private String lastError;
+    private int consecutiveFailures;
+    
+    public static String idFor(String tool, String entityType, String entityId) {
+        return tool + ":" + entityType + ":" + entityId;
+    }
+}
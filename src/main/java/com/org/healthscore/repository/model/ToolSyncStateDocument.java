@@ -0,0 +1,38 @@
+package com.org.healthscore.repository.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MongoDB document storing incremental sync state per tool component.
+ * 
+ * Holds the watermark and the category counts of the component's open issues; the issues
+ * themselves are {@link OpenIssueDocument}s, so a delta can retire or re-categorize them.
+ */
+@Data
+@Document(collection = "tool_sync_state")
+public class ToolSyncStateDocument {
+    
+    @Id
+    private String id;
+    
+    private String sourceType;
+    private String componentKey;
+    
+    /** Tool-reported date of the last analysis the state reflects */
+    private String lastAnalysisDate;
+    
+    /** Latest issue update seen; the next sync fetches changes from here */
+    private Instant watermark;
+    
+    private Map<String, Integer> categoryCounts = new HashMap<>();
+    private Instant syncedAt;
+    
+    public static String idFor(String sourceType, String componentKey) {
+        return sourceType + ":" + componentKey;
+    }
+}
@@ -1,5 +1,7 @@
 package com.org.healthscore.repository.mongo;
 
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
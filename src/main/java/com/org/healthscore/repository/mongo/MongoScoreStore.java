@@ -0,0 +1,46 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.ScoreStore;
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.model.ScoreDocument;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB-backed {@link ScoreStore}.
+ */
+@RequiredArgsConstructor
+public class MongoScoreStore implements ScoreStore {
+    
+    private final ScoreRepository scoreRepository;
+    
+    @Override
+    public void save(ScoreDocument score) {
+        scoreRepository.save(score);
+    }
+    
+    @Override
+    public void saveAll(List<ScoreDocument> scores) {
+        // Upserts by id: retrying a partly written batch must not fail on the rows already stored
+        scoreRepository.upsertAll(scores);
+    }
+    
+    @Override
+    public Optional<ScoreDocument> findById(String id) {
+        return scoreRepository.findById(id);
+    }
+    
+    @Override
+    public Optional<ScoreVersion> findLatestVersion(String entityType, String entityId) {
+        return scoreRepository.findFirstByEntityTypeAndEntityIdOrderByComputedAtDesc(entityType, entityId);
+    }
+    
+    @Override
+    public Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf) {
+        return scoreRepository.streamLatestByEntityType(entityType, asOf);
+    }
+}
@@ -0,0 +1,49 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.ScoringConfig;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.DebtSignalContributionDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * MongoDB-backed {@link ScoringConfigStore}.
+ */
+@RequiredArgsConstructor
+public class MongoScoringConfigStore implements ScoringConfigStore {
+    
+    private final AdapterSignalDefinitionRepository definitionRepository;
+    private final SignalScoringRuleRepository scoringRuleRepository;
+    private final DebtSignalContributionRepository debtContributionRepository;
+    private final DebtDimensionWeightRepository dimensionWeightRepository;
+    
+    @Override
+    public List<AdapterSignalDefinitionDocument> findSignalDefinitions(String sourceType) {
+        return definitionRepository.findBySourceTypeAndEnabled(sourceType, true);
+    }
+    
+    @Override
+    public SignalScoringRuleDocument findScoringRule(String metricKey) {
+        return scoringRuleRepository.findByMetricKey(metricKey);
+    }
+    
+    @Override
+    public DebtSignalContributionDocument findDebtContribution(String metricKey) {
+        return debtContributionRepository.findByMetricKey(metricKey);
+    }
+    
+    @Override
+    public List<DebtDimensionWeightDocument> findDimensionWeights(String entityType) {
+        return dimensionWeightRepository.findByEntityTypeOrderByDisplayOrder(entityType);
+    }
+    
+    @Override
+    public ScoringConfig findAll() {
+        return new ScoringConfig(definitionRepository.findAll(), scoringRuleRepository.findAll(),
+                debtContributionRepository.findAll(), dimensionWeightRepository.findAll());
+    }
+}
@@ -0,0 +1,50 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.SignalStore;
+import com.org.healthscore.repository.SignalVersion;
+import com.org.healthscore.repository.model.SignalDocument;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB-backed {@link SignalStore}.
+ */
+@RequiredArgsConstructor
+public class MongoSignalStore implements SignalStore {
+    
+    private final SignalRepository signalRepository;
+    
+    @Override
+    public void saveAll(List<SignalDocument> signals) {
+        signalRepository.saveAll(signals);
+    }
+    
+    @Override
+    public List<SignalDocument> findByEntity(String entityType, String entityId) {
+        return signalRepository.findByEntityTypeAndEntityId(entityType, entityId);
+    }
+    
+    @Override
+    public long countByEntity(String entityType, String entityId) {
+        return signalRepository.countByEntityTypeAndEntityId(entityType, entityId);
+    }
+    
+    @Override
+    public Optional<SignalVersion> findLatestVersion(String entityType, String entityId) {
+        return signalRepository.findFirstByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(entityType, entityId);
+    }
+    
+    @Override
+    public List<SignalDocument> findPage(SignalQuery query) {
+        return signalRepository.findPage(query);
+    }
+    
+    @Override
+    public Stream<SignalDocument> stream(SignalQuery query) {
+        return signalRepository.stream(query);
+    }
+}
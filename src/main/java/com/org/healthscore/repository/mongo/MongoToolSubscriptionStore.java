@@ -0,0 +1,68 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.ToolSubscriptionStore;
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoDB-backed {@link ToolSubscriptionStore}.
+ */
+@RequiredArgsConstructor
+public class MongoToolSubscriptionStore implements ToolSubscriptionStore {
+    
+    private final ToolSubscriptionRepository repository;
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public Optional<ToolSubscriptionDocument> find(String tool, String entityType, String entityId) {
+        return repository.findById(ToolSubscriptionDocument.idFor(tool, entityType, entityId));
+    }
+    
+    @Override
+    public List<ToolSubscriptionDocument> findAll() {
+        return repository.findAll();
+    }
+    
+    @Override
+    public List<ToolSubscriptionDocument> findByTool(String tool) {
+        return repository.findByTool(tool);
+    }
+    
+    @Override
+    public void save(ToolSubscriptionDocument subscription) {
+        subscription.setId(ToolSubscriptionDocument.idFor(
+                subscription.getTool(), subscription.getEntityType(), subscription.getEntityId()));
+        repository.save(subscription);
+    }
+    
+    @Override
+    public boolean saveSyncStatus(ToolSubscriptionDocument subscription) {
+        String id = ToolSubscriptionDocument.idFor(
+                subscription.getTool(), subscription.getEntityType(), subscription.getEntityId());
+        Update update = new Update()
+                .set("lastAttemptAt", subscription.getLastAttemptAt())
+                .set("lastSyncedAt", subscription.getLastSyncedAt())
+                .set("lastError", subscription.getLastError())
+                .set("consecutiveFailures", subscription.getConsecutiveFailures())
+                .set("lastDurationMs", subscription.getLastDurationMs());
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)), update,
+                ToolSubscriptionDocument.class).getMatchedCount() > 0;
+    }
+    
+    @Override
+    public boolean delete(String tool, String entityType, String entityId) {
+        String id = ToolSubscriptionDocument.idFor(tool, entityType, entityId);
+        if (!repository.existsById(id)) {
+            return false;
+        }
+        repository.deleteById(id);
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.ToolSyncStateStore;
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MongoDB-backed {@link ToolSyncStateStore}.
+ * 
+ * Open issues live in {@code tool_open_issues}, one document per issue; the counts are grouped
+ * from there by the (stateId, category) index.
+ */
+@RequiredArgsConstructor
+public class MongoToolSyncStateStore implements ToolSyncStateStore {
+    
+    private final ToolSyncStateRepository repository;
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public Optional<ToolSyncStateDocument> find(String sourceType, String componentKey) {
+        return repository.findById(ToolSyncStateDocument.idFor(sourceType, componentKey));
+    }
+    
+    @Override
+    public void save(ToolSyncStateDocument state) {
+        state.setId(ToolSyncStateDocument.idFor(state.getSourceType(), state.getComponentKey()));
+        repository.save(state);
+    }
+    
+    @Override
+    public void saveOpenIssues(String sourceType, String componentKey, Map<String, String> open,
+                               Collection<String> resolved) {
+        if (open.isEmpty() && resolved.isEmpty()) {
+            return;
+        }
+        String stateId = ToolSyncStateDocument.idFor(sourceType, componentKey);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OpenIssueDocument.class);
+        open.forEach((issueKey, category) -> bulk.upsert(
+                Query.query(Criteria.where("_id").is(OpenIssueDocument.idFor(stateId, issueKey))),
+                new Update().set("stateId", stateId).set("issueKey", issueKey).set("category", category)));
+        for (String issueKey : resolved) {
+            bulk.remove(Query.query(Criteria.where("_id").is(OpenIssueDocument.idFor(stateId, issueKey))));
+        }
+        bulk.execute();
+    }
+    
+    @Override
+    public void clearOpenIssues(String sourceType, String componentKey) {
+        mongoTemplate.remove(Query.query(Criteria.where("stateId")
+                .is(ToolSyncStateDocument.idFor(sourceType, componentKey))), OpenIssueDocument.class);
+    }
+    
+    @Override
+    public Map<String, Integer> countOpenIssues(String sourceType, String componentKey) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("stateId").is(ToolSyncStateDocument.idFor(sourceType, componentKey))),
+                Aggregation.group("category").count().as("count"));
+        
+        Map<String, Integer> counts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, OpenIssueDocument.class, Document.class)) {
+            counts.put(group.getString("_id"), group.getInteger("count"));
+        }
+        return counts;
+    }
+}
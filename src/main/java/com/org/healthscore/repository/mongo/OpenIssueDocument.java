@@ -0,0 +1,30 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * MongoDB document for one open issue of a synced tool component.
+ * 
+ * Kept one per issue rather than inside {@link ToolSyncStateDocument}, so a component with a
+ * large backlog never approaches the 16 MB document limit.
+ */
+@Data
+@Document(collection = "tool_open_issues")
+public class OpenIssueDocument {
+    
+    @Id
+    private String id;
+    
+    /** Owning {@link ToolSyncStateDocument#idFor sync state} */
+    private String stateId;
+    
+    private String issueKey;
+    private String category;
+    
+    public static String idFor(String stateId, String issueKey) {
+        return stateId + ":" + issueKey;
+    }
+}
@@ -0,0 +1,55 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.ReactiveScoreStore;
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.model.ScoreDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * MongoDB-backed {@link ReactiveScoreStore} on the reactive streams driver.
+ */
+@RequiredArgsConstructor
+public class ReactiveMongoScoreStore implements ReactiveScoreStore {
+    
+    private final ReactiveMongoTemplate mongoTemplate;
+    
+    @Override
+    public Mono<Void> save(ScoreDocument score) {
+        return mongoTemplate.save(score).then();
+    }
+    
+    @Override
+    public Mono<ScoreDocument> findById(String id) {
+        return mongoTemplate.findById(id, ScoreDocument.class);
+    }
+    
+    @Override
+    public Mono<ScoreVersion> findLatestVersion(String entityType, String entityId) {
+        Query query = new Query(Criteria.where("entityType").is(entityType).and("entityId").is(entityId))
+                .with(Sort.by(Sort.Order.desc("computedAt")))
+                .limit(1);
+        query.fields().include("computedAt");
+        return mongoTemplate.findOne(query, ScoreDocument.class)
+                .map(doc -> new Version(doc.getId(), doc.getComputedAt()));
+    }
+    
+    private record Version(String id, Instant computedAt) implements ScoreVersion {
+        
+        @Override
+        public String getId() {
+            return id;
+        }
+        
+        @Override
+        public Instant getComputedAt() {
+            return computedAt;
+        }
+    }
+}
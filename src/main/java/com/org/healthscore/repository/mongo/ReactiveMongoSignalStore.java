@@ -0,0 +1,77 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.ReactiveSignalStore;
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.SignalVersion;
+import com.org.healthscore.repository.model.SignalDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * MongoDB-backed {@link ReactiveSignalStore} on the reactive streams driver.
+ */
+@RequiredArgsConstructor
+public class ReactiveMongoSignalStore implements ReactiveSignalStore {
+    
+    private final ReactiveMongoTemplate mongoTemplate;
+    
+    @Override
+    public Mono<Void> saveAll(List<SignalDocument> signals) {
+        // Signals are new documents: one batched insert rather than an upsert per signal
+        return signals.isEmpty() ? Mono.empty() : mongoTemplate.insertAll(signals).then();
+    }
+    
+    @Override
+    public Flux<SignalDocument> findByEntity(String entityType, String entityId) {
+        return mongoTemplate.find(entityQuery(entityType, entityId), SignalDocument.class);
+    }
+    
+    @Override
+    public Mono<Long> countByEntity(String entityType, String entityId) {
+        return mongoTemplate.count(entityQuery(entityType, entityId), SignalDocument.class);
+    }
+    
+    @Override
+    public Mono<SignalVersion> findLatestVersion(String entityType, String entityId) {
+        Query query = entityQuery(entityType, entityId)
+                .with(Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("_id")))
+                .limit(1);
+        query.fields().include("timestamp");
+        return mongoTemplate.findOne(query, SignalDocument.class)
+                .map(doc -> new Version(doc.getId(), doc.getTimestamp()));
+    }
+    
+    @Override
+    public Flux<SignalDocument> find(SignalQuery query) {
+        Query mongoQuery = SignalQueries.toMongoQuery(query).cursorBatchSize(SignalQueries.STREAM_BATCH_SIZE);
+        if (query.limit() > 0) {
+            mongoQuery.limit(query.limit());
+        }
+        return mongoTemplate.find(mongoQuery, SignalDocument.class);
+    }
+    
+    private static Query entityQuery(String entityType, String entityId) {
+        return new Query(Criteria.where("entityType").is(entityType).and("entityId").is(entityId));
+    }
+    
+    private record Version(String id, Instant timestamp) implements SignalVersion {
+        
+        @Override
+        public String getId() {
+            return id;
+        }
+        
+        @Override
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.org.healthscore.repository.mongo;
 
+import com.org.healthscore.repository.ScoreVersion;
+import com.org.healthscore.repository.model.ScoreDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ScoreRepository extends MongoRepository<ScoreDocument, String> {
+public interface ScoreRepository extends MongoRepository<ScoreDocument, String>, ScoreRepositoryCustom {
     
     Optional<ScoreDocument> findTopByEntityTypeAndEntityIdOrderByComputedAtDesc(
             String entityType, String entityId);
     
     List<ScoreDocument> findByEntityTypeAndEntityIdOrderByComputedAtDesc(
             String entityType, String entityId);
+    
+    /**
+     * Latest score revision without loading the full document.
+     */
+    Optional<ScoreVersion> findFirstByEntityTypeAndEntityIdOrderByComputedAtDesc(
+            String entityType, String entityId);
 }
@@ -0,0 +1,28 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.model.ScoreDocument;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Score queries that stream from a server-side cursor, and idempotent bulk writes.
+ */
+public interface ScoreRepositoryCustom {
+    
+    /**
+     * Insert or replace scores by id in one unordered bulk write, so a retried batch that was
+     * partly written before succeeds instead of failing on duplicate keys.
+     */
+    void upsertAll(List<ScoreDocument> scores);
+    
+    /**
+     * Stream the latest score of every entity of a type.
+     * 
+     * @param entityType Entity type to export
+     * @param asOf Only consider scores computed at or before this instant; null for latest
+     * @return Stream of one score per entity, in no particular order. The caller must close it.
+     */
+    Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf);
+}
@@ -0,0 +1,59 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.model.ScoreDocument;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ScoreRepositoryCustomImpl implements ScoreRepositoryCustom {
+    
+    private static final int STREAM_BATCH_SIZE = 2000;
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public void upsertAll(List<ScoreDocument> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScoreDocument.class);
+        for (ScoreDocument score : scores) {
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(score.getId())), score,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+    
+    @Override
+    public Stream<ScoreDocument> streamLatestByEntityType(String entityType, Instant asOf) {
+        Criteria criteria = Criteria.where("entityType").is(entityType);
+        if (asOf != null) {
+            criteria.and("computedAt").lte(asOf);
+        }
+        
+        // Sort matches the (entityType, entityId, computedAt desc) index so $first is the latest score
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(Sort.Order.asc("entityId"), Sort.Order.desc("computedAt"))),
+                Aggregation.group("entityId").first(Aggregation.ROOT).as("latest"),
+                Aggregation.replaceRoot("latest")
+        ).withOptions(AggregationOptions.builder()
+                .allowDiskUse(true)
+                .cursorBatchSize(STREAM_BATCH_SIZE)
+                .build());
+        
+        return mongoTemplate.aggregateStream(aggregation, ScoreDocument.class, ScoreDocument.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.SignalCursor;
+import com.org.healthscore.repository.SignalQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * {@link SignalQuery} to MongoDB query translation, shared by the blocking and reactive stores.
+ */
+final class SignalQueries {
+    
+    static final int STREAM_BATCH_SIZE = 1000;
+    
+    private SignalQueries() {
+    }
+    
+    /**
+     * Filters, keyset predicate, projection and (timestamp, id) order; no limit.
+     */
+    static Query toMongoQuery(SignalQuery query) {
+        Criteria criteria = Criteria.where("entityType").is(query.entityType())
+                .and("entityId").is(query.entityId());
+        
+        if (query.metricKey() != null) {
+            criteria.and("metricKey").is(query.metricKey());
+        }
+        if (query.sourceType() != null) {
+            criteria.and("sourceType").is(query.sourceType());
+        }
+        if (query.from() != null || query.to() != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (query.from() != null) {
+                timestamp.gte(query.from());
+            }
+            if (query.to() != null) {
+                timestamp.lt(query.to());
+            }
+        }
+        
+        Query mongoQuery = new Query(criteria);
+        
+        // Keyset predicate: (timestamp, id) strictly after the cursor
+        SignalCursor after = query.after();
+        if (after != null) {
+            mongoQuery.addCriteria(new Criteria().orOperator(
+                    Criteria.where("timestamp").gt(after.timestamp()),
+                    new Criteria().andOperator(
+                            Criteria.where("timestamp").is(after.timestamp()),
+                            Criteria.where("_id").gt(after.id()))));
+        }
+        
+        if (!query.fields().isEmpty()) {
+            mongoQuery.fields().include("timestamp");
+            for (String field : query.fields()) {
+                if (!"id".equals(field)) {
+                    mongoQuery.fields().include(field);
+                }
+            }
+        }
+        
+        return mongoQuery.with(Sort.by(Sort.Order.asc("timestamp"), Sort.Order.asc("_id")));
+    }
+}
@@ -1,12 +1,15 @@
 package com.org.healthscore.repository.mongo;
 
+import com.org.healthscore.repository.SignalVersion;
+import com.org.healthscore.repository.model.SignalDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface SignalRepository extends MongoRepository<SignalDocument, String> {
+public interface SignalRepository extends MongoRepository<SignalDocument, String>, SignalRepositoryCustom {
     
     List<SignalDocument> findByEntityTypeAndEntityId(String entityType, String entityId);
     
@@ -17,4 +20,12 @@ public interface SignalRepository extends MongoRepository<SignalDocument, String
     
     SignalDocument findByEntityTypeAndEntityIdAndMetricKey(
             String entityType, String entityId, String metricKey);
+    
+    long countByEntityTypeAndEntityId(String entityType, String entityId);
+    
+    /**
+     * Most recent signal of an entity without loading the full document.
+     */
+    Optional<SignalVersion> findFirstByEntityTypeAndEntityIdOrderByTimestampDescIdDesc(
+            String entityType, String entityId);
 }
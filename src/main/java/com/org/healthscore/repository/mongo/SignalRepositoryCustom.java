@@ -0,0 +1,24 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.model.SignalDocument;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Signal history queries that need keyset pagination or cursor streaming.
+ */
+public interface SignalRepositoryCustom {
+    
+    /**
+     * Fetch at most {@code query.limit()} signals after the query's cursor.
+     */
+    List<SignalDocument> findPage(SignalQuery query);
+    
+    /**
+     * Stream all matching signals from a server-side cursor.
+     * The caller must close the stream.
+     */
+    Stream<SignalDocument> stream(SignalQuery query);
+}
@@ -0,0 +1,31 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.model.SignalDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class SignalRepositoryCustomImpl implements SignalRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public List<SignalDocument> findPage(SignalQuery query) {
+        Query mongoQuery = SignalQueries.toMongoQuery(query).limit(query.limit());
+        return mongoTemplate.find(mongoQuery, SignalDocument.class);
+    }
+    
+    @Override
+    public Stream<SignalDocument> stream(SignalQuery query) {
+        Query mongoQuery = SignalQueries.toMongoQuery(query).cursorBatchSize(SignalQueries.STREAM_BATCH_SIZE);
+        if (query.limit() > 0) {
+            mongoQuery.limit(query.limit());
+        }
+        return mongoTemplate.stream(mongoQuery, SignalDocument.class);
+    }
+}
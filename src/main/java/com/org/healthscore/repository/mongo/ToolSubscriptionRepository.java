@@ -0,0 +1,14 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ToolSubscriptionRepository extends MongoRepository<ToolSubscriptionDocument, String> {
+    
+    List<ToolSubscriptionDocument> findByTool(String tool);
+}
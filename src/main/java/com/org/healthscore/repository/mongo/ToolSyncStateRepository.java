@@ -0,0 +1,10 @@
+package com.org.healthscore.repository.mongo;
+
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ToolSyncStateRepository extends MongoRepository<ToolSyncStateDocument, String> {
+}
@@ -0,0 +1,71 @@
+package com.org.healthscore;
+
+import com.org.healthscore.config.StartupWarmup;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.observability.ScoringStats;
+import com.org.healthscore.observability.StoreMetricsPostProcessor;
+import com.org.healthscore.repository.ScoringConfigStore;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "healthscore.warmup.iterations=20")
+@ActiveProfiles("memory")
+class MemoryProfileApplicationTests {
+
+    @Autowired
+    private ScoringConfigStore configStore;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private StartupWarmup startupWarmup;
+    
+    @Autowired
+    private ScoringStats scoringStats;
+
+    @Test
+    void contextLoadsWithoutMongo() {
+        assertInstanceOf(InMemoryScoringConfigStore.class, configStore);
+        assertFalse(configStore.findSignalDefinitions("sonarqube").isEmpty());
+    }
+    
+    @Test
+    void storeCallsAreTimed() {
+        configStore.findScoringRule("code_coverage");
+        
+        assertTrue(meterRegistry.get(StoreMetricsPostProcessor.STORE_TIMER)
+                .tags("store", "ScoringConfigStore", "method", "findScoringRule", "outcome", "success")
+                .timer().count() > 0);
+    }
+    
+    @Test
+    void warmupLoadsConfigurationAndReplaysWorkload() throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (startupWarmup.report() == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        
+        StartupWarmup.Report report = startupWarmup.report();
+        assertNotNull(report);
+        assertEquals(List.of(), report.errors());
+        assertEquals(List.of(), report.invalidRules());
+        assertEquals(20, report.replays());
+        assertTrue(report.configDocuments() > 0);
+        assertEquals(Status.UP, startupWarmup.health().getStatus());
+        
+        // Replays are not real traffic
+        assertTrue(meterRegistry.find(PipelineMetrics.STAGE_TIMER).timers().isEmpty());
+        assertTrue(meterRegistry.find(PipelineMetrics.SIGNALS_COUNTER).counters().isEmpty());
+        assertTrue(scoringStats.snapshot().operators().isEmpty());
+    }
+}
@@ -0,0 +1,185 @@
+package com.org.healthscore.api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+    
+    private static final String COMPUTE = "/api/v1/scores/project/p1/compute";
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionProperties properties = properties();
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(properties, meterRegistry);
+    private final List<MockAsyncContext> pending = new ArrayList<>();
+    
+    @Test
+    void shedsOverLimitWithRetryAfter() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(200, serveAsync("POST", COMPUTE, null).getStatus());
+        }
+        
+        MockHttpServletResponse shed = serve("POST", COMPUTE, null);
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader("Retry-After"));
+        assertEquals(1, meterRegistry.get(AdmissionControlFilter.REJECTED)
+                .tags("endpoint", "compute", "priority", "interactive").counter().count());
+        
+        // Other endpoints have their own limit, and reads are never limited
+        assertEquals(200, serve("POST", "/api/reactive/v1/tools/integrate", null).getStatus());
+        assertEquals(200, serve("GET", "/api/v1/scores/project/p1", null).getStatus());
+        
+        pending.remove(0).complete();
+        assertEquals(200, serve("POST", COMPUTE, null).getStatus());
+        assertEquals(3, meterRegistry.get(AdmissionControlFilter.IN_FLIGHT)
+                .tag("endpoint", "compute").gauge().value());
+    }
+    
+    @Test
+    void keepsRoomForInteractiveRequests() throws Exception {
+        assertEquals(200, serveAsync("POST", COMPUTE, "batch").getStatus());
+        assertEquals(200, serveAsync("POST", COMPUTE, "batch").getStatus());
+        assertEquals(503, serve("POST", COMPUTE, "batch").getStatus());
+        
+        assertEquals(200, serveAsync("POST", COMPUTE, null).getStatus());
+        assertEquals(1, meterRegistry.get(AdmissionControlFilter.REJECTED)
+                .tags("endpoint", "compute", "priority", "batch").counter().count());
+    }
+    
+    @Test
+    void limitFollowsLatency() {
+        GradientLimiter limiter = new GradientLimiter(10, 2, 100, 1.5, 0.2);
+        
+        for (int i = 0; i < 200; i++) {
+            runAtLimit(limiter, 10_000_000);
+        }
+        int grown = limiter.limit();
+        assertTrue(grown > 10, "steady latency should let the limit grow, was " + grown);
+        
+        for (int i = 0; i < 20; i++) {
+            runAtLimit(limiter, 100_000_000);
+        }
+        assertTrue(limiter.limit() < grown / 2, "rising latency should shrink the limit, was " + limiter.limit());
+        assertEquals(0, limiter.inFlight());
+        
+        // Slow calls that fail (5xx, timeouts) never yield a latency sample, but still cut the limit
+        for (int i = 0; i < 200; i++) {
+            runAtLimit(limiter, 10_000_000);
+        }
+        int healthy = limiter.limit();
+        failAtLimit(limiter);
+        assertTrue(limiter.limit() < healthy, "failures should shrink the limit, was " + limiter.limit());
+        for (int i = 0; i < 10; i++) {
+            failAtLimit(limiter);
+        }
+        assertEquals(2, limiter.limit(), "repeated failures drive the limit to its minimum");
+        assertEquals(0, limiter.inFlight());
+    }
+    
+    @Test
+    void limitsEncodedAndParameterizedPaths() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(200, serveAsync("POST", "/api/v1/scores/project/p%31/compute;a=1", null).getStatus());
+        }
+        assertEquals(503, serve("POST", "/api/v1/scores/project/p1/%63ompute", null).getStatus());
+        
+        for (int i = 0; i < 4; i++) {
+            assertEquals(200, serveAsync("POST", "/api/v1/tools/%69ntegrate", null).getStatus());
+        }
+        assertEquals(503, serve("POST", "/api/v1/tools/integrate;jsessionid=1", null).getStatus());
+    }
+    
+    @Test
+    void serverErrorsAndTimeoutsShrinkTheLimit() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest request = request("POST", COMPUTE, null);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, (req, res) -> ((MockHttpServletResponse) res).setStatus(500));
+        }
+        
+        assertEquals(2, limit());
+        
+        // 4 * 0.9^4 = 2.62; three timeouts take it below 2
+        for (int i = 0; i < 3; i++) {
+            serveAsync("POST", COMPUTE, null);
+            MockAsyncContext timedOut = pending.remove(0);
+            for (AsyncListener listener : timedOut.getListeners()) {
+                listener.onTimeout(new AsyncEvent(timedOut));
+            }
+        }
+        assertEquals(1, limit());
+    }
+    
+    private double limit() {
+        return meterRegistry.get(AdmissionControlFilter.LIMIT).tag("endpoint", "compute").gauge().value();
+    }
+    
+    private static void runAtLimit(GradientLimiter limiter, long latencyNanos) {
+        int slots = 0;
+        while (limiter.tryAcquire(1.0)) {
+            slots++;
+        }
+        for (int i = 0; i < slots; i++) {
+            limiter.release(latencyNanos, false);
+        }
+    }
+    
+    private static void failAtLimit(GradientLimiter limiter) {
+        int slots = 0;
+        while (limiter.tryAcquire(1.0)) {
+            slots++;
+        }
+        for (int i = 0; i < slots; i++) {
+            limiter.release(500_000_000, true);
+        }
+    }
+    
+    private MockHttpServletResponse serve(String method, String uri, String priority) throws Exception {
+        MockHttpServletRequest request = request(method, uri, priority);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+    
+    /**
+     * A request whose handler went async, so its slot is held until the context completes.
+     */
+    private MockHttpServletResponse serveAsync(String method, String uri, String priority) throws Exception {
+        MockHttpServletRequest request = request(method, uri, priority);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            request.setAsyncSupported(true);
+            pending.add((MockAsyncContext) req.startAsync());
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+    
+    private static MockHttpServletRequest request(String method, String uri, String priority) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (priority != null) {
+            request.addHeader("X-Request-Priority", priority);
+        }
+        return request;
+    }
+    
+    private static AdmissionProperties properties() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(1);
+        properties.setRetryAfter(Duration.ofMillis(1_500));
+        return properties;
+    }
+}
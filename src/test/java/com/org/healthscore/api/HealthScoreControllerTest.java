@@ -0,0 +1,111 @@
+package com.org.healthscore.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"healthscore.api.cache.max-age=PT30S", "healthscore.warmup.enabled=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("memory")
+class HealthScoreControllerTest {
+    
+    private static final String API = "/api/v1";
+    private static final String CACHE_CONTROL = "max-age=30, must-revalidate, private";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void scoreIsRevalidatedByETag() throws Exception {
+        ingest("conditional-score", 85);
+        String computed = compute("conditional-score");
+        
+        String eTag = mockMvc.perform(get(API + "/scores/project/conditional-score"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, computed))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andExpect(jsonPath("$.entityId").value("conditional-score"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get(API + "/scores/project/conditional-score").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andExpect(content().string(""));
+        
+        // A recomputed score is a new revision
+        String recomputed = compute("conditional-score");
+        assertNotEquals(eTag, recomputed);
+        mockMvc.perform(get(API + "/scores/project/conditional-score").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, recomputed));
+    }
+    
+    @Test
+    void signalSetETagIsStableUntilSignalsArrive() throws Exception {
+        ingest("conditional-signals", 70);
+        
+        String eTag = signalsETag("conditional-signals");
+        assertEquals(eTag, signalsETag("conditional-signals"));
+        
+        mockMvc.perform(get(API + "/signals/project/conditional-signals").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL));
+        
+        ingest("conditional-signals", 75);
+        mockMvc.perform(get(API + "/signals/project/conditional-signals").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2));
+        assertNotEquals(eTag, signalsETag("conditional-signals"));
+    }
+    
+    @Test
+    void unknownEntities() throws Exception {
+        mockMvc.perform(get(API + "/scores/project/conditional-unknown"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(API + "/signals/project/conditional-unknown"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"g-0\""))
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+    
+    @Test
+    void cacheControlDefaultsToRevalidateEveryTime() {
+        assertEquals("no-cache, private", new ConditionalRequestSupport(Duration.ZERO).cacheControl().getHeaderValue());
+    }
+    
+    private void ingest(String entityId, int coverage) throws Exception {
+        mockMvc.perform(post(API + "/signals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"sourceType": "sonarqube", "sourceId": "%s", "entityType": "project", "entityId": "%s",
+                                 "data": {"metrics": {"coverage": %d}}}
+                                """.formatted(entityId, entityId, coverage)))
+                .andExpect(status().isOk());
+    }
+    
+    private String compute(String entityId) throws Exception {
+        return mockMvc.perform(post(API + "/scores/project/" + entityId + "/compute"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+    
+    private String signalsETag(String entityId) throws Exception {
+        return mockMvc.perform(get(API + "/signals/project/" + entityId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
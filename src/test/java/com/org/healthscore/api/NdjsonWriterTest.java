@@ -0,0 +1,41 @@
+package com.org.healthscore.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldTerminateEveryRecordWithNewline() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+            writer.write(Map.of("metricKey", "coverage"));
+            writer.write(Map.of("metricKey", "bugs"));
+            assertEquals(2, writer.written());
+        }
+
+        assertEquals("{\"metricKey\":\"coverage\"}\n{\"metricKey\":\"bugs\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldLeaveTargetStreamOpen() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+            writer.write(Map.of("a", 1));
+        }
+        out.write('x');
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("x"));
+    }
+}
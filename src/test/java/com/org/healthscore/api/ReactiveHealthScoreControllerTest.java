@@ -0,0 +1,87 @@
+package com.org.healthscore.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"healthscore.api.reactive.enabled=true", "healthscore.warmup.enabled=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("memory")
+class ReactiveHealthScoreControllerTest {
+    
+    private static final String API = "/api/reactive/v1";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void computesAndPersistsScore() throws Exception {
+        ingest("reactive-compute", 85);
+        
+        String eTag = perform(post(API + "/scores/project/reactive-compute/compute"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.entityId").value("reactive-compute"))
+                .andExpect(jsonPath("$.overallScore").isNumber())
+                .andExpect(jsonPath("$.dimensionScores.code_quality").isNumber())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        perform(get(API + "/scores/project/reactive-compute"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(jsonPath("$.entityId").value("reactive-compute"));
+    }
+    
+    @Test
+    void computeWithoutSignalsIsNotFound() throws Exception {
+        perform(post(API + "/scores/project/reactive-unknown/compute"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void pagesSignalsAndAnswersNotModified() throws Exception {
+        ingest("reactive-signals", 70);
+        
+        String eTag = perform(get(API + "/signals/project/reactive-signals"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andExpect(jsonPath("$.items[0].metricKey").value("code_coverage"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        perform(get(API + "/signals/project/reactive-signals").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+    
+    private void ingest(String entityId, int coverage) throws Exception {
+        perform(post(API + "/signals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"sourceType": "sonarqube", "sourceId": "%s", "entityType": "project", "entityId": "%s",
+                         "data": {"metrics": {"coverage": %d}}}
+                        """.formatted(entityId, entityId, coverage)))
+                .andExpect(status().isOk());
+    }
+    
+    /**
+     * Every handler returns a Mono, so the response is only written on the async dispatch.
+     */
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
@@ -0,0 +1,93 @@
+package com.org.healthscore.api;
+
+import com.org.healthscore.observability.RequestCosts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RequestCostFilterTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCosts requestCosts = new RequestCosts(meterRegistry, 3);
+    private final RequestCostFilter filter = new RequestCostFilter(requestCosts, "X-Client-Id");
+    private final HandlerMethod handler = handler();
+    
+    @Test
+    void aggregatesByEndpointEntityTypeAndClient() throws Exception {
+        serve("GET", "/api/v1/scores/{entityType}/{entityId}", "project", "dashboards", 10_000);
+        serve("GET", "/api/v1/scores/{entityType}/{entityId}", "project", "dashboards", 10_000);
+        serve("POST", "/api/v1/scores/{entityType}/{entityId}/compute", "service", "ci", 1_000_000);
+        
+        List<RequestCosts.Stats> top = requestCosts.top(RequestCosts.SortBy.ALLOCATED, 10);
+        assertEquals(2, top.size());
+        RequestCosts.Stats heaviest = top.get(0);
+        assertEquals("POST /api/v1/scores/{entityType}/{entityId}/compute", heaviest.endpoint());
+        assertEquals("service", heaviest.entityType());
+        assertEquals("ci", heaviest.clientId());
+        assertTrue(heaviest.maxAllocatedBytes() >= 1_000_000);
+        
+        RequestCosts.Stats reads = requestCosts.top(RequestCosts.SortBy.REQUESTS, 1).get(0);
+        assertEquals(2, reads.requests());
+        assertEquals("dashboards", reads.clientId());
+        assertEquals(3, meterRegistry.get(RequestCosts.ALLOCATED_SUMMARY).summaries().stream()
+                .mapToLong(summary -> summary.count()).sum());
+    }
+    
+    @Test
+    void foldsCombinationsPastTheLimit() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            serve("GET", "/api/v1/scores/{entityType}/{entityId}", "type-" + i, "client", 0);
+        }
+        
+        List<RequestCosts.Stats> top = requestCosts.top(RequestCosts.SortBy.REQUESTS, 10);
+        assertEquals(4, top.size());
+        assertEquals(RequestCosts.OTHER, top.get(0).entityType());
+        assertEquals(2, top.get(0).requests());
+    }
+    
+    @Test
+    void ignoresOtherControllers() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/export/scores/project");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Object(), Object.class.getMethod("toString")));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        
+        assertTrue(requestCosts.top(RequestCosts.SortBy.CPU, 10).isEmpty());
+    }
+    
+    private void serve(String method, String pattern, String entityType, String clientId, int allocate)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.addHeader("X-Client-Id", clientId);
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                req.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("entityType", entityType));
+                byte[] payload = new byte[allocate];
+                req.setAttribute("payload", payload);
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+    
+    private static HandlerMethod handler() {
+        try {
+            return new HandlerMethod(mock(HealthScoreController.class),
+                    HealthScoreController.class.getMethod("computeHealthScore", String.class, String.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
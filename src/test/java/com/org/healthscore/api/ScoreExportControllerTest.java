@@ -0,0 +1,154 @@
+package com.org.healthscore.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "healthscore.warmup.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("memory")
+class ScoreExportControllerTest {
+    
+    private static final String EXPORT = "/api/v1/export/scores/project";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void exportsLatestScoreAsOfWithFlattenedDimensionsAndDebt() throws Exception {
+        ingest("export-a", 30);
+        String firstComputedAt = compute("export-a");
+        Thread.sleep(5);
+        ingest("export-a", 90);
+        String secondComputedAt = compute("export-a");
+        
+        List<Map<String, Object>> latest = rows(export(get(EXPORT).param("include", "dimensions", "debt")), "export-a");
+        assertEquals(1, latest.stream().filter(row -> "score".equals(row.get("recordType"))).count());
+        assertEquals(secondComputedAt, latest.get(0).get("computedAt"));
+        
+        List<Map<String, Object>> asOf = rows(export(get(EXPORT)
+                .param("asOf", firstComputedAt)
+                .param("include", "dimensions", "debt")), "export-a");
+        Map<String, Object> score = asOf.get(0);
+        assertEquals(List.of("recordType", "scoreId", "entityType", "entityId", "overallScore", "computedAt",
+                "computationVersion", "dimension.code_quality"), List.copyOf(score.keySet()));
+        assertEquals(firstComputedAt, score.get("computedAt"));
+        assertInstanceOf(Number.class, score.get("dimension.code_quality"));
+        
+        Map<String, Object> debt = asOf.get(1);
+        assertEquals(List.of("recordType", "scoreId", "entityType", "entityId", "computedAt", "signalId",
+                "metricKey", "dimension", "contribution", "severity", "description"), List.copyOf(debt.keySet()));
+        assertEquals("debt_contribution", debt.get("recordType"));
+        assertEquals(score.get("scoreId"), debt.get("scoreId"));
+        assertEquals("code_coverage", debt.get("metricKey"));
+        assertNotNull(debt.get("description"));
+    }
+    
+    @Test
+    void leavesOutOptionalRowGroupsByDefault() throws Exception {
+        ingest("export-b", 30);
+        compute("export-b");
+        
+        List<Map<String, Object>> rows = rows(export(get(EXPORT)), "export-b");
+        
+        assertEquals(1, rows.size());
+        assertFalse(rows.get(0).containsKey("dimension.code_quality"));
+    }
+    
+    @Test
+    void compressesOnlyWhenGzipIsAcceptable() throws Exception {
+        ingest("export-c", 80);
+        compute("export-c");
+        
+        MvcResult gzip = export(get(EXPORT).header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"));
+        assertEquals("gzip", gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getResponse().getHeader(HttpHeaders.VARY));
+        String unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray()))) {
+            unzipped = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertTrue(unzipped.contains("\"entityId\":\"export-c\""));
+        
+        MvcResult refused = export(get(EXPORT).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"));
+        assertNull(refused.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(refused.getResponse().getContentAsString().contains("\"entityId\":\"export-c\""));
+    }
+    
+    @Test
+    void parsesAcceptEncodingQualities() {
+        assertTrue(ScoreExportController.acceptsGzip("gzip"));
+        assertTrue(ScoreExportController.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ScoreExportController.acceptsGzip("*"));
+        assertFalse(ScoreExportController.acceptsGzip(null));
+        assertFalse(ScoreExportController.acceptsGzip("identity"));
+        assertFalse(ScoreExportController.acceptsGzip("gzip;q=0"));
+        assertFalse(ScoreExportController.acceptsGzip("gzip; q=0.0, *"));
+        assertFalse(ScoreExportController.acceptsGzip("*;q=0"));
+    }
+    
+    private void ingest(String entityId, int coverage) throws Exception {
+        mockMvc.perform(post("/api/v1/signals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"sourceType": "sonarqube", "sourceId": "%s", "entityType": "project", "entityId": "%s",
+                                 "data": {"metrics": {"coverage": %d}}}
+                                """.formatted(entityId, entityId, coverage)))
+                .andExpect(status().isOk());
+    }
+    
+    private String compute(String entityId) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/scores/project/" + entityId + "/compute"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return (String) objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {}).get("computedAt");
+    }
+    
+    /**
+     * The body is a StreamingResponseBody, written on the async dispatch.
+     */
+    private MvcResult export(RequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(NdjsonWriter.MEDIA_TYPE))
+                .andReturn();
+    }
+    
+    private List<Map<String, Object>> rows(MvcResult result, String entityId) throws Exception {
+        return result.getResponse().getContentAsString().lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {});
+                    } catch (Exception e) {
+                        throw new AssertionError("Not a JSON line: " + line, e);
+                    }
+                })
+                .filter(row -> entityId.equals(row.get("entityId")))
+                .toList();
+    }
+}
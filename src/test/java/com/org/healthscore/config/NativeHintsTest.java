@@ -0,0 +1,40 @@
+package com.org.healthscore.config;
+
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.ScoreDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeHintsTest {
+    
+    private final RuntimeHints hints = new RuntimeHints();
+    
+    @Test
+    void shouldRegisterDocumentsAndNestedTypesForBinding() throws NoSuchMethodException {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+        
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(AdapterSignalDefinitionDocument.class.getMethod("getExtractionPath")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(AdapterSignalDefinitionDocument.TransformationConfig.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(ScoreDocument.DebtContributionEmbedded.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(InMemoryScoringConfigStore.Seed.class.getMethod("setSignalScoringRules", List.class))
+                .test(hints));
+    }
+    
+    @Test
+    void shouldRegisterBundledResources() {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+        
+        assertTrue(RuntimeHintsPredicates.resource().forResource("memory-seed.json").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("warmup-workload.json").test(hints));
+    }
+}
@@ -0,0 +1,158 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.adapter.SignalAdapterService;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.parser.ToolApiClient;
+import com.org.healthscore.parser.ToolDataParser;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolIntegrationServiceTest {
+
+    private final CountDownLatch slowToolRelease = new CountDownLatch(1);
+    private volatile Thread slowToolThread;
+    private ToolRegistry registry;
+    private ToolIntegrationService service;
+
+    @AfterEach
+    void tearDown() {
+        slowToolRelease.countDown();
+        registry.shutdown();
+    }
+
+    @Test
+    void shouldPairClientsWithParsersBySourceType() {
+        start();
+
+        assertEquals(List.of("fast", "slow"), registry.sourceTypes());
+        List<Signal> signals = service.integrate("fast", "project", "p1", Map.of("sourceId", "repo-1"));
+
+        assertEquals(1, signals.size());
+        assertEquals("repo-1", signals.get(0).getSourceId());
+        assertEquals(0, new BigDecimal("42").compareTo(signals.get(0).getScalarValue()));
+    }
+
+    @Test
+    void shouldRejectUnknownTools() {
+        start();
+
+        assertThrows(IllegalArgumentException.class, () -> service.submit("jira", "project", "p1", null));
+    }
+
+    @Test
+    void shouldIsolateSlowToolOnItsOwnBoundedPool() throws Exception {
+        start();
+
+        // One thread and one queue slot: the third slow integration is rejected
+        ToolIntegrationService.Integration running = service.submit("slow", "project", "p1", null);
+        service.submit("slow", "project", "p2", null);
+        assertThrows(RejectedExecutionException.class, () -> service.submit("slow", "project", "p3", null));
+
+        // The fast tool is unaffected while the slow one is saturated
+        assertEquals(1, service.integrate("fast", "project", "p1", null).size());
+        assertFalse(running.signals().isDone());
+
+        slowToolRelease.countDown();
+        assertTrue(running.signals().get(5, TimeUnit.SECONDS).isEmpty());
+    }
+
+    @Test
+    void shouldKeepPoolBoundsWithVirtualThreads() throws Exception {
+        start(true);
+
+        ToolIntegrationService.Integration running = service.submit("slow", "project", "p1", null);
+        service.submit("slow", "project", "p2", null);
+        assertThrows(RejectedExecutionException.class, () -> service.submit("slow", "project", "p3", null));
+
+        assertEquals(1, service.integrate("fast", "project", "p1", null).size());
+        slowToolRelease.countDown();
+        assertTrue(running.signals().get(5, TimeUnit.SECONDS).isEmpty());
+        assertTrue(slowToolThread.isVirtual());
+    }
+
+    private void start() {
+        start(false);
+    }
+
+    private void start(boolean virtualThreads) {
+        InMemoryScoringConfigStore configStore = new InMemoryScoringConfigStore();
+        AdapterSignalDefinitionDocument definition = new AdapterSignalDefinitionDocument();
+        definition.setSourceType("fast");
+        definition.setMetricKey("fast_value");
+        definition.setCanonicalForm("SCALAR");
+        definition.setExtractionPath("value");
+        definition.setEnabled(true);
+        configStore.saveSignalDefinition(definition);
+
+        ToolIntegrationProperties properties = new ToolIntegrationProperties();
+        ToolIntegrationProperties.Limits slowLimits = new ToolIntegrationProperties.Limits();
+        slowLimits.setMaxConcurrency(1);
+        slowLimits.setQueueCapacity(1);
+        properties.getTools().put("slow", slowLimits);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(meterRegistry, configStore, Duration.ZERO);
+        registry = new ToolRegistry(List.of(), 
+                List.of(client("fast", () -> {}), client("slow", this::awaitRelease)),
+                List.of(parser("fast"), parser("slow")), properties, pipelineMetrics, meterRegistry, virtualThreads);
+        service = new ToolIntegrationService(registry, new SignalAdapterService(configStore, pipelineMetrics));
+    }
+
+    private void awaitRelease() {
+        slowToolThread = Thread.currentThread();
+        try {
+            slowToolRelease.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ToolApiClient client(String sourceType, Runnable onFetch) {
+        return new ToolApiClient() {
+            @Override
+            public String getSourceType() {
+                return sourceType;
+            }
+
+            @Override
+            public Stream<Map<String, Object>> fetch(String sourceId, Map<String, String> config) {
+                onFetch.run();
+                return Stream.of(Map.of("value", 42));
+            }
+        };
+    }
+
+    private static ToolDataParser parser(String sourceType) {
+        return new ToolDataParser() {
+            @Override
+            public String getSourceType() {
+                return sourceType;
+            }
+
+            @Override
+            public Map<String, Object> parse(String rawResponse) {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, Object> parse(Map<String, Object> rawResponse) {
+                return rawResponse;
+            }
+        };
+    }
+}
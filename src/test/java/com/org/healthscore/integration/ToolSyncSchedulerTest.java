@@ -0,0 +1,243 @@
+package com.org.healthscore.integration;
+
+import com.org.healthscore.adapter.SignalAdapterService;
+import com.org.healthscore.observability.PipelineMetrics;
+import com.org.healthscore.parser.ToolApiClient;
+import com.org.healthscore.parser.ToolDataParser;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.memory.InMemorySignalStore;
+import com.org.healthscore.repository.memory.InMemoryToolSubscriptionStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.ToolSubscriptionDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolSyncSchedulerTest {
+
+    private final InMemoryToolSubscriptionStore subscriptionStore = new InMemoryToolSubscriptionStore();
+    private final InMemorySignalStore signalStore = new InMemorySignalStore();
+    private final SyncProperties properties = new SyncProperties();
+    private final ActivityTracker activityTracker = new ActivityTracker(properties);
+    private final List<String> fetched = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch fetchGate = new CountDownLatch(0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ToolRegistry registry;
+    private ToolSyncScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSyncDueSubscriptionsOncePerInterval() throws Exception {
+        start(100, 10);
+        subscribe("p1");
+        subscribe("p2");
+
+        scheduler.tick();
+        awaitAttempts(2);
+
+        assertEquals(2, fetched.size());
+        assertEquals(1, signalStore.findByEntity("project", "p1").size());
+        ToolSubscriptionDocument synced = subscriptionStore.find("stub", "project", "p1").orElseThrow();
+        assertNotNull(synced.getLastSyncedAt());
+        assertNull(synced.getLastError());
+
+        scheduler.tick();
+        assertEquals(2, fetched.size(), "synced subscriptions are not due again within the interval");
+    }
+
+    @Test
+    void shouldStartActiveEntitiesFirstWhenRateLimited() throws Exception {
+        // One token per pass: only the highest-priority subscription is started
+        start(0.001, 1);
+        subscribe("p1");
+        subscribe("p2");
+        subscribe("p3");
+        activityTracker.touch("project", "p3");
+
+        scheduler.tick();
+        awaitAttempts(1);
+
+        assertEquals(List.of("p3"), fetched);
+    }
+
+    @Test
+    void shouldNotRestoreSubscriptionsDeletedDuringSync() throws Exception {
+        start(100, 10);
+        fetchGate = new CountDownLatch(1);
+        subscribe("p1");
+
+        scheduler.tick();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (fetched.isEmpty()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for the sync to start");
+            Thread.sleep(10);
+        }
+        assertTrue(subscriptionStore.delete("stub", "project", "p1"));
+        fetchGate.countDown();
+
+        while (meterRegistry.find("healthscore.sync.runs").timer() == null) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for the sync to finish");
+            Thread.sleep(10);
+        }
+        assertTrue(subscriptionStore.find("stub", "project", "p1").isEmpty());
+    }
+
+    @Test
+    void shouldTrackActivityOnlyWithinBounds() throws Exception {
+        activityTracker.touch("project", "off");
+        assertNull(activityTracker.lastActivity("project", "off"), "nothing is tracked while sync is off");
+
+        properties.setEnabled(true);
+        properties.setMaxTrackedEntities(2);
+        activityTracker.touch("project", "a");
+        activityTracker.touch("project", "b");
+        activityTracker.touch("project", "c");
+        activityTracker.touch("project", "a");
+
+        assertEquals(2, activityTracker.size());
+        assertNull(activityTracker.lastActivity("project", "c"));
+
+        properties.setActivityWindow(Duration.ZERO);
+        Thread.sleep(5);
+        activityTracker.touch("project", "c");
+        assertNotNull(activityTracker.lastActivity("project", "c"), "expired activity makes room");
+        assertTrue(activityTracker.size() <= 2);
+    }
+
+    @Test
+    void shouldLeaveToolWorkersForInteractiveIntegrations() throws Exception {
+        start(100, 10);
+        SyncProperties.ToolRate rate = properties.rateFor("stub");
+        rate.setInitialConcurrency(8);
+        rate.setMaxConcurrency(8);
+        subscribe("p1");
+
+        scheduler.tick();
+        awaitAttempts(1);
+
+        // The tool executor defaults to 4 workers, one of which is reserved
+        assertEquals(3, meterRegistry.get("healthscore.sync.concurrency.limit").tag("tool", "stub").gauge().value());
+    }
+
+    @Test
+    void shouldAdaptConcurrencyAdditivelyUpAndMultiplicativelyDown() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8);
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(acquireNow(limiter));
+            limiter.release(true);
+        }
+        assertEquals(5, limiter.limit());
+
+        assertTrue(acquireNow(limiter));
+        limiter.release(false);
+        assertEquals(2, limiter.limit());
+
+        assertTrue(acquireNow(limiter));
+        assertTrue(acquireNow(limiter));
+        assertFalse(acquireNow(limiter), "limit reached");
+    }
+
+    private static boolean acquireNow(AimdLimiter limiter) {
+        try {
+            return limiter.acquire(System.nanoTime());
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void start(double ratePerSecond, int burst) {
+        InMemoryScoringConfigStore configStore = new InMemoryScoringConfigStore();
+        AdapterSignalDefinitionDocument definition = new AdapterSignalDefinitionDocument();
+        definition.setSourceType("stub");
+        definition.setMetricKey("stub_value");
+        definition.setCanonicalForm("SCALAR");
+        definition.setExtractionPath("value");
+        definition.setEnabled(true);
+        configStore.saveSignalDefinition(definition);
+
+        SyncProperties.ToolRate rate = new SyncProperties.ToolRate();
+        rate.setRatePerSecond(ratePerSecond);
+        rate.setBurst(burst);
+        properties.getTools().put("stub", rate);
+        properties.setEnabled(true);
+        properties.setTick(Duration.ofMillis(300));
+
+        ToolApiClient client = new ToolApiClient() {
+            @Override
+            public String getSourceType() {
+                return "stub";
+            }
+
+            @Override
+            public Stream<Map<String, Object>> fetch(String sourceId, Map<String, String> config) {
+                fetched.add(sourceId);
+                try {
+                    fetchGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Stream.of(Map.of("value", 1));
+            }
+        };
+        ToolDataParser parser = new ToolDataParser() {
+            @Override
+            public String getSourceType() {
+                return "stub";
+            }
+
+            @Override
+            public Map<String, Object> parse(String rawResponse) {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, Object> parse(Map<String, Object> rawResponse) {
+                return rawResponse;
+            }
+        };
+
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(meterRegistry, configStore, Duration.ZERO);
+        registry = new ToolRegistry(List.of(), List.of(client), List.of(parser), 
+                new ToolIntegrationProperties(), pipelineMetrics, meterRegistry, false);
+        ToolIntegrationService integrationService = 
+                new ToolIntegrationService(registry, new SignalAdapterService(configStore, pipelineMetrics));
+        scheduler = new ToolSyncScheduler(subscriptionStore, integrationService, signalStore, 
+                activityTracker, properties, meterRegistry, false);
+    }
+
+    private void subscribe(String entityId) {
+        ToolSubscriptionDocument subscription = new ToolSubscriptionDocument();
+        subscription.setTool("stub");
+        subscription.setEntityType("project");
+        subscription.setEntityId(entityId);
+        subscription.setCreatedAt(Instant.now());
+        subscriptionStore.save(subscription);
+    }
+
+    private void awaitAttempts(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (subscriptionStore.findAll().stream().filter(s -> s.getLastAttemptAt() != null).count() < expected) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for syncs");
+            Thread.sleep(10);
+        }
+    }
+}
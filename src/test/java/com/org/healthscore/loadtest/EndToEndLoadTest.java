@@ -0,0 +1,132 @@
+package com.org.healthscore.loadtest;
+
+import com.org.healthscore.parser.SonarStubServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives SonarApiClient → SonarQubeParser → SignalAdapterService → HealthScoreEngine through the
+ * REST API against {@link SonarStubServer}, and reports latency percentiles and throughput per endpoint
+ * to the log and {@code target/load-test-report.txt}.
+ * 
+ * Excluded from the default build; run with {@code mvn test -Pload-test}. Tunable with
+ * {@code -Dload.rps}, {@code -Dload.duration}, {@code -Dload.warmup}, {@code -Dload.entities},
+ * {@code -Dload.issues} and {@code -Dload.sonar-latency}. {@code -Dload.virtual-threads=true} serves
+ * requests and runs the tool pools on virtual threads, and {@code -Dload.tomcat-threads} sizes the
+ * platform request pool it is compared against.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("memory")
+class EndToEndLoadTest {
+    
+    private static final double RPS = Double.parseDouble(System.getProperty("load.rps", "20"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT20S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final int ENTITIES = Integer.getInteger("load.entities", 20);
+    private static final int ISSUES = Integer.getInteger("load.issues", 2_000);
+    private static final Duration SONAR_LATENCY = Duration.parse(System.getProperty("load.sonar-latency", "PT0.02S"));
+    private static final String VIRTUAL_THREADS = System.getProperty("load.virtual-threads", "false");
+    private static final String TOMCAT_THREADS = System.getProperty("load.tomcat-threads", "200");
+    private static final String ADMISSION = System.getProperty("load.admission", "true");
+    
+    private static final Path REPORT = Path.of("target", "load-test-report.txt");
+    
+    private static final SonarStubServer sonar = startSonar();
+    
+    @LocalServerPort
+    private int port;
+    
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    
+    private static SonarStubServer startSonar() {
+        try {
+            return new SonarStubServer(ISSUES, 1, 3, 10, 20, 6).latency(SONAR_LATENCY, SONAR_LATENCY);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    @DynamicPropertySource
+    static void sonarProperties(DynamicPropertyRegistry registry) {
+        registry.add("sonarqube.base-url", sonar::baseUrl);
+        // Measure the full fetch path, not the response cache
+        registry.add("healthscore.tool-http.tools.sonarqube.cache.enabled", () -> "false");
+        registry.add("healthscore.integration.tools.sonarqube.max-concurrency", () -> "16");
+        registry.add("healthscore.integration.tools.sonarqube.queue-capacity", () -> "500");
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_THREADS);
+        registry.add("healthscore.admission.enabled", () -> ADMISSION);
+    }
+    
+    @AfterAll
+    static void stopSonar() {
+        sonar.close();
+    }
+    
+    @Test
+    void scoringPipelineUnderLoad() throws Exception {
+        // Every entity has signals and a score before reads are measured
+        for (int i = 0; i < ENTITIES; i++) {
+            assertEquals(200, client.send(integrate(i), HttpResponse.BodyHandlers.discarding()).statusCode());
+            assertEquals(200, client.send(compute(i), HttpResponse.BodyHandlers.discarding()).statusCode());
+        }
+        
+        LoadHarness.Report report = new LoadHarness(client).run(List.of(
+                new LoadHarness.Endpoint("POST /tools/integrate", seq -> integrate(seq % ENTITIES)),
+                new LoadHarness.Endpoint("POST /scores/{id}/compute", seq -> compute(seq % ENTITIES)),
+                new LoadHarness.Endpoint("GET /scores/{id}", seq -> get("/api/v1/scores/project/lt-" + seq % ENTITIES)),
+                new LoadHarness.Endpoint("GET /signals/{id}", seq -> get("/api/v1/signals/project/lt-" + seq % ENTITIES))
+        ), RPS, WARMUP, DURATION, Duration.ofSeconds(30));
+        
+        log.info("Load test report:\n{}", report);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report.toString());
+        assertTrue(report.totalCount() > 0);
+        assertEquals(0, report.totalErrors(), report::toString);
+    }
+    
+    private HttpRequest integrate(int entity) {
+        String body = """
+                {"entityType": "project", "entityId": "lt-%1$d", "tools": ["sonarqube"],
+                 "toolConfig": {"sonarqube": {"componentKey": "lt-%1$d"}}}""".formatted(entity);
+        return HttpRequest.newBuilder(uri("/api/v1/tools/integrate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    private HttpRequest compute(int entity) {
+        return HttpRequest.newBuilder(uri("/api/v1/scores/project/lt-" + entity + "/compute"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+    
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + path);
+    }
+}
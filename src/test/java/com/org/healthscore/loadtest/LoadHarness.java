@@ -0,0 +1,162 @@
+package com.org.healthscore.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Open-loop HTTP load generator.
+ * 
+ * Requests are started on a fixed schedule ({@code targetRps}) whether or not earlier ones have
+ * completed, and latency is measured from the scheduled start rather than the actual send, so a
+ * stalled server shows up in the percentiles instead of silently lowering the offered load
+ * (coordinated omission). Requests started during warm-up are sent but not recorded.
+ */
+public class LoadHarness {
+    
+    /**
+     * One kind of request in the mix. {@code request} receives the sequence number of the request.
+     */
+    public record Endpoint(String name, IntFunction<HttpRequest> request) {
+    }
+    
+    public record Stats(String endpoint, int count, int errors, Duration p50, Duration p95, Duration p99,
+                        Duration max, double throughput) {
+    }
+    
+    public record Report(double targetRps, Duration duration, List<Stats> endpoints) {
+        
+        public int totalErrors() {
+            return endpoints.stream().mapToInt(Stats::errors).sum();
+        }
+        
+        public int totalCount() {
+            return endpoints.stream().mapToInt(Stats::count).sum();
+        }
+        
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder(String.format(
+                    "target %.1f rps for %ss%n%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                    targetRps, duration.toSeconds(), "endpoint", "count", "errors", "p50 ms", "p95 ms", "p99 ms",
+                    "max ms", "rps"));
+            for (Stats stats : endpoints) {
+                out.append(String.format("%-28s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                        stats.endpoint(), stats.count(), stats.errors(), millis(stats.p50()), millis(stats.p95()),
+                        millis(stats.p99()), millis(stats.max()), stats.throughput()));
+            }
+            return out.toString();
+        }
+        
+        private static double millis(Duration duration) {
+            return duration.toNanos() / 1_000_000.0;
+        }
+    }
+    
+    private final HttpClient client;
+    
+    public LoadHarness(HttpClient client) {
+        this.client = client;
+    }
+    
+    /**
+     * Cycle through {@code mix} at {@code targetRps} for {@code warmup + duration}, then wait for
+     * outstanding requests (up to {@code drainTimeout}, after which they count as errors).
+     */
+    public Report run(List<Endpoint> mix, double targetRps, Duration warmup, Duration duration,
+                      Duration drainTimeout) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / targetRps);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        
+        Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        mix.forEach(endpoint -> recorders.put(endpoint.name(), new Recorder()));
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        
+        for (int i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            Endpoint endpoint = mix.get(i % mix.size());
+            Recorder recorder = intended >= measureFrom ? recorders.get(endpoint.name()) : null;
+            CompletableFuture<HttpResponse<Void>> call =
+                    client.sendAsync(endpoint.request().apply(i), HttpResponse.BodyHandlers.discarding());
+            if (recorder != null) {
+                recorder.issued.incrementAndGet();
+                inFlight.add(call.whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    boolean failed = error != null || response.statusCode() >= 400;
+                    recorder.record(latency, failed);
+                }));
+            }
+        }
+        
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // Unfinished or failed requests are reported as errors below
+        }
+        
+        List<Stats> stats = new ArrayList<>();
+        Map<String, Recorder> ordered = new LinkedHashMap<>();
+        mix.forEach(endpoint -> ordered.putIfAbsent(endpoint.name(), recorders.get(endpoint.name())));
+        ordered.forEach((name, recorder) -> stats.add(recorder.stats(name, duration)));
+        return new Report(targetRps, duration, stats);
+    }
+    
+    private static final class Recorder {
+        
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger issued = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+        
+        void record(long latencyNanos, boolean failed) {
+            latencies.add(latencyNanos);
+            if (failed) {
+                errors.incrementAndGet();
+            }
+        }
+        
+        Stats stats(String endpoint, Duration duration) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            int completed = sorted.size();
+            int failed = errors.get() + (issued.get() - completed);
+            return new Stats(endpoint, issued.get(), failed,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0), (completed - errors.get()) / (duration.toNanos() / 1e9));
+        }
+        
+        /**
+         * Nearest-rank percentile.
+         */
+        private static Duration percentile(List<Long> sorted, double quantile) {
+            if (sorted.isEmpty()) {
+                return Duration.ZERO;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.size());
+            return Duration.ofNanos(sorted.get(Math.max(rank, 1) - 1));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.org.healthscore.observability;
+
+import com.org.healthscore.observability.jfr.ScoreComputationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderServiceTest {
+    
+    private final FlightRecorderService flightRecorder = new FlightRecorderService();
+    
+    @AfterEach
+    void tearDown() {
+        flightRecorder.stop();
+    }
+    
+    @Test
+    void recordsPipelineEventsWithEntityAndSignalCount() throws Exception {
+        assertNull(flightRecorder.dump());
+        assertTrue(flightRecorder.start("default", Duration.ofMinutes(5)).running());
+        assertThrows(IllegalStateException.class, () -> flightRecorder.start("default", Duration.ofMinutes(5)));
+        
+        ScoreComputationEvent event = new ScoreComputationEvent();
+        event.start();
+        event.finish("service", "checkout", null, 12);
+        
+        assertFalse(flightRecorder.stop().running());
+        Path file = flightRecorder.dump();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.org.healthscore.ScoreComputation"))
+                    .toList();
+            assertEquals(1, events.size());
+            assertEquals("checkout", events.get(0).getString("entityId"));
+            assertEquals(12, events.get(0).getInt("signalCount"));
+            assertTrue(RecordingFile.readAllEvents(file).stream()
+                    .noneMatch(e -> FlightRecorderService.SENSITIVE_EVENTS.contains(e.getEventType().getName())),
+                    "environment, system properties and JVM arguments must not be recorded");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void rejectsUnknownSettings() {
+        assertThrows(IllegalArgumentException.class, () -> flightRecorder.start("nope", Duration.ofMinutes(5)));
+    }
+}
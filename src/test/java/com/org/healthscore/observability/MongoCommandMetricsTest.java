@@ -0,0 +1,123 @@
+package com.org.healthscore.observability;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoCommandMetricsTest {
+    
+    private static final ConnectionDescription CONNECTION = 
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress("localhost", 27017)));
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoObservabilityProperties properties = new MongoObservabilityProperties();
+    private SlowCommandLog slowCommandLog;
+    private MongoCommandMetrics metrics;
+    
+    @BeforeEach
+    void setUp() {
+        properties.setSlowCommandThreshold(Duration.ofMillis(50));
+        properties.setSlowCommandCapacity(2);
+        properties.setExplainSlowCommands(false);
+        slowCommandLog = new SlowCommandLog(properties);
+        metrics = new MongoCommandMetrics(meterRegistry, slowCommandLog, properties,
+                new StaticListableBeanFactory().getBeanProvider(MongoTemplate.class));
+    }
+    
+    @Test
+    void recordsLatencyPerCollectionAndCommand() {
+        run(1, "find", "{find: 'signals', filter: {entityType: 'project'}, $db: 'healthscore'}", 5);
+        run(2, "find", "{find: 'signals', filter: {entityType: 'team'}, $db: 'healthscore'}", 7);
+        
+        assertEquals(2, meterRegistry.get(MongoCommandMetrics.COMMAND_TIMER)
+                .tags("collection", "signals", "command", "find", "status", "success").timer().count());
+        assertTrue(slowCommandLog.recent().isEmpty());
+    }
+    
+    @Test
+    void capturesSlowCommandsWithTheirFilterShape() {
+        run(1, "find", """
+                {find: 'signals', filter: {entityType: 'project', entityId: 'p1', timestamp: {$gte: 5},
+                 metricKey: {$in: ['a', 'b', 'c']}}, sort: {timestamp: -1}, lsid: {id: 1}}""", 120);
+        run(2, "aggregate", """
+                {aggregate: 'scores', pipeline: [{$match: {entityType: 'project'}}, {$sort: {computedAt: -1}},
+                 {$group: {_id: '$entityId', latest: {$first: '$$ROOT'}}}]}""", 80);
+        run(3, "delete", "{delete: 'signals', deletes: [{q: {entityId: 'p1'}, limit: 0}]}", 300);
+        
+        List<SlowCommandLog.SlowCommand> recent = slowCommandLog.recent();
+        assertEquals(2, recent.size(), "capacity 2 keeps the most recent two");
+        assertEquals("delete", recent.get(0).getCommand());
+        assertEquals("{\"q\": {\"entityId\": \"?\"}}", recent.get(0).getFilterShape());
+        
+        SlowCommandLog.SlowCommand aggregate = recent.get(1);
+        assertEquals("scores", aggregate.getCollection());
+        assertEquals(80, aggregate.getDurationMillis());
+        assertEquals(BsonDocument.parse("""
+                {pipeline: [{$match: {entityType: '?'}}, {$sort: {computedAt: '?'}},
+                 {$group: {_id: '?', latest: {$first: '?'}}}]}""").toJson(), aggregate.getFilterShape());
+    }
+    
+    @Test
+    void tagsGetMoreWithItsCollection() {
+        run(1, "getMore", "{getMore: NumberLong(42), collection: 'signals', batchSize: 2000}", 5);
+        
+        assertEquals(1, meterRegistry.get(MongoCommandMetrics.COMMAND_TIMER)
+                .tags("collection", "signals", "command", "getMore").timer().count());
+    }
+    
+    @Test
+    void shapesSlowCommandsAfterTheDriverReleasedTheCommand() {
+        BsonDocument command = BsonDocument.parse("""
+                {update: 'scores', updates: [{q: {_id: 's1'}, u: {overallScore: 80}},
+                 {q: {_id: 's2'}, u: {overallScore: 70}}]}""");
+        metrics.commandStarted(new CommandStartedEvent(null, 1, 1, CONNECTION, "healthscore", "update", command));
+        command.clear();
+        metrics.commandSucceeded(new CommandSucceededEvent(null, 1, 1, CONNECTION, "healthscore", "update",
+                new BsonDocument(), Duration.ofMillis(90).toNanos()));
+        
+        assertEquals("{\"q\": {\"_id\": \"?\"}}", slowCommandLog.recent().get(0).getFilterShape());
+    }
+    
+    @Test
+    void filterShapeHidesValuesButKeepsOperatorsAndSort() {
+        String shape = MongoCommandMetrics.filterShape(BsonDocument.parse("""
+                {find: 'signals', filter: {entityId: 'p1', metricKey: {$in: ['a', 'b']}}, sort: {timestamp: -1}}"""),
+                "find");
+        
+        assertEquals(BsonDocument.parse(
+                "{filter: {entityId: '?', metricKey: {$in: ['?']}}, sort: {timestamp: -1}}").toJson(), shape);
+    }
+    
+    @Test
+    void summarizesWinningPlans() {
+        Document explained = Document.parse("""
+                {queryPlanner: {winningPlan: {stage: 'SORT', inputStage: {stage: 'FETCH',
+                 inputStage: {stage: 'IXSCAN', indexName: 'entityType_1_entityId_1'}}}}}""");
+        
+        assertEquals("SORT > FETCH > IXSCAN(entityType_1_entityId_1)", MongoCommandMetrics.planSummary(explained));
+        assertEquals("COLLSCAN", MongoCommandMetrics.planSummary(Document.parse(
+                "{stages: [{$cursor: {queryPlanner: {winningPlan: {queryPlan: {stage: 'COLLSCAN'}}}}}]}")));
+    }
+    
+    private void run(int requestId, String name, String command, long millis) {
+        metrics.commandStarted(new CommandStartedEvent(null, requestId, requestId, CONNECTION, "healthscore", name,
+                BsonDocument.parse(command)));
+        metrics.commandSucceeded(new CommandSucceededEvent(null, requestId, requestId, CONNECTION, "healthscore", name,
+                new BsonDocument(), Duration.ofMillis(millis).toNanos()));
+    }
+}
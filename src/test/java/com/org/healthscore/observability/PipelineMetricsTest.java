@@ -0,0 +1,151 @@
+package com.org.healthscore.observability;
+
+import com.org.healthscore.repository.ScoringConfig;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineMetricsTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryScoringConfigStore configStore = new InMemoryScoringConfigStore();
+    private final PipelineMetrics metrics = new PipelineMetrics(meterRegistry, configStore, Duration.ZERO);
+    
+    @BeforeEach
+    void setUp() {
+        configure("tool", "project");
+        configure("sonarqube", "project");
+    }
+    
+    @Test
+    void fetchAndParseSplitsPageProductionFromParsing() {
+        // Each page takes ~20ms to "fetch" and ~10ms to "parse"
+        List<Integer> parsed = metrics.fetchAndParse("tool",
+                () -> Stream.of(1, 2, 3).peek(page -> sleep(20)),
+                pages -> pages.peek(page -> sleep(10)).toList());
+        
+        assertEquals(List.of(1, 2, 3), parsed);
+        double fetchMs = stage("fetch").totalTime(TimeUnit.MILLISECONDS);
+        double parseMs = stage("parse").totalTime(TimeUnit.MILLISECONDS);
+        assertTrue(fetchMs >= 60 && fetchMs < 120, "fetch " + fetchMs);
+        assertTrue(parseMs >= 30 && parseMs < 60, "parse " + parseMs);
+    }
+    
+    @Test
+    void stagesAreRecordedWhenTheBodyFails() {
+        assertThrows(IllegalStateException.class, () -> metrics.timeEntity("score", "project", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        
+        assertEquals(1, meterRegistry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "score", "entityType", "project").timer().count());
+    }
+    
+    @Test
+    void countsProducedAndDroppedSignals() {
+        metrics.signals("sonarqube", 4, 1);
+        metrics.signals("sonarqube", 3, 0);
+        
+        assertEquals(7, meterRegistry.get(PipelineMetrics.SIGNALS_COUNTER)
+                .tags("sourceType", "sonarqube", "outcome", "produced").counter().count());
+        assertEquals(1, meterRegistry.get(PipelineMetrics.SIGNALS_COUNTER)
+                .tags("sourceType", "sonarqube", "outcome", "dropped").counter().count());
+    }
+    
+    @Test
+    void samplesDoNotWaitForAReloadInProgress() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryScoringConfigStore slowStore = new InMemoryScoringConfigStore() {
+            @Override
+            public ScoringConfig findAll() {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findAll();
+            }
+        };
+        PipelineMetrics slowMetrics = new PipelineMetrics(meterRegistry, slowStore, Duration.ZERO);
+        
+        CompletableFuture<Object> reloading = CompletableFuture.supplyAsync(
+                () -> slowMetrics.timeEntity("score", "first", () -> null));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        
+        // Another unknown type while the query runs is tagged with the current types, without waiting
+        long start = System.nanoTime();
+        slowMetrics.timeEntity("score", "second", () -> null);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "waited for the reload");
+        assertEquals(1, meterRegistry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "score", "entityType", PipelineMetrics.OTHER).timer().count());
+        
+        release.countDown();
+        reloading.get(5, TimeUnit.SECONDS);
+    }
+    
+    @Test
+    void unconfiguredTypesAreReportedAsOther() {
+        metrics.timeEntity("debt", "from-the-path-1", () -> null);
+        metrics.timeEntity("debt", "from-the-path-2", () -> null);
+        metrics.timeSource("adapt", "unknown-tool", () -> null);
+        metrics.signals(null, 1, 0);
+        
+        assertEquals(2, meterRegistry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "debt", "entityType", PipelineMetrics.OTHER).timer().count());
+        assertEquals(1, meterRegistry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "adapt", "sourceType", PipelineMetrics.OTHER).timer().count());
+        assertEquals(1, meterRegistry.get(PipelineMetrics.SIGNALS_COUNTER)
+                .tags("sourceType", PipelineMetrics.OTHER, "outcome", "produced").counter().count());
+        
+        // Types configured later are picked up on the next reload
+        configure("jira", "team");
+        metrics.timeEntity("debt", "team", () -> null);
+        metrics.timeSource("adapt", "jira", () -> null);
+        
+        assertEquals(1, meterRegistry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "debt", "entityType", "team").timer().count());
+        assertEquals(1, meterRegistry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "adapt", "sourceType", "jira").timer().count());
+    }
+    
+    private void configure(String sourceType, String entityType) {
+        AdapterSignalDefinitionDocument definition = new AdapterSignalDefinitionDocument();
+        definition.setSourceType(sourceType);
+        definition.setMetricKey(sourceType + "_value");
+        definition.setEnabled(true);
+        configStore.saveSignalDefinition(definition);
+        
+        DebtDimensionWeightDocument weight = new DebtDimensionWeightDocument();
+        weight.setEntityType(entityType);
+        weight.setDimension("code_quality");
+        weight.setWeight(1.0);
+        configStore.saveDimensionWeight(weight);
+    }
+    
+    private Timer stage(String stage) {
+        return meterRegistry.get(PipelineMetrics.STAGE_TIMER).tags("stage", stage, "sourceType", "tool").timer();
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.org.healthscore.observability;
+
+import com.org.healthscore.core.operators.OperatorRegistry;
+import com.org.healthscore.core.operators.ThresholdScoreOperator;
+import com.org.healthscore.core.scoring.SignalScoringService;
+import com.org.healthscore.domain.CanonicalForm;
+import com.org.healthscore.domain.Signal;
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringStatsTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryScoringConfigStore configStore = new InMemoryScoringConfigStore();
+    private ScoringStats stats;
+    private SignalScoringService scoringService;
+    
+    @BeforeEach
+    void setUp() {
+        stats = new ScoringStats(meterRegistry, 3);
+        OperatorRegistry operators = new OperatorRegistry(List.of(new ThresholdScoreOperator()));
+        operators.init();
+        scoringService = new SignalScoringService(operators, configStore, stats);
+        
+        configStore.saveScoringRule(rule("coverage", "THRESHOLD_SCORE", 
+                List.of(Map.of("min", 0, "max", 100, "score", 80))));
+        configStore.saveScoringRule(rule("broken", "THRESHOLD_SCORE", 
+                List.of(Map.of("min", "not-a-number", "max", 100, "score", 80))));
+        configStore.saveScoringRule(rule("legacy", "PERCENTILE_RANK", List.of()));
+    }
+    
+    @Test
+    void recordsEveryOutcomePerMetricAndOperator() {
+        scoringService.scoreSignals(List.of(
+                scalar("coverage"), scalar("coverage"), scalar("broken"), scalar("legacy"),
+                Signal.builder().metricKey("coverage").canonicalForm(CanonicalForm.BOOLEAN).booleanValue(true).build()));
+        
+        ScoringStats.Snapshot snapshot = stats.snapshot();
+        ScoringStats.Stats coverage = snapshot.metrics().get("coverage");
+        assertEquals(3, coverage.invocations());
+        assertEquals(Map.of("success", 2L, "form_mismatch", 1L), coverage.outcomes());
+        assertTrue(coverage.maxComputeMicros() > 0);
+        
+        assertEquals(Map.of("failure", 1L), snapshot.metrics().get("broken").outcomes());
+        assertEquals(Map.of("unknown_operator", 1L), snapshot.operators().get("PERCENTILE_RANK").outcomes());
+        assertEquals(4, snapshot.operators().get("THRESHOLD_SCORE").invocations());
+        
+        assertEquals(2, meterRegistry.get(ScoringStats.EVALUATIONS_COUNTER)
+                .tags("metricKey", "coverage", "outcome", "success").counter().count());
+        assertEquals(1, meterRegistry.get(ScoringStats.COMPUTE_TIMER).tags("metricKey", "broken").timer().count());
+    }
+    
+    @Test
+    void foldsMetricKeysBeyondTheLimit() {
+        for (String metricKey : List.of("a", "b", "c", "d", "e")) {
+            stats.record(metricKey, "THRESHOLD_SCORE", ScoringStats.Outcome.SUCCESS, 1_000);
+        }
+        stats.record("a", "THRESHOLD_SCORE", ScoringStats.Outcome.SUCCESS, 1_000);
+        
+        Map<String, ScoringStats.Stats> metrics = stats.snapshot().metrics();
+        assertEquals(List.of(ScoringStats.OTHER, "a", "b", "c"), List.copyOf(metrics.keySet()));
+        assertEquals(2, metrics.get(ScoringStats.OTHER).invocations());
+        assertEquals(2, metrics.get("a").invocations());
+    }
+    
+    private static Signal scalar(String metricKey) {
+        return Signal.builder().metricKey(metricKey).canonicalForm(CanonicalForm.SCALAR)
+                .scalarValue(BigDecimal.valueOf(50)).build();
+    }
+    
+    private static SignalScoringRuleDocument rule(String metricKey, String operator, List<Map<String, Object>> thresholds) {
+        SignalScoringRuleDocument rule = new SignalScoringRuleDocument();
+        rule.setMetricKey(metricKey);
+        rule.setRequiredCanonicalForm("SCALAR");
+        rule.setOperator(operator);
+        rule.setParameters(Map.of("thresholds", thresholds));
+        rule.setWeight(1.0);
+        rule.setDimension("quality");
+        rule.setEnabled(true);
+        return rule;
+    }
+}
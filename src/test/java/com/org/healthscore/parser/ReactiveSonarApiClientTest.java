@@ -0,0 +1,102 @@
+package com.org.healthscore.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.healthscore.parser.http.ToolHttpClientFactory;
+import com.org.healthscore.parser.http.ToolHttpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveSonarApiClientTest {
+
+    private final SonarQubeParser parser = new SonarQubeParser(new ObjectMapper());
+    private final ToolHttpClientFactory httpClientFactory =
+            new ToolHttpClientFactory(new ToolHttpProperties(), new SimpleMeterRegistry());
+    private SonarStubServer server;
+    private SonarApiClient blockingClient;
+    private ReactiveSonarApiClient client;
+
+    @AfterEach
+    void tearDown() {
+        blockingClient.shutdown();
+        server.close();
+    }
+
+    @Test
+    void shouldFetchAllPagesBelowResultWindow() throws Exception {
+        start(1_234);
+
+        Map<String, Object> parsed = parse(SonarFetchMode.ISSUES);
+
+        assertEquals(1_234, parsed.get("issues_total"));
+        assertEquals(1_234, ((List<?>) parsed.get("issues_severities")).size());
+        assertEquals(3, server.requestCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMatchBlockingClientBeyondResultWindow() throws Exception {
+        start(25_000, 1, 1, 8, 1, 1);
+
+        Map<String, Object> parsed = parse(SonarFetchMode.ISSUES);
+        Map<String, Object> expected;
+        try (Stream<Map<String, Object>> pages = blockingClient.fetch("my-project", SonarFetchMode.ISSUES)) {
+            expected = parser.parse(pages);
+        }
+
+        assertEquals(25_000, parsed.get("issues_total"));
+        // Pages complete out of order, so compare severities as counts
+        assertEquals(countBySeverity((List<String>) expected.get("issues_severities")),
+                countBySeverity((List<String>) parsed.get("issues_severities")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReadFacetsAndMeasures() throws Exception {
+        start(25_000, 1, 1, 8, 1, 1);
+
+        Map<String, Object> parsed = parse(SonarFetchMode.FACETS);
+
+        assertEquals(25_000, parsed.get("issues_total"));
+        assertEquals(16_666, ((Map<String, Object>) parsed.get("issues_severities")).get("MAJOR"));
+        assertEquals("81.5", ((Map<String, Object>) parsed.get("metrics")).get("coverage"));
+        assertEquals(2, server.requestCount());
+    }
+
+    @Test
+    void shouldLeaveIncrementalSyncToBlockingClient() throws Exception {
+        start(10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> client.fetch("my-project", SonarFetchMode.INCREMENTAL).blockLast());
+        assertEquals(0, server.requestCount());
+    }
+
+    private void start(int issues, int... severityWeights) throws Exception {
+        server = new SonarStubServer(issues, severityWeights);
+        blockingClient = new SonarApiClient(server.baseUrl(), "", 4, SonarApiClient.DEFAULT_MEASURE_KEYS, "issues",
+                httpClientFactory, false);
+        client = new ReactiveSonarApiClient(server.baseUrl(), "", 4, SonarApiClient.DEFAULT_MEASURE_KEYS,
+                httpClientFactory);
+    }
+
+    private Map<String, Object> parse(SonarFetchMode fetchMode) {
+        List<Map<String, Object>> pages = client.fetch("my-project", fetchMode)
+                .map(parser::parse)
+                .collectList()
+                .block();
+        return parser.merge(pages.stream());
+    }
+
+    private static Map<String, Long> countBySeverity(List<String> severities) {
+        return severities.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
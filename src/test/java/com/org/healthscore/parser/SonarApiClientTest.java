@@ -0,0 +1,138 @@
+package com.org.healthscore.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.healthscore.adapter.IncrementalSyncService;
+import com.org.healthscore.parser.http.ToolHttpClientFactory;
+import com.org.healthscore.parser.http.ToolHttpProperties;
+import com.org.healthscore.repository.memory.InMemoryToolSyncStateStore;
+import com.org.healthscore.repository.model.ToolSyncStateDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SonarApiClientTest {
+
+    private final SonarQubeParser parser = new SonarQubeParser(new ObjectMapper());
+    private SonarStubServer server;
+    private SonarApiClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Test
+    void shouldFetchAllPagesBelowResultWindow() throws Exception {
+        start(1_234);
+
+        Map<String, Object> parsed = parse();
+
+        assertEquals(1_234, parsed.get("issues_total"));
+        assertEquals(1_234, ((List<?>) parsed.get("issues_severities")).size());
+        assertEquals(3, server.requestCount());
+    }
+
+    @Test
+    void shouldSliceBySeverityAndDateBeyondResultWindow() throws Exception {
+        // 8 of every 12 issues are MAJOR (16,666 in total), which exceeds the 10,000 window
+        // on its own, so that severity must additionally be sliced by creation date
+        start(25_000, 1, 1, 8, 1, 1);
+
+        Map<String, Object> parsed = parse();
+
+        assertEquals(25_000, parsed.get("issues_total"));
+        @SuppressWarnings("unchecked")
+        List<String> severities = (List<String>) parsed.get("issues_severities");
+        assertEquals(16_666, severities.stream().filter("MAJOR"::equals).count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReadFacetCountsMatchingIssuePages() throws Exception {
+        start(25_000, 1, 1, 8, 1, 1);
+
+        Map<String, Object> fromIssues = parse();
+        int issueRequests = server.requestCount();
+        Map<String, Object> fromFacets = parse(SonarFetchMode.FACETS);
+
+        Map<String, Long> countedSeverities = ((List<String>) fromIssues.get("issues_severities")).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Map<String, Object> facetSeverities = (Map<String, Object>) fromFacets.get("issues_severities");
+        assertEquals(countedSeverities.keySet(), facetSeverities.keySet());
+        countedSeverities.forEach((severity, count) -> 
+                assertEquals(count.intValue(), facetSeverities.get(severity)));
+        assertEquals(25_000, fromFacets.get("issues_total"));
+        assertEquals(Set.of("BUG", "VULNERABILITY", "CODE_SMELL"), 
+                ((Map<String, Object>) fromFacets.get("issues_types")).keySet());
+        assertEquals("81.5", ((Map<String, Object>) fromFacets.get("metrics")).get("coverage"));
+        assertEquals(2, server.requestCount() - issueRequests);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyIssueChangesSinceWatermark() throws Exception {
+        start(2_000);
+        IncrementalSyncService sync = new IncrementalSyncService(new InMemoryToolSyncStateStore());
+
+        Map<String, Object> baseline = syncIncrementally(sync);
+        assertEquals(2_000, baseline.get("issues_total"));
+        assertEquals(400, ((Map<String, Object>) baseline.get("issues_severities")).get("MAJOR"));
+
+        int requests = server.requestCount();
+        assertEquals(baseline, syncIncrementally(sync));
+        assertEquals(1, server.requestCount() - requests, "unchanged analysis should skip the issue fetch");
+
+        server.changeSeverity(2, "BLOCKER");
+        server.resolve(7);
+        server.addIssue("INFO");
+        requests = server.requestCount();
+        Map<String, Object> delta = syncIncrementally(sync);
+
+        assertEquals(2, server.requestCount() - requests);
+        Map<String, Long> recounted = ((List<String>) parse().get("issues_severities")).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        recounted.merge("MAJOR", -1L, Long::sum); // parse() also returns the resolved (MAJOR) issue
+        Map<String, Object> counts = (Map<String, Object>) delta.get("issues_severities");
+        recounted.forEach((severity, count) -> assertEquals(count.intValue(), counts.get(severity)));
+        assertEquals(2_000, delta.get("issues_total"));
+    }
+
+    private Map<String, Object> syncIncrementally(IncrementalSyncService sync) {
+        var state = sync.findState("sonarqube", "my-project");
+        String analysisDate = client.fetchAnalysisDate("my-project");
+        if (state.isPresent() && analysisDate.equals(state.get().getLastAnalysisDate())) {
+            return sync.toParsedData(state.get());
+        }
+        try (Stream<Map<String, Object>> pages = client.streamIssueChanges("my-project",
+                state.map(ToolSyncStateDocument::getWatermark).orElse(null))) {
+            return sync.toParsedData(sync.apply("sonarqube", "my-project", state.orElse(null), 
+                    analysisDate, parser.parseIssueChanges(pages)));
+        }
+    }
+
+    private void start(int issues, int... severityWeights) throws Exception {
+        server = new SonarStubServer(issues, severityWeights);
+        client = new SonarApiClient(server.baseUrl(), "", 4, SonarApiClient.DEFAULT_MEASURE_KEYS, "issues",
+                new ToolHttpClientFactory(new ToolHttpProperties(), new SimpleMeterRegistry()), false);
+    }
+
+    private Map<String, Object> parse() {
+        return parse(SonarFetchMode.ISSUES);
+    }
+
+    private Map<String, Object> parse(SonarFetchMode fetchMode) {
+        try (Stream<Map<String, Object>> pages = client.fetch("my-project", fetchMode)) {
+            return parser.parse(pages);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.org.healthscore.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the SonarQube issues, measures and components APIs, serving a synthetic issue set.
+ * 
+ * Honors ps/p paging (including the 10,000 result window), severities, createdAfter/createdBefore,
+ * updatedAfter and resolved filters, and the severities and types facets. Issues can be
+ * re-categorized, resolved and added; each change counts as a new analysis.
+ * 
+ * Synthetic issues carry the fields of real ones (rule, component, message, text range, ...),
+ * about 600 bytes each on the wire. Responses can be delayed by a fixed latency plus jitter,
+ * and any endpoint can instead serve a recorded response file.
+ */
+public class SonarStubServer implements AutoCloseable {
+    
+    static final List<String> SEVERITIES = List.of("BLOCKER", "CRITICAL", "MAJOR", "MINOR", "INFO");
+    static final List<String> TYPES = List.of("BUG", "VULNERABILITY", "CODE_SMELL");
+    static final Map<String, String> MEASURES = Map.of("coverage", "81.5", "ncloc", "12000");
+    
+    private static final DateTimeFormatter SONAR_DATE_TIME = 
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ").withZone(ZoneOffset.UTC);
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final List<Map<String, Object>> issues = new ArrayList<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private Instant clock;
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+    
+    /**
+     * @param issueCount Number of synthetic issues; severities cycle, creation dates are one minute apart
+     * @param severityWeights Relative frequency per severity (same order as {@link #SEVERITIES})
+     */
+    public SonarStubServer(int issueCount, int... severityWeights) throws IOException {
+        int[] weights = severityWeights.length == SEVERITIES.size() ? severityWeights : new int[]{1, 1, 1, 1, 1};
+        List<String> cycle = new ArrayList<>();
+        for (int i = 0; i < weights.length; i++) {
+            for (int w = 0; w < weights[i]; w++) {
+                cycle.add(SEVERITIES.get(i));
+            }
+        }
+        
+        clock = Instant.parse("2020-01-01T00:00:00Z");
+        for (int i = 0; i < issueCount; i++) {
+            addIssue(cycle.get(i % cycle.size()));
+        }
+        
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // A thread per request, so simulated latency does not cap throughput
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/issues/search", this::handleSearch);
+        server.createContext("/api/measures/component", this::handleMeasures);
+        server.createContext("/api/components/show", this::handleComponent);
+        server.start();
+    }
+    
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    public int requestCount() {
+        return requestCount.get();
+    }
+    
+    /**
+     * Delay every response by {@code latency} plus a uniformly random {@code [0, jitter)}.
+     */
+    public SonarStubServer latency(Duration latency, Duration jitter) {
+        this.latencyMillis = latency.toMillis();
+        this.jitterMillis = jitter.toMillis();
+        return this;
+    }
+    
+    /**
+     * Serve a recorded response body (e.g. captured from a real SonarQube) for an endpoint,
+     * regardless of query parameters.
+     */
+    public SonarStubServer serveRecorded(String path, Path responseFile) throws IOException {
+        byte[] body = Files.readAllBytes(responseFile);
+        server.removeContext(path);
+        server.createContext(path, exchange -> {
+            requestCount.incrementAndGet();
+            delay();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        return this;
+    }
+    
+    public synchronized void addIssue(String severity) {
+        int index = issues.size();
+        Map<String, Object> issue = new LinkedHashMap<>();
+        issue.put("key", "issue-" + index);
+        issue.put("rule", "java:S" + (100 + index % 900));
+        issue.put("severity", severity);
+        issue.put("component", "my-project:src/main/java/com/example/Module" + (index % 250) + ".java");
+        issue.put("project", "my-project");
+        issue.put("line", 1 + index % 400);
+        issue.put("textRange", Map.of("startLine", 1 + index % 400, "endLine", 1 + index % 400,
+                "startOffset", 4, "endOffset", 32));
+        issue.put("status", "OPEN");
+        issue.put("message", "Refactor this method to reduce its Cognitive Complexity from "
+                + (16 + index % 30) + " to the 15 allowed.");
+        issue.put("effort", (5 + index % 55) + "min");
+        issue.put("debt", (5 + index % 55) + "min");
+        issue.put("author", "dev" + (index % 40) + "@example.com");
+        issue.put("tags", List.of("brain-overload"));
+        issue.put("type", TYPES.get(index % TYPES.size()));
+        issue.put("creationDate", SONAR_DATE_TIME.format(clock));
+        issue.put("createdAt", clock);
+        touch(issue);
+        issues.add(issue);
+    }
+    
+    public synchronized void changeSeverity(int index, String severity) {
+        issues.get(index).put("severity", severity);
+        touch(issues.get(index));
+    }
+    
+    public synchronized void resolve(int index) {
+        issues.get(index).put("resolution", "FIXED");
+        issues.get(index).put("status", "CLOSED");
+        touch(issues.get(index));
+    }
+    
+    /**
+     * Every change happens one minute after the previous one, and is the latest analysis.
+     */
+    private void touch(Map<String, Object> issue) {
+        issue.put("updateDate", SONAR_DATE_TIME.format(clock));
+        issue.put("updatedAt", clock);
+        clock = clock.plusSeconds(60);
+    }
+    
+    private void handleComponent(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        delay();
+        Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+        String analysisDate;
+        synchronized (this) {
+            analysisDate = SONAR_DATE_TIME.format(clock);
+        }
+        respond(exchange, 200, Map.of("component", Map.of("key", params.get("component"), "analysisDate", analysisDate)));
+    }
+    
+    private void delay() {
+        long millis = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis) : 0);
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        delay();
+        Map<String, Object> body = search(exchange);
+        if (body == null) {
+            respond(exchange, 400, Map.of("errors", List.of(Map.of("msg", "Can return only the first 10000 results"))));
+        } else {
+            respond(exchange, 200, body);
+        }
+    }
+    
+    private synchronized Map<String, Object> search(HttpExchange exchange) {
+        requestCount.incrementAndGet();
+        Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+        int pageSize = Integer.parseInt(params.getOrDefault("ps", "100"));
+        int page = Integer.parseInt(params.getOrDefault("p", "1"));
+        
+        if (pageSize * page > 10_000) {
+            return null;
+        }
+        
+        Instant after = params.containsKey("createdAfter") 
+                ? Instant.from(SONAR_DATE_TIME.parse(params.get("createdAfter"))) : null;
+        Instant before = params.containsKey("createdBefore") 
+                ? Instant.from(SONAR_DATE_TIME.parse(params.get("createdBefore"))) : null;
+        Instant updatedAfter = params.containsKey("updatedAfter") 
+                ? Instant.from(SONAR_DATE_TIME.parse(params.get("updatedAfter"))) : null;
+        String severity = params.get("severities");
+        String resolved = params.get("resolved");
+        
+        List<Map<String, Object>> matches = new ArrayList<>();
+        Map<String, Integer> severityCounts = new LinkedHashMap<>();
+        Map<String, Integer> typeCounts = new LinkedHashMap<>();
+        for (Map<String, Object> issue : issues) {
+            Instant createdAt = (Instant) issue.get("createdAt");
+            if ((after != null && createdAt.isBefore(after)) || (before != null && !createdAt.isBefore(before))
+                    || (severity != null && !severity.equals(issue.get("severity")))
+                    || (updatedAfter != null && ((Instant) issue.get("updatedAt")).isBefore(updatedAfter))
+                    || (resolved != null && Boolean.parseBoolean(resolved) != issue.containsKey("resolution"))) {
+                continue;
+            }
+            matches.add(issue);
+            severityCounts.merge((String) issue.get("severity"), 1, Integer::sum);
+            typeCounts.merge((String) issue.get("type"), 1, Integer::sum);
+        }
+        
+        int from = Math.min((page - 1) * pageSize, matches.size());
+        int to = Math.min(from + pageSize, matches.size());
+        List<Map<String, Object>> pageIssues = new ArrayList<>();
+        for (Map<String, Object> issue : matches.subList(from, to)) {
+            Map<String, Object> wire = new HashMap<>(issue);
+            wire.remove("createdAt");
+            wire.remove("updatedAt");
+            pageIssues.add(wire);
+        }
+        
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paging", Map.of("pageIndex", page, "pageSize", pageSize, "total", matches.size()));
+        body.put("issues", pageIssues);
+        // Like SonarQube, answer an empty facet list when none were requested
+        List<Map<String, Object>> facets = new ArrayList<>();
+        if (params.containsKey("facets")) {
+            for (String property : params.get("facets").split(",")) {
+                Map<String, Integer> counts = "types".equals(property) ? typeCounts : severityCounts;
+                List<Map<String, Object>> values = new ArrayList<>();
+                counts.forEach((val, count) -> values.add(Map.of("val", val, "count", count)));
+                facets.add(Map.of("property", property, "values", values));
+            }
+        }
+        body.put("facets", facets);
+        return body;
+    }
+    
+    private void handleMeasures(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        delay();
+        Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+        List<Map<String, Object>> measures = new ArrayList<>();
+        for (String metric : params.getOrDefault("metricKeys", "").split(",")) {
+            if (MEASURES.containsKey(metric)) {
+                measures.add(Map.of("metric", metric, "value", MEASURES.get(metric)));
+            }
+        }
+        respond(exchange, 200, Map.of("component", Map.of("key", params.get("component"), "measures", measures)));
+    }
+    
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    private Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.org.healthscore.parser.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientToolInterceptorTest {
+    
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/api/data"));
+    
+    @Test
+    void shouldEndHalfOpenTrialThatThrowsUnexpectedly() throws Exception {
+        ToolHttpProperties.Settings settings = new ToolHttpProperties.Settings();
+        settings.setMaxAttempts(1);
+        settings.setSlidingWindowSize(1);
+        settings.setMinimumCalls(1);
+        settings.setOpenDuration(Duration.ZERO);
+        ResilientToolInterceptor interceptor = new ResilientToolInterceptor("stub", settings, new SimpleMeterRegistry());
+        
+        AtomicBoolean broken = new AtomicBoolean(true);
+        ClientHttpRequestExecution execution = (req, body) -> {
+            if (broken.get()) {
+                throw new IllegalStateException("codec failure");
+            }
+            return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        };
+        
+        // Opens the circuit, then the half-open trial fails the same way
+        assertThrows(IllegalStateException.class, () -> interceptor.intercept(request, new byte[0], execution));
+        assertEquals(CircuitBreaker.State.OPEN, interceptor.circuitState());
+        assertThrows(IllegalStateException.class, () -> interceptor.intercept(request, new byte[0], execution));
+        assertEquals(CircuitBreaker.State.OPEN, interceptor.circuitState());
+        
+        broken.set(false);
+        interceptor.intercept(request, new byte[0], execution).close();
+        assertEquals(CircuitBreaker.State.CLOSED, interceptor.circuitState());
+    }
+}
@@ -0,0 +1,121 @@
+package com.org.healthscore.parser.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolHttpClientFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private HttpServer server;
+    private ToolHttpClientFactory factory;
+    private RestClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/data", exchange -> {
+            requests.incrementAndGet();
+            int status = failuresBeforeSuccess.getAndDecrement() > 0 ? 503 : 200;
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        ToolHttpProperties.Settings settings = new ToolHttpProperties.Settings();
+        settings.setInitialBackoff(Duration.ofMillis(1));
+        settings.setMaxBackoff(Duration.ofMillis(5));
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setOpenDuration(Duration.ofHours(1));
+        ToolHttpProperties properties = new ToolHttpProperties();
+        properties.getTools().put("stub", settings);
+        factory = new ToolHttpClientFactory(properties, meterRegistry);
+        client = factory.builder("stub", baseUrl()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Test
+    void shouldRetryIdempotentRequestsOnServerErrors() {
+        failuresBeforeSuccess.set(2);
+
+        assertEquals("{}", client.get().uri("/api/data").retrieve().body(String.class));
+        assertEquals(3, requests.get());
+        assertEquals(2, meterRegistry.get("healthscore.tool.http.retries").counter().count());
+        assertEquals(1, meterRegistry.get("healthscore.tool.http.requests").tag("status", "200").timer().count());
+    }
+
+    @Test
+    void shouldNotRetryNonIdempotentRequests() {
+        failuresBeforeSuccess.set(1);
+
+        assertThrows(HttpServerErrorException.class, 
+                () -> client.post().uri("/api/data").retrieve().toBodilessEntity());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void shouldOpenCircuitAfterRepeatedFailures() {
+        failuresBeforeSuccess.set(Integer.MAX_VALUE);
+
+        // Three failed attempts, then the next call's first attempt fills the four-call window
+        // and opens the circuit, so its retry is rejected locally
+        assertThrows(HttpServerErrorException.class, () -> client.get().uri("/api/data").retrieve().toBodilessEntity());
+        assertThrows(ResourceAccessException.class, () -> client.get().uri("/api/data").retrieve().toBodilessEntity());
+        assertEquals(4, requests.get());
+
+        ResourceAccessException rejected = assertThrows(ResourceAccessException.class, 
+                () -> client.get().uri("/api/data").retrieve().toBodilessEntity());
+        assertInstanceOf(ToolCallRejectedException.class, rejected.getCause());
+        assertEquals(4, requests.get());
+        assertEquals(2, meterRegistry.get("healthscore.tool.http.rejected").counter().count());
+    }
+
+    @Test
+    void shouldApplySamePolicyToWebClient() {
+        WebClient webClient = factory.webClientBuilder("stub", baseUrl()).build();
+        failuresBeforeSuccess.set(2);
+
+        assertEquals("{}", webClient.get().uri("/api/data").retrieve().bodyToMono(String.class).block());
+        assertEquals(3, requests.get());
+        assertEquals(2, meterRegistry.get("healthscore.tool.http.retries").counter().count());
+
+        // The circuit is shared with the blocking client: the failure that opens it comes
+        // from one client, and the other is then rejected without a request
+        failuresBeforeSuccess.set(Integer.MAX_VALUE);
+        assertThrows(ResourceAccessException.class, () -> client.get().uri("/api/data").retrieve().toBodilessEntity());
+        assertEquals(4, requests.get());
+        RuntimeException rejected = assertThrows(RuntimeException.class,
+                () -> webClient.get().uri("/api/data").retrieve().toBodilessEntity().block());
+        assertInstanceOf(ToolCallRejectedException.class, Exceptions.unwrap(rejected));
+        assertEquals(4, requests.get());
+    }
+}
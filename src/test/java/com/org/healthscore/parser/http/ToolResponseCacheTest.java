@@ -0,0 +1,282 @@
+package com.org.healthscore.parser.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private HttpServer server;
+    @TempDir
+    Path spillDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/api/data", exchange -> {
+            requests.incrementAndGet();
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            sleep(200);
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            respond(exchange, ("{\"query\":\"" + exchange.getRequestURI().getQuery() + "\"}").getBytes());
+        });
+        server.createContext("/api/private", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            respond(exchange, "{}".getBytes());
+        });
+        server.createContext("/api/large", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, largeBody());
+        });
+        server.createContext("/api/large-private", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            respond(exchange, largeBody());
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldServeRepeatedRequestsFromCacheRegardlessOfParameterOrder() {
+        RestClient client = client(Duration.ofMinutes(5));
+
+        String first = client.get().uri("/api/data?component=a&ps=1").retrieve().body(String.class);
+        String second = client.get().uri("/api/data?ps=1&component=a").retrieve().body(String.class);
+        client.get().uri("/api/data?component=b&ps=1").retrieve().body(String.class);
+
+        assertEquals(first, second);
+        assertEquals(2, requests.get());
+        assertEquals(1, meterRegistry.get("healthscore.tool.http.cache").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void shouldShareOneFetchAcrossConcurrentIdenticalRequests() throws Exception {
+        RestClient client = client(Duration.ofMinutes(5));
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> client.get().uri("/api/data?component=a").retrieve().body(String.class)));
+            }
+            for (Future<String> result : results) {
+                assertEquals("{\"query\":\"component=a\"}", result.get());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void shouldRevalidateStaleEntriesWithETag() {
+        RestClient client = client(Duration.ZERO);
+
+        String first = client.get().uri("/api/data?component=a").retrieve().body(String.class);
+        String second = client.get().uri("/api/data?component=a").retrieve().body(String.class);
+
+        assertEquals(first, second);
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+    }
+
+    @Test
+    void shouldNotCacheNoStoreResponses() {
+        RestClient client = client(Duration.ofMinutes(5));
+
+        client.get().uri("/api/private").retrieve().body(String.class);
+        client.get().uri("/api/private").retrieve().body(String.class);
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void shouldBypassCacheForNoCacheRequests() {
+        RestClient client = client(Duration.ofMinutes(5));
+
+        client.get().uri("/api/data?component=a").retrieve().body(String.class);
+        client.get().uri("/api/data?component=a").header("Cache-Control", "no-cache").retrieve().body(String.class);
+        client.get().uri("/api/data?component=a").retrieve().body(String.class);
+
+        assertEquals(2, requests.get());
+        assertEquals(0, notModified.get());
+    }
+
+    @Test
+    void shouldSpillLargeBodiesToDisk() {
+        RestClient client = client(Duration.ofMinutes(5));
+
+        byte[] first = client.get().uri("/api/large").retrieve().body(byte[].class);
+        byte[] second = client.get().uri("/api/large").retrieve().body(byte[].class);
+
+        assertArrayEquals(largeBody(), first);
+        assertArrayEquals(largeBody(), second);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void shouldDeleteSpilledBodiesThatAreNotCached() throws Exception {
+        RestClient client = client(Duration.ofMinutes(5));
+
+        byte[] first = client.get().uri("/api/large-private").retrieve().body(byte[].class);
+        byte[] second = client.get().uri("/api/large-private").retrieve().body(byte[].class);
+
+        assertArrayEquals(largeBody(), first);
+        assertArrayEquals(largeBody(), second);
+        assertEquals(2, requests.get());
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void shouldKeepSeparateEntriesPerCredential() {
+        RestClient client = client(Duration.ofMinutes(5));
+
+        client.get().uri("/api/data?component=a").header("Authorization", "Bearer one").retrieve().body(String.class);
+        client.get().uri("/api/data?component=a").header("Authorization", "Bearer two").retrieve().body(String.class);
+        client.get().uri("/api/data?component=a").header("Authorization", "Bearer one").retrieve().body(String.class);
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void shouldEvictEntriesOverTheHeapBudget() {
+        ToolHttpProperties.Cache settings = cacheSettings(Duration.ofMinutes(5));
+        settings.setMaxHeapBytes(60);
+        ToolResponseCache cache = new ToolResponseCache("stub", settings, meterRegistry);
+        RestClient client = RestClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .requestInterceptor(cache)
+                .build();
+
+        client.get().uri("/api/data?component=a").retrieve().body(String.class);
+        client.get().uri("/api/data?component=b").retrieve().body(String.class);
+        client.get().uri("/api/data?component=c").retrieve().body(String.class);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.heapBytes() <= 60);
+        assertEquals(cache.heapBytes(), meterRegistry.get("healthscore.tool.http.cache.heap.bytes").gauge().value());
+
+        client.get().uri("/api/data?component=a").retrieve().body(String.class);
+
+        assertEquals(4, requests.get());
+        cache.close();
+    }
+
+    @Test
+    void shouldDeleteTheSpillDirectoryOnClose() throws Exception {
+        ToolHttpProperties.Cache settings = cacheSettings(Duration.ofMinutes(5));
+        settings.setSpillDirectory(null);
+        ToolResponseCache cache = new ToolResponseCache("stub", settings, meterRegistry);
+        RestClient client = RestClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .requestInterceptor(cache)
+                .build();
+
+        client.get().uri("/api/large").retrieve().body(byte[].class);
+        try (var files = Files.list(cache.spillDirectory())) {
+            assertEquals(1, files.count());
+        }
+
+        cache.close();
+
+        assertFalse(Files.exists(cache.spillDirectory()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldDeleteSpilledBodiesFromAConfiguredDirectoryOnShutdown() throws Exception {
+        ToolHttpClientFactory factory = factory(Duration.ofMinutes(5));
+        RestClient client = factory.builder("stub", "http://127.0.0.1:" + server.getAddress().getPort()).build();
+
+        client.get().uri("/api/large").retrieve().body(byte[].class);
+        factory.shutdown();
+
+        // The directory may be shared, so only the cache's own files go
+        assertTrue(Files.isDirectory(spillDirectory));
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private RestClient client(Duration ttl) {
+        return factory(ttl)
+                .builder("stub", "http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+    }
+
+    private ToolHttpClientFactory factory(Duration ttl) {
+        ToolHttpProperties.Settings settings = new ToolHttpProperties.Settings();
+        settings.setCache(cacheSettings(ttl));
+        ToolHttpProperties properties = new ToolHttpProperties();
+        properties.getTools().put("stub", settings);
+        return new ToolHttpClientFactory(properties, meterRegistry);
+    }
+
+    private ToolHttpProperties.Cache cacheSettings(Duration ttl) {
+        ToolHttpProperties.Cache cache = new ToolHttpProperties.Cache();
+        cache.setEnabled(true);
+        cache.setTtl(ttl);
+        cache.setSpillThresholdBytes(64 * 1024);
+        cache.setSpillDirectory(spillDirectory.toString());
+        return cache;
+    }
+
+    private static byte[] largeBody() {
+        byte[] body = new byte[300 * 1024];
+        Arrays.fill(body, (byte) 'x');
+        return body;
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.memory.InMemoryScoringConfigStore;
+import com.org.healthscore.repository.model.AdapterSignalDefinitionDocument;
+import com.org.healthscore.repository.model.DebtDimensionWeightDocument;
+import com.org.healthscore.repository.model.SignalScoringRuleDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingScoringConfigStoreTest {
+
+    private final InMemoryScoringConfigStore delegate = new InMemoryScoringConfigStore();
+    private final CachingScoringConfigStore store = new CachingScoringConfigStore(delegate, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void shouldReadThroughUntilLoaded() {
+        delegate.saveScoringRule(rule("coverage"));
+
+        assertNull(store.loadedAt());
+        assertNotNull(store.findScoringRule("coverage"));
+    }
+
+    @Test
+    void shouldServeLoadedConfigurationUntilRefreshed() {
+        delegate.saveScoringRule(rule("coverage"));
+        delegate.saveSignalDefinition(definition("coverage", true));
+        delegate.saveSignalDefinition(definition("duplication", false));
+        delegate.saveDimensionWeight(weight("reliability", 2));
+        delegate.saveDimensionWeight(weight("code_quality", 1));
+        store.refresh();
+
+        delegate.saveScoringRule(rule("complexity"));
+
+        assertNotNull(store.loadedAt());
+        assertNotNull(store.findScoringRule("coverage"));
+        assertNull(store.findScoringRule("complexity"));
+        assertNull(store.findScoringRule(null));
+        assertEquals(List.of("coverage"), store.findSignalDefinitions("sonarqube").stream()
+                .map(AdapterSignalDefinitionDocument::getMetricKey).toList());
+        assertEquals(List.of("code_quality", "reliability"), store.findDimensionWeights("project").stream()
+                .map(DebtDimensionWeightDocument::getDimension).toList());
+        assertTrue(store.findDimensionWeights("team").isEmpty());
+
+        store.refresh();
+        assertNotNull(store.findScoringRule("complexity"));
+    }
+
+    private static SignalScoringRuleDocument rule(String metricKey) {
+        SignalScoringRuleDocument rule = new SignalScoringRuleDocument();
+        rule.setMetricKey(metricKey);
+        rule.setEnabled(true);
+        return rule;
+    }
+
+    private static AdapterSignalDefinitionDocument definition(String metricKey, boolean enabled) {
+        AdapterSignalDefinitionDocument definition = new AdapterSignalDefinitionDocument();
+        definition.setSourceType("sonarqube");
+        definition.setMetricKey(metricKey);
+        definition.setEnabled(enabled);
+        return definition;
+    }
+
+    private static DebtDimensionWeightDocument weight(String dimension, int displayOrder) {
+        DebtDimensionWeightDocument weight = new DebtDimensionWeightDocument();
+        weight.setEntityType("project");
+        weight.setDimension(dimension);
+        weight.setDisplayOrder(displayOrder);
+        return weight;
+    }
+}
@@ -0,0 +1,113 @@
+package com.org.healthscore.repository;
+
+import com.org.healthscore.repository.memory.InMemoryScoreStore;
+import com.org.healthscore.repository.model.ScoreDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindScoreStoreTest {
+
+    private final InMemoryScoreStore delegate = new InMemoryScoreStore();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WriteBehindScoreStore store = 
+            new WriteBehindScoreStore(delegate, 4, 2, Duration.ofHours(1), 3, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void shouldServePendingScoreBeforeItIsPersisted() {
+        store.save(score("s1", Instant.parse("2024-01-01T00:00:00Z")));
+
+        assertEquals("s1", store.findLatestVersion("project", "p1").orElseThrow().getId());
+        assertTrue(store.findById("s1").isPresent());
+        assertTrue(delegate.findById("s1").isEmpty());
+    }
+
+    @Test
+    void shouldPersistOnFlush() {
+        store.save(score("s1", Instant.parse("2024-01-01T00:00:00Z")));
+        store.flush();
+
+        assertTrue(delegate.findById("s1").isPresent());
+        assertEquals(1.0, meterRegistry.counter("healthscore.scores.write_behind.flushed").count());
+    }
+
+    @Test
+    void shouldApplyBackpressureWhenBufferIsFull() {
+        for (int i = 0; i < 10; i++) {
+            store.save(score("s" + i, Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i)));
+        }
+
+        // Capacity is 4, so at least 6 scores were flushed inline by the saving thread
+        assertTrue(delegate.findById("s0").isPresent());
+        assertEquals("s9", store.findLatestVersion("project", "p1").orElseThrow().getId());
+    }
+
+    @Test
+    void shouldFlushPendingScoresOnClose() {
+        store.save(score("s1", Instant.parse("2024-01-01T00:00:00Z")));
+        store.close();
+
+        assertTrue(delegate.findById("s1").isPresent());
+    }
+
+    @Test
+    void shouldKeepFailedBatchAndSurfaceTheError() {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        InMemoryScoreStore flaky = new InMemoryScoreStore() {
+            @Override
+            public void saveAll(List<ScoreDocument> scores) {
+                if (failing.get()) {
+                    throw new IllegalStateException("unavailable");
+                }
+                super.saveAll(scores);
+            }
+        };
+        SimpleMeterRegistry failingRegistry = new SimpleMeterRegistry();
+        // Batch size above capacity: only the saving thread flushes
+        try (WriteBehindScoreStore failingStore =
+                     new WriteBehindScoreStore(flaky, 2, 3, Duration.ofHours(1), 1, failingRegistry)) {
+            failingStore.save(score("s1", Instant.parse("2024-01-01T00:00:00Z")));
+            failingStore.save(score("s2", Instant.parse("2024-01-01T00:00:01Z")));
+
+            // The buffer is full and the write fails: the caller gets the error instead of blocking
+            assertThrows(IllegalStateException.class,
+                    () -> failingStore.save(score("s3", Instant.parse("2024-01-01T00:00:02Z"))));
+            assertTrue(failingStore.findById("s3").isEmpty());
+            assertTrue(failingStore.findById("s1").isPresent());
+            // The entity's latest is the newest score still pending, not the persisted one
+            assertEquals("s2", failingStore.findLatestVersion("project", "p1").orElseThrow().getId());
+            // The kept batch still counts towards the lag
+            assertTrue(failingRegistry.get("healthscore.scores.write_behind.lag").gauge().value() > 0);
+
+            failing.set(false);
+            failingStore.flush();
+            assertTrue(flaky.findById("s1").isPresent());
+            assertTrue(flaky.findById("s2").isPresent());
+            assertEquals(1.0, failingRegistry.counter("healthscore.scores.write_behind.failures").count());
+            assertEquals(0.0, failingRegistry.get("healthscore.scores.write_behind.lag").gauge().value());
+        }
+    }
+
+    private ScoreDocument score(String id, Instant computedAt) {
+        ScoreDocument doc = new ScoreDocument();
+        doc.setId(id);
+        doc.setEntityType("project");
+        doc.setEntityId("p1");
+        doc.setOverallScore(BigDecimal.TEN);
+        doc.setComputedAt(computedAt);
+        return doc;
+    }
+}
@@ -0,0 +1,88 @@
+package com.org.healthscore.repository.memory;
+
+import com.org.healthscore.repository.SignalCursor;
+import com.org.healthscore.repository.SignalQuery;
+import com.org.healthscore.repository.model.SignalDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySignalStoreTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final InMemorySignalStore store = new InMemorySignalStore();
+
+    @BeforeEach
+    void setUp() {
+        store.saveAll(List.of(
+                signal("a", "coverage", T0),
+                signal("b", "bugs", T0),
+                signal("c", "coverage", T0.plusSeconds(10)),
+                signal("d", "bugs", T0.plusSeconds(20))
+        ));
+    }
+
+    @Test
+    void shouldPageByTimestampThenId() {
+        List<SignalDocument> first = store.findPage(query(null, null, null, null, 2));
+        assertEquals(List.of("a", "b"), ids(first));
+
+        SignalCursor cursor = new SignalCursor(first.get(1).getTimestamp(), first.get(1).getId());
+        List<SignalDocument> second = store.findPage(query(null, null, null, cursor, 2));
+        assertEquals(List.of("c", "d"), ids(second));
+    }
+
+    @Test
+    void shouldFilterByMetricAndTimeRange() {
+        assertEquals(List.of("a", "c"), ids(store.findPage(query("coverage", null, null, null, 10))));
+        assertEquals(List.of("c"), ids(store.findPage(query(null, T0.plusSeconds(1), T0.plusSeconds(20), null, 10))));
+    }
+
+    @Test
+    void shouldApplyCursorBeyondTimeRangeStart() {
+        SignalCursor cursor = new SignalCursor(T0.plusSeconds(10), "c");
+        assertEquals(List.of("d"), ids(store.findPage(query(null, T0, null, cursor, 10))));
+        assertEquals(List.of(), ids(store.findPage(query(null, null, T0.plusSeconds(5), cursor, 10))));
+    }
+
+    @Test
+    void shouldReportLatestVersionAndCount() {
+        assertEquals(4, store.countByEntity("project", "p1"));
+        assertEquals("d", store.findLatestVersion("project", "p1").orElseThrow().getId());
+        assertTrue(store.findLatestVersion("project", "other").isEmpty());
+    }
+
+    @Test
+    void shouldProjectRequestedFields() {
+        SignalQuery query = new SignalQuery("project", "p1", null, null, null, null, null, 1, List.of("metricKey"));
+        SignalDocument doc = store.findPage(query).get(0);
+
+        assertEquals("coverage", doc.getMetricKey());
+        assertNotNull(doc.getTimestamp());
+        assertNull(doc.getSourceType());
+    }
+
+    private SignalQuery query(String metricKey, Instant from, Instant to, SignalCursor after, int limit) {
+        return new SignalQuery("project", "p1", metricKey, null, from, to, after, limit, null);
+    }
+
+    private List<String> ids(List<SignalDocument> docs) {
+        return docs.stream().map(SignalDocument::getId).toList();
+    }
+
+    private SignalDocument signal(String id, String metricKey, Instant timestamp) {
+        SignalDocument doc = new SignalDocument();
+        doc.setId(id);
+        doc.setEntityType("project");
+        doc.setEntityId("p1");
+        doc.setSourceType("sonarqube");
+        doc.setMetricKey(metricKey);
+        doc.setTimestamp(timestamp);
+        return doc;
+    }
+}